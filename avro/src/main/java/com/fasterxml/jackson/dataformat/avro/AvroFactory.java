@@ -2,14 +2,19 @@ package com.fasterxml.jackson.dataformat.avro;
 
 import java.io.*;
 import java.net.URL;
+import java.nio.ByteBuffer;
+
+import org.apache.avro.file.CodecFactory;
 
 import com.fasterxml.jackson.core.*;
 import com.fasterxml.jackson.core.format.InputAccessor;
 import com.fasterxml.jackson.core.format.MatchStrength;
 import com.fasterxml.jackson.core.io.IOContext;
 import com.fasterxml.jackson.core.util.RecyclerPool;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
 import com.fasterxml.jackson.dataformat.avro.apacheimpl.ApacheCodecRecycler;
 import com.fasterxml.jackson.dataformat.avro.apacheimpl.AvroRecyclerPools;
+import com.fasterxml.jackson.dataformat.avro.deser.ByteBufferAvroParserImpl;
 import com.fasterxml.jackson.dataformat.avro.deser.JacksonAvroParserImpl;
 
 /**
@@ -60,6 +65,23 @@ public class AvroFactory extends JsonFactory
      */
     protected boolean _useApacheLibDecoder;
 
+    /**
+     * Compression codec to use for Avro container file output, if any.
+     * Not serializable (Avro codec factories are not), so will not be retained
+     * over JDK serialization.
+     *
+     * @since 2.19
+     */
+    protected transient CodecFactory _fileOutputCodec;
+
+    /**
+     * Approximate size of uncompressed blocks for Avro container file output;
+     * 0 to use Avro library default.
+     *
+     * @since 2.19
+     */
+    protected int _fileOutputSyncInterval;
+
     /*
     /**********************************************************
     /* Factory construction, configuration
@@ -107,6 +129,8 @@ public class AvroFactory extends JsonFactory
         _avroParserFeatures = src._avroParserFeatures;
         _avroGeneratorFeatures = src._avroGeneratorFeatures;
         _useApacheLibDecoder = src._useApacheLibDecoder;
+        _fileOutputCodec = src._fileOutputCodec;
+        _fileOutputSyncInterval = src._fileOutputSyncInterval;
     }
 
     /**
@@ -120,6 +144,8 @@ public class AvroFactory extends JsonFactory
         _avroParserFeatures = b.formatParserFeaturesMask();
         _avroGeneratorFeatures = b.formatGeneratorFeaturesMask();
         _useApacheLibDecoder = b.useApacheLibDecoder();
+        _fileOutputCodec = b.fileOutputCodec();
+        _fileOutputSyncInterval = b.fileOutputSyncInterval();
     }
 
     @Override
@@ -379,6 +405,38 @@ public class AvroFactory extends JsonFactory
         return _createParser(data, offset, len, ctxt);
     }
 
+    /**
+     * Method for constructing a parser for reading Avro content from given
+     * {@link ByteBuffer}: content between current position and limit of the buffer
+     * is read. Position of the buffer is not changed.
+     *<p>
+     * For buffers with accessible backing array content is read directly from that
+     * array, without copying. Other buffers (direct, memory-mapped or read-only)
+     * are decoded in place as well, using absolute reads; values of {@code bytes}
+     * and {@code fixed} types may be accessed as slices of the buffer with
+     * {@link AvroParser#getBinaryValueAsByteBuffer()}.
+     *
+     * @since 2.19
+     */
+    @SuppressWarnings("resource")
+    public AvroParser createParser(ByteBuffer data) throws IOException {
+        if (data.hasArray()) {
+            return createParser(data.array(), data.arrayOffset() + data.position(),
+                    data.remaining());
+        }
+        // use a view so position of caller's buffer is not modified
+        data = data.duplicate();
+        IOContext ctxt = _createContext(_createContentReference(data), true);
+        if (_inputDecorator != null) {
+            InputStream in = _inputDecorator.decorate(ctxt,
+                    new ByteBufferBackedInputStream(data));
+            if (in != null) {
+                return _createParser(in, ctxt);
+            }
+        }
+        return _createParser(data, ctxt);
+    }
+
     /*
     /**********************************************************
     /* Overridden generator factory methods
@@ -445,6 +503,18 @@ public class AvroFactory extends JsonFactory
                 _objectCodec, data, offset, len);
     }
 
+    /**
+     * Overridable factory method that actually instantiates desired
+     * parser for reading from a {@link ByteBuffer} that has no accessible
+     * backing array.
+     *
+     * @since 2.19
+     */
+    protected AvroParser _createParser(ByteBuffer data, IOContext ctxt) throws IOException {
+        return new ByteBufferAvroParserImpl(ctxt, _parserFeatures, _avroParserFeatures,
+                _objectCodec, data);
+    }
+
     /**
      * Overridable factory method that actually instantiates desired
      * generator.
@@ -473,6 +543,9 @@ public class AvroFactory extends JsonFactory
         AvroGenerator gen = new AvroGenerator(ctxt, _generatorFeatures, feats,
                 _avroRecyclerPool.acquireAndLinkPooled(),
                 _objectCodec, out);
+        if ((_fileOutputCodec != null) || (_fileOutputSyncInterval > 0)) {
+            gen.setFileOutputOptions(_fileOutputCodec, _fileOutputSyncInterval);
+        }
         return gen;
     }
 
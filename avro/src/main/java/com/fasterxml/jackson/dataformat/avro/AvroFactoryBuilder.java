@@ -1,5 +1,7 @@
 package com.fasterxml.jackson.dataformat.avro;
 
+import org.apache.avro.file.CodecFactory;
+
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.TSFBuilder;
 
@@ -39,6 +41,21 @@ public class AvroFactoryBuilder extends TSFBuilder<AvroFactory, AvroFactoryBuild
      */
     protected boolean _useApacheLibDecoder;
 
+    /**
+     * Compression codec to use for Avro container file output, if any.
+     *
+     * @since 2.19
+     */
+    protected CodecFactory _fileOutputCodec;
+
+    /**
+     * Approximate size of uncompressed blocks for Avro container file output;
+     * 0 to use Avro library default.
+     *
+     * @since 2.19
+     */
+    protected int _fileOutputSyncInterval;
+
     /*
     /**********************************************************
     /* Life cycle
@@ -68,6 +85,8 @@ public class AvroFactoryBuilder extends TSFBuilder<AvroFactory, AvroFactoryBuild
         super(base);
         _formatParserFeatures = base._avroParserFeatures;
         _formatGeneratorFeatures = base._avroGeneratorFeatures;
+        _fileOutputCodec = base._fileOutputCodec;
+        _fileOutputSyncInterval = base._fileOutputSyncInterval;
     }
 
     @Override
@@ -87,6 +106,16 @@ public class AvroFactoryBuilder extends TSFBuilder<AvroFactory, AvroFactoryBuild
 
     public boolean useApacheLibDecoder() { return _useApacheLibDecoder; }
 
+    /**
+     * @since 2.19
+     */
+    public CodecFactory fileOutputCodec() { return _fileOutputCodec; }
+
+    /**
+     * @since 2.19
+     */
+    public int fileOutputSyncInterval() { return _fileOutputSyncInterval; }
+
     /*
     /**********************************************************
     /* Mutators
@@ -157,4 +186,34 @@ public class AvroFactoryBuilder extends TSFBuilder<AvroFactory, AvroFactoryBuild
     public AvroFactoryBuilder configure(AvroGenerator.Feature f, boolean state) {
         return state ? enable(f) : disable(f);
     }
+
+    // // // Other configuration
+
+    /**
+     * Method for specifying compression codec to use for Avro container file output
+     * (see {@link AvroGenerator.Feature#AVRO_FILE_OUTPUT}), such as
+     * {@link CodecFactory#deflateCodec(int)}. Note that some codecs (like Snappy
+     * and Zstandard) require additional libraries to be available.
+     * Default is {@code null}, meaning no compression.
+     *
+     * @since 2.19
+     */
+    public AvroFactoryBuilder fileOutputCodec(CodecFactory codec) {
+        _fileOutputCodec = codec;
+        return _this();
+    }
+
+    /**
+     * Method for specifying approximate size (in bytes, before compression) of blocks
+     * to write for Avro container file output
+     * (see {@link AvroGenerator.Feature#AVRO_FILE_OUTPUT}): larger blocks generally
+     * compress better and are faster to write and read, at the cost of more buffering.
+     * Default is 0, meaning that Avro library default is used.
+     *
+     * @since 2.19
+     */
+    public AvroFactoryBuilder fileOutputSyncInterval(int syncInterval) {
+        _fileOutputSyncInterval = syncInterval;
+        return _this();
+    }
 }
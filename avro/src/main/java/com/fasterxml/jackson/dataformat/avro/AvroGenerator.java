@@ -6,6 +6,7 @@ import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.nio.charset.StandardCharsets;
 
+import org.apache.avro.file.CodecFactory;
 import org.apache.avro.io.BinaryEncoder;
 import org.apache.avro.io.EncoderFactory;
 
@@ -45,10 +46,33 @@ public class AvroGenerator extends GeneratorBase
          * NOTE: reader-side will have to be aware of distinction as well, since possible inclusion
          * of this header is not 100% reliably auto-detectable (while header has distinct marker,
          * "raw" Avro content has no limitations and could theoretically have same pre-amble from data).
+         *<p>
+         * When writing sequences of root values (with {@link com.fasterxml.jackson.databind.SequenceWriter}),
+         * all values are written in the same file (after a single header), grouped
+         * in blocks; compression codec and (approximate) block size may be configured using
+         * {@link AvroFactoryBuilder#fileOutputCodec} and {@link AvroFactoryBuilder#fileOutputSyncInterval}.
+         * Note that the last block is only written when generator is closed.
          *
          * @since 2.9
          */
-        AVRO_FILE_OUTPUT(false)
+        AVRO_FILE_OUTPUT(false),
+
+        /**
+         * Feature that tells Avro to write Arrays and Maps as size-prefixed blocks:
+         * that is, to write each block of entries with a negative entry count followed
+         * by the byte size of the block, as allowed by the Avro specification.
+         * This allows readers to skip such values (for example when projecting
+         * only a subset of Record fields) in a single step per block, without
+         * decoding individual entries.
+         *<p>
+         * Requires buffering of full blocks by the underlying encoder: if enabled,
+         * takes precedence over {@link #AVRO_BUFFERING} setting.
+         *<p>
+         * Disabled by default to preserve the existing behavior.
+         *
+         * @since 2.19
+         */
+        AVRO_BLOCK_SIZES(false)
         ;
 
         protected final boolean _defaultState;
@@ -114,6 +138,24 @@ public class AvroGenerator extends GeneratorBase
 
     protected AvroSchema _rootSchema;
 
+    /**
+     * Compression codec to use for Avro container file output, if any
+     * (see {@link Feature#AVRO_FILE_OUTPUT}); {@code null} for default
+     * (no compression).
+     *
+     * @since 2.19
+     */
+    protected CodecFactory _fileOutputCodec;
+
+    /**
+     * Approximate size of uncompressed blocks (in bytes) to write for Avro
+     * container file output (see {@link Feature#AVRO_FILE_OUTPUT}); 0 to use
+     * the Avro library default.
+     *
+     * @since 2.19
+     */
+    protected int _fileOutputSyncInterval;
+
     /*
     /**********************************************************
     /* Output state
@@ -163,9 +205,13 @@ public class AvroGenerator extends GeneratorBase
         _apacheCodecRecycler = apacheCodecRecycler;
         final boolean buffering = isEnabled(Feature.AVRO_BUFFERING);
         BinaryEncoder encoderToReuse = _apacheCodecRecycler.acquireEncoder();
-        _encoder = buffering
-                ? ENCODER_FACTORY.binaryEncoder(output, encoderToReuse)
-                : ENCODER_FACTORY.directBinaryEncoder(output, encoderToReuse);
+        if (isEnabled(Feature.AVRO_BLOCK_SIZES)) {
+            _encoder = ENCODER_FACTORY.blockingBinaryEncoder(output, encoderToReuse);
+        } else {
+            _encoder = buffering
+                    ? ENCODER_FACTORY.binaryEncoder(output, encoderToReuse)
+                    : ENCODER_FACTORY.directBinaryEncoder(output, encoderToReuse);
+        }
     }
 
     public void setSchema(AvroSchema schema)
@@ -179,6 +225,36 @@ public class AvroGenerator extends GeneratorBase
                 schema.getAvroSchema(), _encoder);
     }
 
+    /**
+     * Method for configuring details of Avro container file output (see
+     * {@link Feature#AVRO_FILE_OUTPUT}); needs to be called before any content is
+     * written.
+     *
+     * @param codec Compression codec to use, if any; {@code null} for no compression
+     * @param syncInterval Approximate size of uncompressed blocks (in bytes);
+     *    0 to use the Avro library default
+     *
+     * @since 2.19
+     */
+    public void setFileOutputOptions(CodecFactory codec, int syncInterval) {
+        _fileOutputCodec = codec;
+        _fileOutputSyncInterval = syncInterval;
+    }
+
+    /**
+     * @since 2.19
+     */
+    public CodecFactory getFileOutputCodec() {
+        return _fileOutputCodec;
+    }
+
+    /**
+     * @since 2.19
+     */
+    public int getFileOutputSyncInterval() {
+        return _fileOutputSyncInterval;
+    }
+
     @Override
     public StreamWriteConstraints streamWriteConstraints() {
         return _streamWriteConstraints;
@@ -342,6 +418,9 @@ public class AvroGenerator extends GeneratorBase
 
     @Override
     public final void flush() throws IOException {
+        if (_rootContext != null) {
+            _rootContext.flush();
+        }
         if (isEnabled(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM)) {
             _output.flush();
         }
@@ -370,15 +449,18 @@ public class AvroGenerator extends GeneratorBase
              *   is usually NOT done. Partly this is because Avro codec is leaking low-level exceptions
              *   such as NPE.
              */
-            if (!_complete) {
-                try {
+            try {
+                if (!_complete) {
                     _complete();
-                } catch (IOException e) {
-                    throw e;
-                } catch (Exception e) {
-                    throw new JsonGenerationException("Failed to close AvroGenerator: ("
-                            +e.getClass().getName()+"): "+e.getMessage(), e, this);
                 }
+                if (_rootContext != null) {
+                    _rootContext.close();
+                }
+            } catch (IOException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new JsonGenerationException("Failed to close AvroGenerator: ("
+                        +e.getClass().getName()+"): "+e.getMessage(), e, this);
             }
             if (_output != null) {
                 if (_ioContext.isResourceManaged() || isEnabled(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
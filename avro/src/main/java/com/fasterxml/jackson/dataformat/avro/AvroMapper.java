@@ -1,6 +1,7 @@
 package com.fasterxml.jackson.dataformat.avro;
 
 import java.io.*;
+import java.util.*;
 
 import org.apache.avro.Schema;
 
@@ -10,6 +11,7 @@ import com.fasterxml.jackson.databind.Module;
 import com.fasterxml.jackson.databind.*;
 import com.fasterxml.jackson.databind.cfg.MapperBuilder;
 import com.fasterxml.jackson.databind.exc.InvalidDefinitionException;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
 import com.fasterxml.jackson.databind.util.ClassUtil;
 import com.fasterxml.jackson.dataformat.avro.schema.AvroSchemaGenerator;
 
@@ -208,6 +210,82 @@ public class AvroMapper extends ObjectMapper
         }
     }
 
+    /**
+     * Factory method for constructing a "projection" of given (writer) schema,
+     * based on properties that given POJO type can deserialize: all Record fields
+     * that do not map to such properties are skipped without decoding them.
+     * See {@link AvroSchema#withProjection} for details.
+     *<p>
+     * If type has "any setter" (and could therefore accept any property), no projection
+     * is done and given schema is returned as is.
+     *
+     * @since 2.19
+     */
+    public AvroSchema projectionSchemaFor(Class<?> type, AvroSchema writerSchema)
+        throws JsonMappingException
+    {
+        return projectionSchemaFor(constructType(type), writerSchema, null);
+    }
+
+    /**
+     * Factory method for constructing a "projection" of given (writer) schema,
+     * based on properties that given POJO type can deserialize, optionally further
+     * limited to properties included in specified View (as per {@code @JsonView}).
+     * See {@link AvroSchema#withProjection} for details.
+     *
+     * @param type POJO type used to determine properties to include
+     * @param writerSchema Schema used for writing content to read
+     * @param view (optional) View to use for further limiting properties included, if any;
+     *    {@code null} to include all properties regardless of views.
+     *
+     * @since 2.19
+     */
+    public AvroSchema projectionSchemaFor(JavaType type, AvroSchema writerSchema,
+            Class<?> view)
+        throws JsonMappingException
+    {
+        final DeserializationConfig config = getDeserializationConfig();
+        final BeanDescription beanDesc = config.introspect(type);
+        if (beanDesc.findAnySetterAccessor() != null) {
+            return writerSchema;
+        }
+        final boolean defaultInclusion = config.isEnabled(MapperFeature.DEFAULT_VIEW_INCLUSION);
+        Set<String> names = new HashSet<>();
+        for (BeanPropertyDefinition prop : beanDesc.findProperties()) {
+            if (!prop.couldDeserialize()) {
+                continue;
+            }
+            if ((view != null) && !_isIncludedInView(prop.findViews(), view, defaultInclusion)) {
+                continue;
+            }
+            names.add(prop.getName());
+            for (PropertyName alias : prop.findAliases()) {
+                names.add(alias.getSimpleName());
+            }
+        }
+        try {
+            return writerSchema.withProjection(names);
+        } catch (JsonMappingException e) {
+            throw e;
+        } catch (IOException e0) {
+            throw _invalidSchemaDefinition(type, e0);
+        }
+    }
+
+    private static boolean _isIncludedInView(Class<?>[] views, Class<?> activeView,
+            boolean defaultInclusion)
+    {
+        if (views == null) {
+            return defaultInclusion;
+        }
+        for (Class<?> view : views) {
+            if (view.isAssignableFrom(activeView)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     // @since 2.13
     protected JsonMappingException _invalidSchemaDefinition(JavaType type,
             Exception e0)
@@ -2,6 +2,7 @@ package com.fasterxml.jackson.dataformat.avro;
 
 import java.io.IOException;
 import java.io.Writer;
+import java.nio.ByteBuffer;
 
 import com.fasterxml.jackson.core.*;
 import com.fasterxml.jackson.core.base.ParserBase;
@@ -361,4 +362,17 @@ public abstract class AvroParser extends ParserBase
         }
         return _binaryValue;
     }
+
+    /**
+     * Accessor for the current binary value (of Avro {@code bytes} or {@code fixed}
+     * type) as a {@link ByteBuffer}. Parsers that read content from a
+     * {@link ByteBuffer} (see {@link AvroFactory#createParser(ByteBuffer)}) return
+     * a read-only slice of the input buffer without copying; others wrap the
+     * value returned by {@link #getBinaryValue()}.
+     *
+     * @since 2.19
+     */
+    public ByteBuffer getBinaryValueAsByteBuffer() throws IOException {
+        return ByteBuffer.wrap(getBinaryValue());
+    }
 }
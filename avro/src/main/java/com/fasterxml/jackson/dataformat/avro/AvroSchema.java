@@ -1,7 +1,7 @@
 package com.fasterxml.jackson.dataformat.avro;
 
 import java.io.IOException;
-import java.util.Set;
+import java.util.*;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.apache.avro.Schema;
@@ -143,6 +143,67 @@ r.getType().getName(), w.getFullName(), r.getFullName()));
         return Resolving.create(w, r);
     }
 
+    /**
+     * Method for constructing a "projection" of this schema: one that only exposes
+     * specified subset of fields of the root-level Record, and skips all the other
+     * fields without decoding (using the same skipping mechanism as is used for
+     * writer-schema fields missing from the reader schema).
+     * Resulting schema is a reader-schema-resolving instance, with this instance
+     * as the writer schema.
+     *<p>
+     * Names of fields not included in the schema are quietly ignored; and if all fields
+     * are included, {@code this} instance is returned as is.
+     *
+     * @param fieldNames Names of root-level Record fields to expose
+     *
+     * @return Schema instance to use for reading projected content
+     *
+     * @throws JsonProcessingException If this schema is not for a Record type
+     *
+     * @since 2.19
+     */
+    public AvroSchema withProjection(Collection<String> fieldNames)
+        throws JsonProcessingException
+    {
+        Schema projected = _projectFields(_writerSchema, fieldNames);
+        if (projected == _writerSchema) {
+            return this;
+        }
+        return Resolving.create(_writerSchema, projected);
+    }
+
+    /**
+     * Helper method for constructing a copy of given Record schema with only
+     * specified fields included (in their original order); or, if all fields
+     * are to be included, returning schema as is.
+     */
+    protected static Schema _projectFields(Schema recordSchema, Collection<String> fieldNames)
+        throws JsonProcessingException
+    {
+        if (recordSchema.getType() != Schema.Type.RECORD) {
+            throw new JsonMappingException(null, String.format(
+                    "Can only project fields of a Record schema, not %s (name '%s')",
+                    recordSchema.getType(), recordSchema.getFullName()));
+        }
+        final List<Schema.Field> fields = recordSchema.getFields();
+        List<Schema.Field> included = new ArrayList<>(fields.size());
+        for (Schema.Field f : fields) {
+            if (fieldNames.contains(f.name())) {
+                // Fields can not be shared across schemas, must copy
+                included.add(new Schema.Field(f, f.schema()));
+            }
+        }
+        if (included.size() == fields.size()) {
+            return recordSchema;
+        }
+        Schema projected = Schema.createRecord(recordSchema.getName(), recordSchema.getDoc(),
+                recordSchema.getNamespace(), recordSchema.isError(), included);
+        for (String alias : recordSchema.getAliases()) {
+            projected.addAlias(alias);
+        }
+        return projected;
+    }
+
     @Override
     public String getSchemaType() {
         return TYPE_ID;
@@ -227,6 +288,18 @@ r.getType().getName(), w.getFullName(), r.getFullName()));
             return AvroReaderFactory.createFor(_writerSchema, _readerSchema);
         }
 
+        @Override
+        public AvroSchema withProjection(Collection<String> fieldNames)
+            throws JsonProcessingException
+        {
+            // Project reader schema; writer schema must stay as is
+            Schema projected = _projectFields(_readerSchema, fieldNames);
+            if (projected == _readerSchema) {
+                return this;
+            }
+            return create(_writerSchema, projected);
+        }
+
         /*
         /**********************************************************************
         /* Standard method overrides
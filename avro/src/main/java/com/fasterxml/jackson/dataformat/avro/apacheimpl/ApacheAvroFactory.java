@@ -2,9 +2,11 @@ package com.fasterxml.jackson.dataformat.avro.apacheimpl;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 
 import com.fasterxml.jackson.core.ObjectCodec;
 import com.fasterxml.jackson.core.io.IOContext;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
 import com.fasterxml.jackson.dataformat.avro.AvroFactory;
 import com.fasterxml.jackson.dataformat.avro.AvroParser;
 
@@ -55,4 +57,11 @@ public class ApacheAvroFactory extends AvroFactory
                 _avroRecyclerPool.acquireAndLinkPooled(),
                 _objectCodec, data, offset, len);
     }
+
+    @SuppressWarnings("resource")
+    @Override
+    protected AvroParser _createParser(ByteBuffer data, IOContext ctxt) throws IOException {
+        // Apache codec has no ByteBuffer-backed decoder, need to expose as stream
+        return _createParser(new ByteBufferBackedInputStream(data), ctxt);
+    }
 }
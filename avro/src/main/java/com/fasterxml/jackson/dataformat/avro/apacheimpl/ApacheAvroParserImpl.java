@@ -304,6 +304,11 @@ public class ApacheAvroParserImpl extends AvroParserImpl
         _textValue = _decoder.readString();
     }
 
+    @Override
+    public String decodeStringValue() throws IOException {
+        return _decoder.readString();
+    }
+
     @Override
     public JsonToken decodeStringToken() throws IOException {
         decodeString();
@@ -2,6 +2,7 @@ package com.fasterxml.jackson.dataformat.avro.apacheimpl;
 
 import java.io.IOException;
 
+import org.apache.avro.Schema;
 import org.apache.avro.reflect.CustomEncoding;
 
 import com.fasterxml.jackson.core.JsonParser;
@@ -12,6 +13,10 @@ import com.fasterxml.jackson.dataformat.avro.deser.AvroParserImpl;
 
 /**
  * Deserializes an object using a avro {@link CustomEncoding}
+ *<p>
+ * Since 2.19 encoded content is read directly from the underlying binary input
+ * (see {@link RawDecoderOverAvroParser}) when possible; token-based
+ * {@link DecoderOverAvroParser} is only used as the fallback.
  *
  * @see com.fasterxml.jackson.dataformat.avro.AvroAnnotationIntrospector
  */
@@ -19,21 +24,37 @@ public class CustomEncodingDeserializer<T> extends JsonDeserializer<T> {
 
     private final CustomEncodingWrapper<T> encoding;
 
+    /**
+     * Schema that encoding uses, resolved once (via reflection) on construction.
+     *
+     * @since 2.19
+     */
+    private final Schema schema;
+
     public CustomEncodingDeserializer(CustomEncoding<T> encoding) {
         this.encoding = new CustomEncodingWrapper<>(encoding);
+        this.schema = this.encoding.getSchema();
     }
 
     @Override
     public T deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
-        AvroParserImpl avroParser = (AvroParserImpl) p;
-        DecoderOverAvroParser decoder = new DecoderOverAvroParser(avroParser);
-        return encoding.read(null, decoder);
+        return _read((AvroParserImpl) p, null);
     }
 
     @Override
     public T deserialize(JsonParser p, DeserializationContext ctxt, T intoValue) throws IOException {
-        AvroParserImpl avroParser = (AvroParserImpl) p;
-        DecoderOverAvroParser decoder = new DecoderOverAvroParser(avroParser);
-        return encoding.read(intoValue, decoder);
+        return _read((AvroParserImpl) p, intoValue);
+    }
+
+    // @since 2.19
+    protected T _read(AvroParserImpl avroParser, T intoValue) throws IOException {
+        RawDecoderOverAvroParser decoder = (schema == null) ? null
+                : RawDecoderOverAvroParser.construct(avroParser, schema);
+        if (decoder == null) {
+            return encoding.read(intoValue, new DecoderOverAvroParser(avroParser));
+        }
+        T value = encoding.read(intoValue, decoder);
+        decoder.finish();
+        return value;
     }
 }
@@ -0,0 +1,341 @@
+package com.fasterxml.jackson.dataformat.avro.apacheimpl;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import org.apache.avro.Schema;
+import org.apache.avro.io.Decoder;
+import org.apache.avro.util.Utf8;
+
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.dataformat.avro.deser.AvroParserImpl;
+import com.fasterxml.jackson.dataformat.avro.deser.AvroReadContext;
+
+/**
+ * Avro {@link Decoder} that reads content directly from the underlying
+ * binary input of an {@link AvroParserImpl}, using its low-level decoding
+ * methods instead of going through {@link JsonToken}s the way
+ * {@link DecoderOverAvroParser} does.
+ *<p>
+ * By the time a {@code CustomEncoding} gets called, parser has already
+ * decoded the leading part of the value (union index, scalar value or
+ * block count of an Array or Map): this decoder hands that "pending" state
+ * out first and then switches to raw decoding. If the value was a structured
+ * one, {@link #finish} must be called afterwards to return parser to the
+ * enclosing context.
+ *
+ * @since 2.19
+ */
+public class RawDecoderOverAvroParser extends Decoder
+{
+    protected final AvroParserImpl _parser;
+
+    /**
+     * Context to restore once the value has been decoded, if any.
+     */
+    protected final AvroReadContext _parentContext;
+
+    /**
+     * Whether union index has already been decoded by the parser.
+     */
+    protected boolean _pendingIndex;
+
+    /**
+     * Token for the leading value already decoded by the parser, if any.
+     */
+    protected JsonToken _pendingToken;
+
+    protected RawDecoderOverAvroParser(AvroParserImpl parser, boolean pendingIndex,
+            JsonToken pendingToken, AvroReadContext parentContext)
+    {
+        _parser = parser;
+        _pendingIndex = pendingIndex;
+        _pendingToken = pendingToken;
+        _parentContext = parentContext;
+    }
+
+    /**
+     * Factory method for constructing a decoder for the value parser currently
+     * points to, expected to be encoded using given schema.
+     *
+     * @return Decoder to use, if value was written using given schema and
+     *    parser state is compatible with it; {@code null} if not (in which
+     *    case caller needs to use {@link DecoderOverAvroParser})
+     */
+    public static RawDecoderOverAvroParser construct(AvroParserImpl parser, Schema schema)
+    {
+        final JsonToken t = parser.currentToken();
+        if (t == null) {
+            return null;
+        }
+        // Raw content can only be decoded if it was written using the same schema:
+        // not necessarily the case when resolving between writer and reader schemas
+        if (!schema.equals(parser.currentWriterSchema())) {
+            return null;
+        }
+        boolean pendingIndex = false;
+        if (schema.getType() == Schema.Type.UNION) {
+            List<Schema> types = schema.getTypes();
+            int ix = parser.branchIndex();
+            if (ix < 0 || ix >= types.size()) {
+                return null;
+            }
+            schema = types.get(ix);
+            pendingIndex = true;
+        }
+        JsonToken pending = t;
+        switch (schema.getType()) {
+        case RECORD:
+            // Nothing but the (virtual) START_OBJECT consumed so far
+            if (t != JsonToken.START_OBJECT || !parser.isRecord()) {
+                return null;
+            }
+            pending = null;
+            break;
+        case MAP:
+            if (t != JsonToken.START_OBJECT || parser.isRecord()) {
+                return null;
+            }
+            break;
+        case ARRAY:
+            if (t != JsonToken.START_ARRAY) {
+                return null;
+            }
+            break;
+        case NULL:
+            if (t != JsonToken.VALUE_NULL) {
+                return null;
+            }
+            break;
+        case BOOLEAN:
+            if (!t.isBoolean()) {
+                return null;
+            }
+            break;
+        case INT:
+        case LONG:
+            if (t != JsonToken.VALUE_NUMBER_INT) {
+                return null;
+            }
+            break;
+        case FLOAT:
+        case DOUBLE:
+            if (t != JsonToken.VALUE_NUMBER_FLOAT) {
+                return null;
+            }
+            break;
+        case STRING:
+        case ENUM:
+            if (t != JsonToken.VALUE_STRING) {
+                return null;
+            }
+            break;
+        case BYTES:
+        case FIXED:
+            if (t != JsonToken.VALUE_EMBEDDED_OBJECT) {
+                return null;
+            }
+            break;
+        default:
+            return null;
+        }
+        AvroReadContext parentCtxt = null;
+        if (t.isStructStart()) {
+            parentCtxt = parser.getAvroContext().getParent();
+        }
+        return new RawDecoderOverAvroParser(parser, pendingIndex, pending, parentCtxt);
+    }
+
+    /**
+     * Method to call after value has been decoded, to make parser continue
+     * with the content following it.
+     */
+    public void finish() {
+        if (_parentContext != null) {
+            _parser.setAvroContext(_parentContext);
+        }
+    }
+
+    /**
+     * @return Whether there was a pending leading value (which is then cleared)
+     */
+    protected final boolean _hasPending() {
+        if (_pendingToken == null) {
+            return false;
+        }
+        _pendingToken = null;
+        return true;
+    }
+
+    /*
+    /**********************************************************************
+    /* Decoder implementation
+    /**********************************************************************
+     */
+
+    @Override
+    public void readNull() throws IOException {
+        _hasPending();
+    }
+
+    @Override
+    public boolean readBoolean() throws IOException {
+        JsonToken t = _pendingToken;
+        if (t != null) {
+            _pendingToken = null;
+        } else {
+            t = _parser.decodeBoolean();
+        }
+        return (t == JsonToken.VALUE_TRUE);
+    }
+
+    @Override
+    public int readInt() throws IOException {
+        if (_hasPending()) {
+            return _parser.getIntValue();
+        }
+        return _parser.decodeInt();
+    }
+
+    @Override
+    public long readLong() throws IOException {
+        if (_hasPending()) {
+            return _parser.getLongValue();
+        }
+        return _parser.decodeLong();
+    }
+
+    @Override
+    public float readFloat() throws IOException {
+        if (!_hasPending()) {
+            _parser.decodeFloat();
+        }
+        return _parser.getFloatValue();
+    }
+
+    @Override
+    public double readDouble() throws IOException {
+        if (!_hasPending()) {
+            _parser.decodeDouble();
+        }
+        return _parser.getDoubleValue();
+    }
+
+    @Override
+    public Utf8 readString(Utf8 old) throws IOException {
+        return new Utf8(readString());
+    }
+
+    @Override
+    public String readString() throws IOException {
+        if (_hasPending()) {
+            return _parser.getText();
+        }
+        return _parser.decodeStringValue();
+    }
+
+    @Override
+    public void skipString() throws IOException {
+        if (!_hasPending()) {
+            _parser.skipString();
+        }
+    }
+
+    @Override
+    public ByteBuffer readBytes(ByteBuffer old) throws IOException {
+        if (!_hasPending()) {
+            _parser.decodeBytes();
+        }
+        byte[] value = (byte[]) _parser.getEmbeddedObject();
+        if ((old != null) && value.length <= old.capacity()) {
+            old.clear();
+            old.put(value);
+            old.flip();
+            return old;
+        }
+        return ByteBuffer.wrap(value);
+    }
+
+    @Override
+    public void skipBytes() throws IOException {
+        if (!_hasPending()) {
+            _parser.skipBytes();
+        }
+    }
+
+    @Override
+    public void readFixed(byte[] bytes, int start, int length) throws IOException {
+        if (!_hasPending()) {
+            _parser.decodeFixed(length);
+        }
+        System.arraycopy((byte[]) _parser.getEmbeddedObject(), 0, bytes, start, length);
+    }
+
+    @Override
+    public void skipFixed(int length) throws IOException {
+        if (!_hasPending()) {
+            _parser.skipFixed(length);
+        }
+    }
+
+    @Override
+    public int readEnum() throws IOException {
+        if (_hasPending()) {
+            return _parser.enumIndex();
+        }
+        return _parser.decodeEnum();
+    }
+
+    @Override
+    public long readArrayStart() throws IOException {
+        if (_hasPending()) {
+            return _parser.getRemainingElements();
+        }
+        return _parser.decodeArrayStart();
+    }
+
+    @Override
+    public long arrayNext() throws IOException {
+        return _parser.decodeArrayNext();
+    }
+
+    @Override
+    public long skipArray() throws IOException {
+        // Remaining entries of the current block need to be skipped by caller
+        if (_hasPending()) {
+            return _parser.getRemainingElements();
+        }
+        return _parser.skipArray();
+    }
+
+    @Override
+    public long readMapStart() throws IOException {
+        if (_hasPending()) {
+            return _parser.getRemainingElements();
+        }
+        return _parser.decodeMapStart();
+    }
+
+    @Override
+    public long mapNext() throws IOException {
+        return _parser.decodeMapNext();
+    }
+
+    @Override
+    public long skipMap() throws IOException {
+        if (_hasPending()) {
+            return _parser.getRemainingElements();
+        }
+        return _parser.skipMap();
+    }
+
+    @Override
+    public int readIndex() throws IOException {
+        if (_pendingIndex) {
+            _pendingIndex = false;
+            return _parser.branchIndex();
+        }
+        return _parser.decodeIndex();
+    }
+}
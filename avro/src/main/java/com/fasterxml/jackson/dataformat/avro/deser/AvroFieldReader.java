@@ -2,6 +2,8 @@ package com.fasterxml.jackson.dataformat.avro.deser;
 
 import java.io.IOException;
 
+import org.apache.avro.Schema;
+
 import com.fasterxml.jackson.core.JsonToken;
 
 /**
@@ -14,23 +16,47 @@ public abstract class AvroFieldReader
     protected final boolean _isSkipper;
     protected final String _typeId;
 
+    /**
+     * Schema with which value of the field was written, if known (not known
+     * for fields that only exist in reader schema).
+     *
+     * @since 2.19
+     */
+    protected final Schema _writerSchema;
+
     protected AvroFieldReader(String name, boolean isSkipper, String typeId) {
+        this(name, isSkipper, typeId, null);
+    }
+
+    // @since 2.19
+    protected AvroFieldReader(String name, boolean isSkipper, String typeId,
+            Schema writerSchema) {
         _name = name;
         _isSkipper = isSkipper;
         _typeId = typeId;
+        _writerSchema = writerSchema;
     }
 
     public static AvroFieldReader construct(String name, AvroStructureReader structureReader) {
-        return new Structured(name, false, structureReader);
+        return construct(name, structureReader, null);
+    }
+
+    // @since 2.19
+    public static AvroFieldReader construct(String name, AvroStructureReader structureReader,
+            Schema writerSchema) {
+        return new Structured(name, false, structureReader, writerSchema);
     }
 
     public static AvroFieldReader constructSkipper(String name, AvroStructureReader structureReader) {
-        return new Structured(name, true, structureReader);
+        return new Structured(name, true, structureReader, null);
     }
 
     public final String getName() { return _name; }
     public final boolean isSkipper() { return _isSkipper; }
 
+    // @since 2.19
+    public final Schema getWriterSchema() { return _writerSchema; }
+
     public abstract JsonToken readValue(AvroReadContext parent, AvroParserImpl parser) throws IOException;
 
     public abstract void skipValue(AvroParserImpl parser) throws IOException;
@@ -45,8 +71,9 @@ public abstract class AvroFieldReader
     private final static class Structured extends AvroFieldReader {
         protected final AvroStructureReader _reader;
 
-        public Structured(String name, boolean skipper, AvroStructureReader r) {
-            super(name, skipper, null);
+        public Structured(String name, boolean skipper, AvroStructureReader r,
+                Schema writerSchema) {
+            super(name, skipper, null, writerSchema);
             _reader = r;
         }
 
@@ -4,6 +4,8 @@ import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 
+import org.apache.avro.Schema;
+
 import com.fasterxml.jackson.core.*;
 import com.fasterxml.jackson.core.io.IOContext;
 import com.fasterxml.jackson.dataformat.avro.AvroParser;
@@ -521,6 +523,14 @@ public abstract class AvroParserImpl
 
     public abstract void decodeString() throws IOException;
 
+    /**
+     * Method for decoding a String value and returning it as is, without
+     * changing current token.
+     *
+     * @since 2.19
+     */
+    public abstract String decodeStringValue() throws IOException;
+
     public abstract void skipString() throws IOException;
 
     /*
@@ -589,7 +599,7 @@ public abstract class AvroParserImpl
     // @since 2.19
     public JsonToken decodeBytesDecimal(int scale) throws IOException {
         decodeBytes();
-        _numberBigDecimal = new BigDecimal(new BigInteger(_binaryValue), scale);
+        _numberBigDecimal = new BigDecimal(new BigInteger(getBinaryValue()), scale);
         _numTypesValid = NR_BIGDECIMAL;
         return JsonToken.VALUE_NUMBER_FLOAT;
     }
@@ -602,7 +612,7 @@ public abstract class AvroParserImpl
     // @since 2.19
     public JsonToken decodeFixedDecimal(int scale, int size) throws IOException {
         decodeFixed(size);
-        _numberBigDecimal = new BigDecimal(new BigInteger(_binaryValue), scale);
+        _numberBigDecimal = new BigDecimal(new BigInteger(getBinaryValue()), scale);
         _numTypesValid = NR_BIGDECIMAL;
         return JsonToken.VALUE_NUMBER_FLOAT;
     }
@@ -634,6 +644,31 @@ public abstract class AvroParserImpl
         _avroContext = ctxt;
     }
 
+    // @since 2.19
+    public final AvroReadContext getAvroContext() {
+        return _avroContext;
+    }
+
+    /**
+     * Accessor for finding schema with which the current value was written
+     * ("writer schema"), if known. Currently only known for values of Record
+     * fields that exist in the writer schema.
+     *
+     * @since 2.19
+     */
+    public Schema currentWriterSchema() {
+        final JsonToken t = _currToken;
+        if (t == null || t == JsonToken.FIELD_NAME || t.isStructEnd()) {
+            return null;
+        }
+        // For Objects and Arrays, context is that of the value itself
+        AvroReadContext ctxt = t.isStructStart() ? _avroContext.getParent() : _avroContext;
+        if (ctxt instanceof RecordReader) {
+            return ((RecordReader) ctxt).getValueWriterSchema();
+        }
+        return null;
+    }
+
     /*
     /**********************************************************
     /* Low-level methods: setting values from defaults
@@ -211,9 +211,9 @@ public abstract class AvroReaderFactory
 
         ScalarDecoder scalar = createScalarValueDecoder(type);
         if (scalar != null) {
-            return scalar.asFieldReader(name, false);
+            return scalar.asFieldReader(name, false, type);
         }
-        return AvroFieldReader.construct(name, createReader(type));
+        return AvroFieldReader.construct(name, createReader(type), type);
     }
 
     /*
@@ -383,10 +383,10 @@ public abstract class AvroReaderFactory
         {
             ScalarDecoder scalar = createScalarValueDecoder(writerSchema);
             if (scalar != null) {
-                return scalar.asFieldReader(name, false);
+                return scalar.asFieldReader(name, false, writerSchema);
             }
             return AvroFieldReader.construct(name,
-                    createReader(writerSchema, readerSchema));
+                    createReader(writerSchema, readerSchema), writerSchema);
         }
 
         protected AvroFieldReader createFieldSkipper(String name,
@@ -0,0 +1,747 @@
+package com.fasterxml.jackson.dataformat.avro.deser;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+
+import com.fasterxml.jackson.core.*;
+import com.fasterxml.jackson.core.io.IOContext;
+
+/**
+ * Alternative to {@link JacksonAvroParserImpl} for reading content from a
+ * {@link ByteBuffer}, typically one without accessible backing array (direct,
+ * memory-mapped or read-only buffer): values are decoded in place, using
+ * absolute {@code get} methods, without copying content into an intermediate
+ * input buffer. Position and limit of the buffer are not modified.
+ *<p>
+ * Values of {@code bytes} and {@code fixed} types are only copied into a
+ * {@code byte[]} if accessed as such; {@link #getBinaryValueAsByteBuffer()}
+ * returns a read-only slice of the input buffer instead.
+ *
+ * @since 2.19
+ */
+public class ByteBufferAvroParserImpl extends AvroParserImpl
+{
+    /*
+    /**********************************************************
+    /* Input source config
+    /**********************************************************
+     */
+
+    /**
+     * Buffer from which content is read: {@link #_inputPtr} and
+     * {@link #_inputEnd} are absolute indexes within this buffer.
+     */
+    protected ByteBuffer _inputByteBuffer;
+
+    /*
+    /**********************************************************
+    /* Decoding state
+    /**********************************************************
+     */
+
+    /**
+     * Absolute index of the current binary value within {@link #_inputByteBuffer},
+     * if one has been decoded but not yet copied into {@link #_binaryValue}.
+     */
+    protected int _binaryStart;
+
+    /**
+     * Length of the current binary value within {@link #_inputByteBuffer};
+     * {@code -1} if there is no such value.
+     */
+    protected int _binaryLength = -1;
+
+    /*
+    /**********************************************************
+    /* Life-cycle
+    /**********************************************************
+     */
+
+    /**
+     * @param data Buffer to read content from; content between current position
+     *    and limit is read, and neither is modified by the parser.
+     */
+    public ByteBufferAvroParserImpl(IOContext ctxt, int parserFeatures, int avroFeatures,
+            ObjectCodec codec, ByteBuffer data)
+    {
+        super(ctxt, parserFeatures, avroFeatures, codec);
+        _inputByteBuffer = data;
+        _inputPtr = data.position();
+        _inputEnd = data.limit();
+        // so that offsets are relative to the initial position
+        _currInputProcessed = -_inputPtr;
+    }
+
+    /*
+    /**********************************************************
+    /* Abstract method impls, i/o access
+    /**********************************************************
+     */
+
+    @Override
+    public Object getInputSource() {
+        return _inputByteBuffer;
+    }
+
+    @Override
+    protected void _closeInput() throws IOException {
+        // Nothing to close: buffer is owned by caller
+    }
+
+    /*
+    /**********************************************************
+    /* Abstract method impls, traversal
+    /**********************************************************
+     */
+
+    @Override
+    public JsonToken nextToken() throws IOException {
+        _binaryLength = -1;
+        return super.nextToken();
+    }
+
+    @Override
+    public String nextFieldName() throws IOException {
+        _binaryLength = -1;
+        return super.nextFieldName();
+    }
+
+    @Override
+    public boolean nextFieldName(SerializableString sstr) throws IOException {
+        _binaryLength = -1;
+        return super.nextFieldName(sstr);
+    }
+
+    @Override
+    public String nextTextValue() throws IOException {
+        if (nextToken() == JsonToken.VALUE_STRING) {
+            return _textBuffer.contentsAsString();
+        }
+        return null;
+    }
+
+    /*
+    /**********************************************************
+    /* Abstract method impls, text
+    /**********************************************************
+     */
+
+    @Override
+    public boolean hasTextCharacters() {
+        return (_currToken == JsonToken.VALUE_STRING);
+    }
+
+    @Override
+    public String getText() throws IOException
+    {
+        JsonToken t = _currToken;
+        if (t == JsonToken.VALUE_STRING) {
+            return _textBuffer.contentsAsString();
+        }
+        if (t == JsonToken.FIELD_NAME) {
+            return _avroContext.getCurrentName();
+        }
+        if (t != null) {
+            if (t.isNumeric()) {
+                return getNumberValue().toString();
+            }
+            return _currToken.asString();
+        }
+        return null;
+    }
+
+    @Override
+    public int getText(Writer writer) throws IOException
+    {
+        JsonToken t = _currToken;
+        if (t == JsonToken.VALUE_STRING) {
+            return _textBuffer.contentsToWriter(writer);
+        }
+        if (t == JsonToken.FIELD_NAME) {
+            String n = _avroContext.getCurrentName();
+            writer.write(n);
+            return n.length();
+        }
+        if (t != null) {
+            if (t.isNumeric()) {
+                return _textBuffer.contentsToWriter(writer);
+            }
+            char[] ch = t.asCharArray();
+            writer.write(ch);
+            return ch.length;
+        }
+        return 0;
+    }
+
+    /*
+    /**********************************************************
+    /* Binary access
+    /**********************************************************
+     */
+
+    @Override
+    public Object getEmbeddedObject() throws IOException {
+        _materializeBinary();
+        return super.getEmbeddedObject();
+    }
+
+    @Override
+    public byte[] getBinaryValue(Base64Variant variant) throws IOException {
+        _materializeBinary();
+        return super.getBinaryValue(variant);
+    }
+
+    /**
+     * Returns a read-only slice of the input buffer for {@code bytes} and
+     * {@code fixed} values, without copying. Slice is only valid as long as
+     * content of the input buffer is not modified.
+     */
+    @Override
+    public ByteBuffer getBinaryValueAsByteBuffer() throws IOException {
+        if ((_binaryValue == null) && (_binaryLength >= 0)) {
+            ByteBuffer bb = _inputByteBuffer.duplicate();
+            bb.limit(_binaryStart + _binaryLength);
+            bb.position(_binaryStart);
+            return bb.slice().asReadOnlyBuffer();
+        }
+        return super.getBinaryValueAsByteBuffer();
+    }
+
+    private void _materializeBinary() {
+        if ((_binaryValue == null) && (_binaryLength >= 0)) {
+            final byte[] b = new byte[_binaryLength];
+            final ByteBuffer bb = _inputByteBuffer.duplicate();
+            bb.position(_binaryStart);
+            bb.get(b);
+            _binaryValue = b;
+        }
+    }
+
+    /*
+    /**********************************************************
+    /* Methods for AvroReadContext implementations: decoding int
+    /**********************************************************
+     */
+
+    @Override
+    public JsonToken decodeIntToken() throws IOException {
+        _numberInt = decodeInt();
+        _numTypesValid = NR_INT;
+        return JsonToken.VALUE_NUMBER_INT;
+    }
+
+    @Override
+    public final int decodeInt() throws IOException
+    {
+        int ptr = _inputPtr;
+        if ((_inputEnd - ptr) < 5) {
+            return _decodeIntSlow();
+        }
+        final ByteBuffer buf = _inputByteBuffer;
+        int b = buf.get(ptr++);
+        int i = b & 0x7F;
+        if (b < 0) {
+            b = buf.get(ptr++);
+            i += ((b & 0x7F) << 7);
+            if (b < 0) {
+                b = buf.get(ptr++);
+                i += ((b & 0x7F) << 14);
+                if (b < 0) {
+                    b = buf.get(ptr++);
+                    i += ((b & 0x7F) << 21);
+                    if (b < 0) {
+                        b = buf.get(ptr++);
+                        if (b < 0) {
+                            _inputPtr = ptr;
+                            _reportInvalidNegative(b);
+                        }
+                        i += (b << 28);
+                    }
+                }
+            }
+        }
+        _inputPtr = ptr;
+        // and final part: Zigzag decode
+        return (i >>> 1) ^ (-(i & 1));
+    }
+
+    private int _decodeIntSlow() throws IOException {
+        int b = _nextByte();
+        int i = b & 0x7F;
+        if (b < 0) {
+            b = _nextByte();
+            i += ((b & 0x7F) << 7);
+            if (b < 0) {
+                b = _nextByte();
+                i += ((b & 0x7F) << 14);
+                if (b < 0) {
+                    b = _nextByte();
+                    i += ((b & 0x7F) << 21);
+                    if (b < 0) {
+                        b = _nextByte();
+                        if (b < 0) {
+                            _reportInvalidNegative(b);
+                        }
+                        i += (b << 28);
+                    }
+                }
+            }
+        }
+        return (i >>> 1) ^ (-(i & 1));
+    }
+
+    @Override
+    public void skipInt() throws IOException {
+        _skipVInt(5);
+    }
+
+    /*
+    /**********************************************************
+    /* Methods for AvroReadContext implementations: decoding long
+    /**********************************************************
+     */
+
+    @Override
+    public JsonToken decodeLongToken() throws IOException {
+        _numberLong = decodeLong();
+        _numTypesValid = NR_LONG;
+        return JsonToken.VALUE_NUMBER_INT;
+    }
+
+    @Override
+    public long decodeLong() throws IOException {
+        // No need for separate fast path: bounds checked per byte, for
+        // first 4 bytes done as `int` to avoid `long` arithmetics
+        int b = _nextByte();
+        int i = b & 0x7F;
+        if (b < 0) {
+            b = _nextByte();
+            i += ((b & 0x7F) << 7);
+            if (b < 0) {
+                b = _nextByte();
+                i += ((b & 0x7F) << 14);
+                if (b < 0) {
+                    b = _nextByte();
+                    i += ((b & 0x7F) << 21);
+                    if (b < 0) {
+                        return _decodeLong2(i);
+                    }
+                }
+            }
+        }
+        // should be ok to zigzag as int, then sign-extend
+        i = (i >>> 1) ^ (-(i & 1));
+        return i;
+    }
+
+    private long _decodeLong2(long lo) throws IOException
+    {
+        // then next 28 bits (altogether 8 bytes)
+        int b = _nextByte();
+        int i = b & 0x7F;
+        if (b < 0) {
+            b = _nextByte();
+            i += ((b & 0x7F) << 7);
+            if (b < 0) {
+                b = _nextByte();
+                i += ((b & 0x7F) << 14);
+                if (b < 0) {
+                    b = _nextByte();
+                    i += ((b & 0x7F) << 21);
+                    if (b < 0) {
+                        // Ok 56-bits gone... still going strong!
+                        b = _nextByte();
+                        int inner = b & 0x7F;
+                        if (b < 0) {
+                            b = _nextByte();
+                            if (b < 0) {
+                                _reportInvalidNegative(b);
+                            }
+                            inner |= ((b & 0x1) << 7);
+                        }
+                        lo |= (((long) inner) << 56);
+                    }
+                }
+            }
+        }
+        lo |= (((long) i) << 28);
+        return (lo >>> 1) ^ (-(lo & 1));
+    }
+
+    @Override
+    public void skipLong() throws IOException {
+        _skipVInt(10);
+    }
+
+    private void _skipVInt(int maxBytes) throws IOException {
+        final ByteBuffer buf = _inputByteBuffer;
+        int ptr = _inputPtr;
+        final int end = Math.min(_inputEnd, ptr + maxBytes);
+        while (ptr < end) {
+            if (buf.get(ptr++) >= 0) {
+                _inputPtr = ptr;
+                return;
+            }
+        }
+        _inputPtr = ptr;
+        if (ptr == _inputEnd) {
+            _reportInvalidEOF();
+        }
+        _reportInvalidNegative(buf.get(ptr-1));
+    }
+
+    /*
+    /**********************************************************
+    /* Methods for AvroReadContext implementations: decoding float/double
+    /**********************************************************
+     */
+
+    @Override
+    public JsonToken decodeFloat() throws IOException {
+        final int ptr = _claim(4);
+        final ByteBuffer buf = _inputByteBuffer;
+        int i = (buf.get(ptr) & 0xff) | ((buf.get(ptr+1) & 0xff) << 8)
+                | ((buf.get(ptr+2) & 0xff) << 16) | (buf.get(ptr+3) << 24);
+        _numberFloat = Float.intBitsToFloat(i);
+        _numTypesValid = NR_FLOAT;
+        return JsonToken.VALUE_NUMBER_FLOAT;
+    }
+
+    @Override
+    public void skipFloat() throws IOException {
+        _claim(4);
+    }
+
+    @Override
+    public JsonToken decodeDouble() throws IOException {
+        int ptr = _claim(8);
+        final ByteBuffer buf = _inputByteBuffer;
+        int i = (buf.get(ptr) & 0xff) | ((buf.get(ptr+1) & 0xff) << 8)
+                | ((buf.get(ptr+2) & 0xff) << 16) | (buf.get(ptr+3) << 24);
+        ptr += 4;
+        int i2 = (buf.get(ptr) & 0xff) | ((buf.get(ptr+1) & 0xff) << 8)
+                | ((buf.get(ptr+2) & 0xff) << 16) | (buf.get(ptr+3) << 24);
+        _numberDouble = Double.longBitsToDouble((((long) i) & 0xffffffffL)
+                | (((long) i2) << 32));
+        _numTypesValid = NR_DOUBLE;
+        return JsonToken.VALUE_NUMBER_FLOAT;
+    }
+
+    @Override
+    public void skipDouble() throws IOException {
+        _claim(8);
+    }
+
+    /*
+    /**********************************************************
+    /* Methods for AvroReadContext implementations: decoding Strings
+    /**********************************************************
+     */
+
+    @Override
+    public JsonToken decodeStringToken() throws IOException {
+        decodeString();
+        return JsonToken.VALUE_STRING;
+    }
+
+    @Override
+    public void decodeString() throws IOException {
+        int len = decodeInt();
+        if (len <= 0) {
+            if (len < 0) {
+                _reportError("Invalid length indicator for String: "+len);
+            }
+            _textBuffer.resetWithEmpty();
+            return;
+        }
+        _decodeText(_claim(len), len);
+    }
+
+    @Override
+    public String decodeStringValue() throws IOException {
+        decodeString();
+        return _textBuffer.contentsAsString();
+    }
+
+    @Override
+    public void skipString() throws IOException {
+        int len = decodeInt();
+        if (len <= 0) {
+            if (len < 0) {
+                _reportError("Invalid length indicator for String: "+len);
+            }
+            return;
+        }
+        _claim(len);
+    }
+
+    private final String _decodeText(int inPtr, int len) throws IOException
+    {
+        // UTF-8 never decodes into more chars than there are bytes
+        char[] outBuf = _textBuffer.emptyAndGetCurrentSegment();
+        if (outBuf.length < len) {
+            outBuf = _textBuffer.expandCurrentSegment(len);
+        }
+        int outPtr = 0;
+        final ByteBuffer inputBuf = _inputByteBuffer;
+
+        final int end = inPtr + len;
+        // Let's actually do a tight loop for ASCII first:
+        int i;
+        while ((i = inputBuf.get(inPtr)) >= 0) {
+            outBuf[outPtr++] = (char) i;
+            if (++inPtr == end) {
+                return _textBuffer.setCurrentAndReturn(outPtr);
+            }
+        }
+
+        final int[] codes = JacksonAvroParserImpl.sUtf8UnitLengths;
+        do {
+            i = inputBuf.get(inPtr++) & 0xFF;
+            final int code = codes[i];
+            if (code == 0) { // still optimized for ASCII
+                outBuf[outPtr++] = (char) i;
+                continue;
+            }
+            if ((inPtr + code) > end) {
+                if (code > 0) {
+                    throw _constructError(String.format(
+                            "Malformed %d-byte UTF-8 character at the end of Unicode text block", code));
+                }
+            }
+            switch (code) {
+            case 1:
+                i = ((i & 0x1F) << 6) | _utf8Continuation(inPtr++);
+                break;
+            case 2:
+                i = ((i & 0x0F) << 12)
+                   | (_utf8Continuation(inPtr++) << 6)
+                   | _utf8Continuation(inPtr++);
+                break;
+            case 3:
+                i = ((i & 0x07) << 18)
+                 | (_utf8Continuation(inPtr++) << 12)
+                 | (_utf8Continuation(inPtr++) << 6)
+                 | _utf8Continuation(inPtr++);
+                // note: this is the codepoint value; need to split, too
+                i -= 0x10000;
+                outBuf[outPtr++] = (char) (0xD800 | (i >> 10));
+                i = 0xDC00 | (i & 0x3FF);
+                break;
+            default: // invalid
+                _reportError("Invalid UTF-8 start byte 0x"+Integer.toHexString(i));
+            }
+            outBuf[outPtr++] = (char) i;
+        } while (inPtr < end);
+        return _textBuffer.setCurrentAndReturn(outPtr);
+    }
+
+    private final int _utf8Continuation(int ptr) throws IOException
+    {
+        int d = _inputByteBuffer.get(ptr);
+        if ((d & 0xC0) != 0x080) {
+            _reportError("Invalid UTF-8 middle byte 0x"+Integer.toHexString(d & 0xFF));
+        }
+        return d & 0x3F;
+    }
+
+    /*
+    /**********************************************************
+    /* Methods for AvroReadContext implementations: decoding Bytes
+    /**********************************************************
+     */
+
+    @Override
+    public JsonToken decodeBytes() throws IOException {
+        int len = decodeInt();
+        if (len <= 0) {
+            if (len < 0) {
+                _reportError("Invalid length indicator for Bytes: "+len);
+            }
+            _binaryValue = NO_BYTES;
+            _binaryLength = -1;
+        } else {
+            _binaryValue = null;
+            _binaryStart = _claim(len);
+            _binaryLength = len;
+        }
+        return JsonToken.VALUE_EMBEDDED_OBJECT;
+    }
+
+    @Override
+    public void skipBytes() throws IOException {
+        int len = decodeInt();
+        if (len <= 0) {
+            if (len < 0) {
+                _reportError("Invalid length indicator for Bytes: "+len);
+            }
+            return;
+        }
+        _claim(len);
+    }
+
+    @Override
+    public JsonToken decodeFixed(int size) throws IOException {
+        _binaryValue = null;
+        _binaryStart = _claim(size);
+        _binaryLength = size;
+        return JsonToken.VALUE_EMBEDDED_OBJECT;
+    }
+
+    @Override
+    public void skipFixed(int size) throws IOException {
+        _claim(size);
+    }
+
+    /*
+    /**********************************************************
+    /* Methods for AvroReadContext implementations: decoding Arrays, Maps
+    /**********************************************************
+     */
+
+    @Override
+    public long decodeArrayStart() throws IOException {
+        return _decodeChunkLength();
+    }
+
+    @Override
+    public long decodeArrayNext() throws IOException {
+        return _decodeChunkLength();
+    }
+
+    @Override
+    public long skipArray() throws IOException {
+        return _skipChunkElements();
+    }
+
+    @Override
+    public String decodeMapKey() throws IOException {
+        decodeString();
+        return _textBuffer.contentsAsString();
+    }
+
+    @Override
+    public long decodeMapStart() throws IOException {
+        return _decodeChunkLength();
+    }
+
+    @Override
+    public long decodeMapNext() throws IOException {
+        return _decodeChunkLength();
+    }
+
+    @Override
+    public long skipMap() throws IOException {
+        return _skipChunkElements();
+    }
+
+    // used for Arrays and Maps, first and other chunks
+    private final long _decodeChunkLength() throws IOException {
+        long result = decodeLong();
+        if (result < 0) {
+            skipLong(); // Consume byte-count if present
+            result = -result;
+        }
+        return result;
+    }
+
+    // Negative entry count means that block is prefixed with its byte size,
+    // allowing skipping of the whole block without decoding entries
+    private long _skipChunkElements() throws IOException {
+        long result = decodeLong();
+        while (result < 0L) {
+            long bytecount = decodeLong();
+            if ((bytecount < 0L) || (bytecount > (_inputEnd - _inputPtr))) {
+                _reportError("Only able to skip "+(_inputEnd - _inputPtr)
+                        +" bytes before end-of-input (needed "+bytecount+")");
+            }
+            _inputPtr += (int) bytecount;
+            result = decodeLong();
+        }
+        return result;
+    }
+
+    /*
+    /**********************************************************
+    /* Methods for AvroReadContext implementations: misc
+    /**********************************************************
+     */
+
+    @Override
+    public JsonToken decodeBoolean() throws IOException {
+        int b = _nextByte();
+        // As per Avro default impl: only `1` recognized as true (unlike
+        // "C-style" 0 == false, others true)
+        return (b == 1) ? JsonToken.VALUE_TRUE : JsonToken.VALUE_FALSE;
+    }
+
+    @Override
+    public void skipBoolean() throws IOException {
+        _claim(1);
+    }
+
+    @Override
+    public int decodeIndex() throws IOException {
+        return (_branchIndex = decodeInt());
+    }
+
+    @Override
+    public int decodeEnum() throws IOException {
+        return (_enumIndex = decodeInt());
+    }
+
+    @Override
+    public boolean checkInputEnd() throws IOException {
+        return _closed || (_inputPtr >= _inputEnd);
+    }
+
+    /*
+    /**********************************************************
+    /* Low-level methods: setting values from defaults
+    /**********************************************************
+     */
+
+    @Override
+    protected JsonToken setString(String str) throws IOException {
+        _textBuffer.resetWithString(str);
+        return JsonToken.VALUE_STRING;
+    }
+
+    /*
+    /**********************************************************
+    /* Low-level reading
+    /**********************************************************
+     */
+
+    private final byte _nextByte() throws IOException
+    {
+        int ptr = _inputPtr;
+        if (ptr >= _inputEnd) {
+            _reportInvalidEOF();
+        }
+        _inputPtr = ptr+1;
+        return _inputByteBuffer.get(ptr);
+    }
+
+    /**
+     * Helper method for consuming given number of bytes, failing if
+     * not enough content is available.
+     *
+     * @return Absolute index of the first byte consumed
+     */
+    private final int _claim(int len) throws IOException
+    {
+        final int ptr = _inputPtr;
+        if (len > (_inputEnd - ptr)) {
+            _reportError("Needed to read %d bytes, only %d available before end-of-input",
+                    len, _inputEnd - ptr);
+        }
+        _inputPtr = ptr + len;
+        return ptr;
+    }
+
+    private void _reportInvalidNegative(int v) throws IOException
+    {
+        _reportError("Invalid negative byte %x at end of VInt", v);
+    }
+}
@@ -475,9 +475,10 @@ public class JacksonAvroParserImpl extends AvroParserImpl
             int maxLeft = 9;
             int b;
             do {
-                b = _nextByteGuaranteed();
+                b = buf[ptr++];
             } while ((--maxLeft > 0) && (b < 0));
             if (b < 0) {
+                _inputPtr = ptr;
                 _reportInvalidNegative(b);
             }
         }
@@ -586,6 +587,12 @@ public class JacksonAvroParserImpl extends AvroParserImpl
         _finishShortText(len);
     }
 
+    @Override
+    public String decodeStringValue() throws IOException {
+        decodeString();
+        return _textBuffer.contentsAsString();
+    }
+
     @Override
     public void skipString() throws IOException {
         int len = decodeInt();
@@ -923,12 +930,14 @@ public class JacksonAvroParserImpl extends AvroParserImpl
         return result;
     }
 
+    // Negative entry count means that block is prefixed with its byte size,
+    // allowing skipping of the whole block without decoding entries
     private long _skipChunkElements() throws IOException {
-        int result = decodeInt();
-        while (result < 0) {
+        long result = decodeLong();
+        while (result < 0L) {
             long bytecount = decodeLong();
             _skipL(bytecount);
-            result = decodeInt();
+            result = decodeLong();
         }
         return result;
     }
@@ -2,6 +2,8 @@ package com.fasterxml.jackson.dataformat.avro.deser;
 
 import java.io.IOException;
 
+import org.apache.avro.Schema;
+
 import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.dataformat.avro.schema.AvroSchemaHelper;
 
@@ -86,6 +88,19 @@ abstract class RecordReader extends AvroStructureReader
         return _fieldReaders[_index - 1].getTypeId();
     }
 
+    /**
+     * @return Schema with which value of the field last read was written, if known
+     *
+     * @since 2.19
+     */
+    public Schema getValueWriterSchema() {
+        if (_currToken == JsonToken.FIELD_NAME || _index < 1) {
+            return null;
+        }
+        // as with type id, index pointer has already advanced to the next field
+        return _fieldReaders[_index - 1].getWriterSchema();
+    }
+
     /*
     /**********************************************************************
     /* Implementations
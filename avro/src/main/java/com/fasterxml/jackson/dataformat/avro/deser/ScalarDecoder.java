@@ -4,6 +4,8 @@ import java.io.IOException;
 import java.math.BigDecimal;
 import java.util.List;
 
+import org.apache.avro.Schema;
+
 import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.dataformat.avro.schema.AvroSchemaHelper;
 
@@ -20,7 +22,16 @@ public abstract class ScalarDecoder
     protected abstract void skipValue(AvroParserImpl parser)
         throws IOException;
 
-    public abstract AvroFieldReader asFieldReader(String name, boolean skipper);
+    public AvroFieldReader asFieldReader(String name, boolean skipper) {
+        return asFieldReader(name, skipper, null);
+    }
+
+    /**
+     * @param writerSchema Schema with which value of the field was written, if known
+     *
+     * @since 2.19
+     */
+    public abstract AvroFieldReader asFieldReader(String name, boolean skipper, Schema writerSchema);
 
     public abstract String getTypeId();
 
@@ -48,13 +59,13 @@ public abstract class ScalarDecoder
         }
 
         @Override
-        public AvroFieldReader asFieldReader(String name, boolean skipper) {
-            return new FR(name, skipper, getTypeId());
+        public AvroFieldReader asFieldReader(String name, boolean skipper, Schema writerSchema) {
+            return new FR(name, skipper, writerSchema, getTypeId());
         }
 
         private final static class FR extends AvroFieldReader {
-            public FR(String name, boolean skipper, String typeId) {
-                super(name, skipper, typeId);
+            public FR(String name, boolean skipper, Schema writerSchema, String typeId) {
+                super(name, skipper, typeId, writerSchema);
             }
 
             @Override
@@ -87,13 +98,13 @@ public abstract class ScalarDecoder
         }
 
         @Override
-        public AvroFieldReader asFieldReader(String name, boolean skipper) {
-            return new FR(name, skipper, getTypeId());
+        public AvroFieldReader asFieldReader(String name, boolean skipper, Schema writerSchema) {
+            return new FR(name, skipper, writerSchema, getTypeId());
         }
 
         private final static class FR extends AvroFieldReader {
-            public FR(String name, boolean skipper, String typeId) {
-                super(name, skipper, typeId);
+            public FR(String name, boolean skipper, Schema writerSchema, String typeId) {
+                super(name, skipper, typeId, writerSchema);
             }
 
             @Override
@@ -125,13 +136,13 @@ public abstract class ScalarDecoder
         }
 
         @Override
-        public AvroFieldReader asFieldReader(String name, boolean skipper) {
-            return new FR(name, skipper, getTypeId());
+        public AvroFieldReader asFieldReader(String name, boolean skipper, Schema writerSchema) {
+            return new FR(name, skipper, writerSchema, getTypeId());
         }
 
         private final static class FR extends AvroFieldReader {
-            public FR(String name, boolean skipper, String typeId) {
-                super(name, skipper, typeId);
+            public FR(String name, boolean skipper, Schema writerSchema, String typeId) {
+                super(name, skipper, typeId, writerSchema);
             }
 
             @Override
@@ -179,13 +190,13 @@ public abstract class ScalarDecoder
         }
 
         @Override
-        public AvroFieldReader asFieldReader(String name, boolean skipper) {
-            return new FR(name, skipper, getTypeId());
+        public AvroFieldReader asFieldReader(String name, boolean skipper, Schema writerSchema) {
+            return new FR(name, skipper, writerSchema, getTypeId());
         }
 
         private final static class FR extends AvroFieldReader {
-            public FR(String name, boolean skipper, String typeId) {
-                super(name, skipper, typeId);
+            public FR(String name, boolean skipper, Schema writerSchema, String typeId) {
+                super(name, skipper, typeId, writerSchema);
             }
 
             @Override
@@ -218,13 +229,13 @@ public abstract class ScalarDecoder
         }
 
         @Override
-        public AvroFieldReader asFieldReader(String name, boolean skipper) {
-            return new FR(name, skipper, getTypeId());
+        public AvroFieldReader asFieldReader(String name, boolean skipper, Schema writerSchema) {
+            return new FR(name, skipper, writerSchema, getTypeId());
         }
 
         private final static class FR extends AvroFieldReader {
-            public FR(String name, boolean skipper, String typeId) {
-                super(name, skipper, typeId);
+            public FR(String name, boolean skipper, Schema writerSchema, String typeId) {
+                super(name, skipper, typeId, writerSchema);
             }
 
             @Override
@@ -257,13 +268,13 @@ public abstract class ScalarDecoder
         }
 
         @Override
-        public AvroFieldReader asFieldReader(String name, boolean skipper) {
-            return new FR(name, skipper);
+        public AvroFieldReader asFieldReader(String name, boolean skipper, Schema writerSchema) {
+            return new FR(name, skipper, writerSchema);
         }
 
         private final static class FR extends AvroFieldReader {
-            public FR(String name, boolean skipper) {
-                super(name, skipper, null);
+            public FR(String name, boolean skipper, Schema writerSchema) {
+                super(name, skipper, null, writerSchema);
             }
 
             @Override
@@ -304,13 +315,13 @@ public abstract class ScalarDecoder
         }
 
         @Override
-        public AvroFieldReader asFieldReader(String name, boolean skipper) {
-            return new FR(name, skipper, getTypeId());
+        public AvroFieldReader asFieldReader(String name, boolean skipper, Schema writerSchema) {
+            return new FR(name, skipper, writerSchema, getTypeId());
         }
 
         private final static class FR extends AvroFieldReader {
-            public FR(String name, boolean skipper, String typeId) {
-                super(name, skipper, typeId);
+            public FR(String name, boolean skipper, Schema writerSchema, String typeId) {
+                super(name, skipper, typeId, writerSchema);
             }
 
             @Override
@@ -342,13 +353,13 @@ public abstract class ScalarDecoder
         }
 
         @Override
-        public AvroFieldReader asFieldReader(String name, boolean skipper) {
-            return new FR(name, skipper, getTypeId());
+        public AvroFieldReader asFieldReader(String name, boolean skipper, Schema writerSchema) {
+            return new FR(name, skipper, writerSchema, getTypeId());
         }
 
         private final static class FR extends AvroFieldReader {
-            public FR(String name, boolean skipper, String typeId) {
-                super(name, skipper, typeId);
+            public FR(String name, boolean skipper, Schema writerSchema, String typeId) {
+                super(name, skipper, typeId, writerSchema);
             }
 
             @Override
@@ -396,15 +407,15 @@ public abstract class ScalarDecoder
         }
 
         @Override
-        public AvroFieldReader asFieldReader(String name, boolean skipper) {
-            return new FR(name, skipper, _readers);
+        public AvroFieldReader asFieldReader(String name, boolean skipper, Schema writerSchema) {
+            return new FR(name, skipper, writerSchema, _readers);
         }
 
         private final static class FR extends AvroFieldReader {
             public final ScalarDecoder[] _readers;
 
-            public FR(String name, boolean skipper, ScalarDecoder[] readers) {
-                super(name, skipper, null);
+            public FR(String name, boolean skipper, Schema writerSchema, ScalarDecoder[] readers) {
+                super(name, skipper, null, writerSchema);
                 _readers = readers;
             }
 
@@ -464,15 +475,15 @@ public abstract class ScalarDecoder
         }
 
         @Override
-        public AvroFieldReader asFieldReader(String name, boolean skipper) {
-            return new FR(name, skipper, this, _name);
+        public AvroFieldReader asFieldReader(String name, boolean skipper, Schema writerSchema) {
+            return new FR(name, skipper, writerSchema, this, _name);
         }
 
         private final static class FR extends AvroFieldReader {
             protected final String[] _values;
 
-            public FR(String name, boolean skipper, EnumDecoder base, String typeId) {
-                super(name, skipper, typeId);
+            public FR(String name, boolean skipper, Schema writerSchema, EnumDecoder base, String typeId) {
+                super(name, skipper, typeId, writerSchema);
                 _values = base._values;
             }
 
@@ -524,15 +535,15 @@ public abstract class ScalarDecoder
         }
 
         @Override
-        public AvroFieldReader asFieldReader(String name, boolean skipper) {
-            return new FR(name, skipper, _size, _typeId);
+        public AvroFieldReader asFieldReader(String name, boolean skipper, Schema writerSchema) {
+            return new FR(name, skipper, writerSchema, _size, _typeId);
         }
 
         private final static class FR extends AvroFieldReader {
             private final int _size;
 
-            public FR(String name, boolean skipper, int size, String typeId) {
-                super(name, skipper, typeId);
+            public FR(String name, boolean skipper, Schema writerSchema, int size, String typeId) {
+                super(name, skipper, typeId, writerSchema);
                 _size = size;
             }
 
@@ -576,15 +587,15 @@ public abstract class ScalarDecoder
         }
 
         @Override
-        public AvroFieldReader asFieldReader(String name, boolean skipper) {
-            return new FR(name, skipper, getTypeId(), _scale, _size);
+        public AvroFieldReader asFieldReader(String name, boolean skipper, Schema writerSchema) {
+            return new FR(name, skipper, writerSchema, getTypeId(), _scale, _size);
         }
 
         private final static class FR extends AvroFieldReader {
             private final int _scale;
             private final int _size;
-            public FR(String name, boolean skipper, String typeId, int scale, int size) {
-                super(name, skipper, typeId);
+            public FR(String name, boolean skipper, Schema writerSchema, String typeId, int scale, int size) {
+                super(name, skipper, typeId, writerSchema);
                 _scale = scale;
                 _size = size;
             }
@@ -627,14 +638,14 @@ public abstract class ScalarDecoder
         }
 
         @Override
-        public AvroFieldReader asFieldReader(String name, boolean skipper) {
-            return new FR(name, skipper, getTypeId(), _scale);
+        public AvroFieldReader asFieldReader(String name, boolean skipper, Schema writerSchema) {
+            return new FR(name, skipper, writerSchema, getTypeId(), _scale);
         }
 
         private final static class FR extends AvroFieldReader {
             private final int _scale;
-            public FR(String name, boolean skipper, String typeId, int scale) {
-                super(name, skipper, typeId);
+            public FR(String name, boolean skipper, Schema writerSchema, String typeId, int scale) {
+                super(name, skipper, typeId, writerSchema);
                 _scale = scale;
             }
 
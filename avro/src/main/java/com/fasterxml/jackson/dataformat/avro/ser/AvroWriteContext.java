@@ -77,6 +77,24 @@ public abstract class AvroWriteContext
         throw new IllegalStateException("Can not be called on "+getClass().getName());
     }
 
+    /**
+     * Method called when the generator is closed, to allow flushing of any
+     * content that root context may still be buffering (such as partial block
+     * of Avro container file).
+     *
+     * @since 2.19
+     */
+    public void close() throws IOException { }
+
+    /**
+     * Method called when the generator is flushed, to allow writing out of any
+     * content that root context may be buffering (such as partial block of
+     * Avro container file).
+     *
+     * @since 2.19
+     */
+    public void flush() throws IOException { }
+
     /*
     /**********************************************************
     /* Accessors
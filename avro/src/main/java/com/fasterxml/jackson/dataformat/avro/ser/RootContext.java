@@ -4,6 +4,7 @@ import java.io.IOException;
 import java.io.OutputStream;
 
 import org.apache.avro.Schema;
+import org.apache.avro.file.CodecFactory;
 import org.apache.avro.file.DataFileWriter;
 import org.apache.avro.generic.GenericArray;
 import org.apache.avro.generic.GenericRecord;
@@ -31,6 +32,15 @@ class RootContext
      */
     private NonBSGenericDatumWriter<Object> _writer;
 
+    /**
+     * Lazily created writer for Avro container file output (if enabled):
+     * reused for root value sequences so that all values are written in
+     * blocks of the same file (with just one header).
+     *
+     * @since 2.19
+     */
+    private DataFileWriter<Object> _fileWriter;
+
     public RootContext(AvroGenerator generator, Schema schema, BinaryEncoder encoder) {
         super(TYPE_ROOT, null, generator, schema, null);
         _encoder = encoder;
@@ -106,14 +116,11 @@ class RootContext
 
         // 21-Feb-2017, tatu: As per [dataformats-binary#15], need to ensure schema gets
         //   written, if using "File" format (not raw "rpc" one)
+        //   and for [dataformats-binary#319], reuse writer for sequences of root values
         if (_generator.isEnabled(Feature.AVRO_FILE_OUTPUT)) {
-            OutputStream outputStream = (OutputStream) _generator.getOutputTarget();
-            DatumWriter<Object> datumWriter = new NonBSGenericDatumWriter<>(_schema);
-            DataFileWriter<Object> dataFileWriter = new DataFileWriter<>(datumWriter);
-
-            dataFileWriter.create(_schema, outputStream);
-            dataFileWriter.append(rootValue);
-            dataFileWriter.close();
+            if (rootValue != null) {
+                _fileWriter().append(rootValue);
+            }
             return;
         }
         // 19-Jan-2017, tatu: Gets also called for root-level scalar, in which
@@ -124,6 +131,25 @@ class RootContext
         _encoder.flush();
     }
 
+    @Override
+    public void close() throws IOException {
+        // Only flush, not close: closing of target is controlled by generator
+        DataFileWriter<Object> w = _fileWriter;
+        if (w != null) {
+            _fileWriter = null;
+            w.flush();
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        // Ends the current block (if any) of the container file
+        DataFileWriter<Object> w = _fileWriter;
+        if (w != null) {
+            w.flush();
+        }
+    }
+
     @Override
     public void appendDesc(StringBuilder sb) {
         sb.append("/");
@@ -133,6 +159,25 @@ class RootContext
         throw new IllegalStateException("Can not write values directly in root context, outside of Records/Arrays");
     }
 
+    private DataFileWriter<Object> _fileWriter() throws IOException {
+        DataFileWriter<Object> w = _fileWriter;
+        if (w == null) {
+            DatumWriter<Object> datumWriter = new NonBSGenericDatumWriter<>(_schema);
+            w = new DataFileWriter<>(datumWriter);
+            CodecFactory codec = _generator.getFileOutputCodec();
+            if (codec != null) {
+                w.setCodec(codec);
+            }
+            int syncInterval = _generator.getFileOutputSyncInterval();
+            if (syncInterval > 0) {
+                w.setSyncInterval(syncInterval);
+            }
+            w.create(_schema, (OutputStream) _generator.getOutputTarget());
+            _fileWriter = w;
+        }
+        return w;
+    }
+
     private final NonBSGenericDatumWriter<Object> _writer() {
         NonBSGenericDatumWriter<Object> w = _writer;
         if (w == null){
@@ -0,0 +1,91 @@
+package com.fasterxml.jackson.dataformat.avro;
+
+import java.io.ByteArrayInputStream;
+import java.util.*;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.dataformat.avro.apacheimpl.ApacheAvroFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BlockSizesTest extends AvroTestBase
+{
+    static String SCHEMA_JSON = aposToQuotes("{\n"+
+            " 'type':'record',\n"+
+            " 'name':'Blocks',\n"+
+            " 'fields':[\n"+
+            "    { 'name':'names', 'type': { 'type':'array', 'items':'string' } },\n"+
+            "    { 'name':'counts', 'type': { 'type':'map', 'values':'long' } },\n"+
+            "    { 'name':'id', 'type':'int' }\n"+
+            " ]\n"+
+            "}\n");
+
+    static class Blocks {
+        public List<String> names;
+        public Map<String, Long> counts;
+        public int id;
+
+        protected Blocks() { }
+        public Blocks(int count, int id) {
+            names = new ArrayList<>();
+            counts = new LinkedHashMap<>();
+            for (int i = 0; i < count; ++i) {
+                names.add("name#"+i);
+                counts.put("key#"+i, 100000L * i);
+            }
+            this.id = id;
+        }
+    }
+
+    static class IdOnly {
+        public int id;
+    }
+
+    private final AvroMapper MAPPER = AvroMapper.builder()
+            .enable(AvroGenerator.Feature.AVRO_BLOCK_SIZES)
+            .build();
+
+    private final AvroMapper APACHE_MAPPER = AvroMapper.builder(new ApacheAvroFactory())
+            .build();
+
+    @Test
+    public void testRoundtrip() throws Exception
+    {
+        final AvroSchema schema = MAPPER.schemaFrom(SCHEMA_JSON);
+        final Blocks input = new Blocks(1000, 37);
+        byte[] sized = MAPPER.writer(schema).writeValueAsBytes(input);
+        byte[] plain = getMapper().writer(schema).writeValueAsBytes(input);
+        // Sized blocks need a bit more space, for byte counts
+        assertTrue(sized.length > plain.length);
+
+        for (AvroMapper mapper : new AvroMapper[] { getMapper(), APACHE_MAPPER }) {
+            Blocks result = mapper.readerFor(Blocks.class)
+                    .with(schema)
+                    .readValue(sized);
+            assertEquals(input.names, result.names);
+            assertEquals(input.counts, result.counts);
+            assertEquals(input.id, result.id);
+        }
+    }
+
+    @Test
+    public void testSkipSizedBlocks() throws Exception
+    {
+        final AvroSchema schema = MAPPER.schemaFrom(SCHEMA_JSON);
+        final AvroSchema projected = MAPPER.projectionSchemaFor(IdOnly.class, schema);
+        for (int count : new int[] { 0, 1, 10, 5000 }) {
+            byte[] doc = MAPPER.writer(schema).writeValueAsBytes(new Blocks(count, count+1));
+            IdOnly result = getMapper().readerFor(IdOnly.class)
+                    .with(projected)
+                    .readValue(doc);
+            assertEquals(count+1, result.id);
+
+            // and same from stream, to exercise skipping past buffered content
+            result = getMapper().readerFor(IdOnly.class)
+                    .with(projected)
+                    .readValue(new ByteArrayInputStream(doc));
+            assertEquals(count+1, result.id);
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.fasterxml.jackson.dataformat.avro;
+
+import java.nio.ByteBuffer;
+import java.util.*;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.exc.StreamReadException;
+import com.fasterxml.jackson.dataformat.avro.apacheimpl.ApacheAvroFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ByteBufferInputTest extends AvroTestBase
+{
+    @JsonPropertyOrder({ "id", "names", "data", "text" })
+    static class BufferPojo {
+        public int id;
+        public List<String> names;
+        public byte[] data;
+        public String text;
+
+        protected BufferPojo() { }
+        public BufferPojo(int id, int count) {
+            this.id = id;
+            names = new ArrayList<>();
+            for (int i = 0; i < count; ++i) {
+                names.add("name-é-"+i);
+            }
+            data = new byte[count * 7];
+            for (int i = 0; i < data.length; ++i) {
+                data[i] = (byte) i;
+            }
+            StringBuilder sb = new StringBuilder();
+            for (int i = 0; i < count; ++i) {
+                sb.append("text/Ü/").append(i);
+            }
+            text = sb.toString();
+        }
+    }
+
+    static class TextOnly {
+        public String text;
+    }
+
+    private final AvroMapper MAPPER = getMapper();
+
+    @Test
+    public void testReadFromDirectBuffer() throws Exception
+    {
+        final AvroSchema schema = MAPPER.schemaFor(BufferPojo.class);
+        // big enough to require multiple loads into input buffer
+        for (int count : new int[] { 3, 5000 }) {
+            final BufferPojo input = new BufferPojo(count, count);
+            byte[] doc = MAPPER.writer(schema).writeValueAsBytes(input);
+            _verify(input, _read(MAPPER, schema, _direct(doc)));
+            _verify(input, _read(MAPPER, schema, ByteBuffer.wrap(doc).asReadOnlyBuffer()));
+            _verify(input, _read(AvroMapper.builder(new ApacheAvroFactory()).build(),
+                    schema, _direct(doc)));
+        }
+    }
+
+    @Test
+    public void testReadFromHeapBuffer() throws Exception
+    {
+        final AvroSchema schema = MAPPER.schemaFor(BufferPojo.class);
+        final BufferPojo input = new BufferPojo(42, 100);
+        byte[] doc = MAPPER.writer(schema).writeValueAsBytes(input);
+        // Use offset both for the array and buffer position
+        byte[] padded = new byte[doc.length + 20];
+        System.arraycopy(doc, 0, padded, 10, doc.length);
+        ByteBuffer bb = ByteBuffer.wrap(padded, 5, doc.length + 10).slice();
+        bb.position(5);
+        bb.limit(5 + doc.length);
+        _verify(input, _read(MAPPER, schema, bb));
+    }
+
+    @Test
+    public void testSkipWithDirectBuffer() throws Exception
+    {
+        final AvroSchema schema = MAPPER.schemaFor(BufferPojo.class);
+        final BufferPojo input = new BufferPojo(1, 5000);
+        byte[] doc = MAPPER.writer(schema).writeValueAsBytes(input);
+        AvroSchema projected = MAPPER.projectionSchemaFor(TextOnly.class, schema);
+        ByteBuffer bb = _direct(doc);
+        try (JsonParser p = MAPPER.getFactory().createParser(bb)) {
+            TextOnly result = MAPPER.readerFor(TextOnly.class)
+                    .with(projected)
+                    .readValue(p);
+            assertEquals(input.text, result.text);
+        }
+        // position of the buffer not changed
+        assertEquals(0, bb.position());
+        assertEquals(doc.length, bb.remaining());
+    }
+
+    @Test
+    public void testBufferPositionNotChanged() throws Exception
+    {
+        final AvroSchema schema = MAPPER.schemaFor(BufferPojo.class);
+        final BufferPojo input = new BufferPojo(3, 10);
+        byte[] doc = MAPPER.writer(schema).writeValueAsBytes(input);
+        for (AvroMapper mapper : new AvroMapper[] { MAPPER,
+                AvroMapper.builder(new ApacheAvroFactory()).build() }) {
+            for (ByteBuffer bb : new ByteBuffer[] { ByteBuffer.wrap(doc), _direct(doc) }) {
+                _verify(input, _read(mapper, schema, bb));
+                assertEquals(0, bb.position());
+                assertEquals(doc.length, bb.limit());
+                // and can read again
+                _verify(input, _read(mapper, schema, bb));
+            }
+        }
+    }
+
+    @Test
+    public void testBinaryValueAsSlice() throws Exception
+    {
+        final AvroSchema schema = MAPPER.schemaFor(BufferPojo.class);
+        final BufferPojo input = new BufferPojo(3, 10);
+        byte[] doc = MAPPER.writer(schema).writeValueAsBytes(input);
+        ByteBuffer bb = _direct(doc);
+        try (AvroParser p = (AvroParser) MAPPER.getFactory().createParser(bb)) {
+            p.setSchema(schema);
+            assertEquals(JsonToken.START_OBJECT, p.nextToken());
+            while (!"data".equals(p.nextFieldName())) {
+                p.nextToken();
+                p.skipChildren();
+            }
+            assertEquals(JsonToken.VALUE_EMBEDDED_OBJECT, p.nextToken());
+            ByteBuffer slice = p.getBinaryValueAsByteBuffer();
+            assertTrue(slice.isDirect());
+            assertTrue(slice.isReadOnly());
+            byte[] sliced = new byte[slice.remaining()];
+            slice.get(sliced);
+            assertArrayEquals(input.data, sliced);
+            // and accessible as `byte[]` as well
+            assertArrayEquals(input.data, p.getBinaryValue());
+            assertEquals(JsonToken.FIELD_NAME, p.nextToken());
+            assertEquals(JsonToken.VALUE_STRING, p.nextToken());
+            assertEquals(input.text, p.getText());
+        }
+    }
+
+    @Test
+    public void testTruncatedDirectBuffer() throws Exception
+    {
+        final AvroSchema schema = MAPPER.schemaFor(BufferPojo.class);
+        byte[] doc = MAPPER.writer(schema).writeValueAsBytes(new BufferPojo(3, 10));
+        ByteBuffer bb = _direct(Arrays.copyOf(doc, doc.length - 5));
+        try {
+            _read(MAPPER, schema, bb);
+            fail("Should not pass");
+        } catch (StreamReadException e) {
+            verifyException(e, "end-of-input");
+        }
+    }
+
+    private BufferPojo _read(AvroMapper mapper, AvroSchema schema, ByteBuffer bb) throws Exception
+    {
+        try (JsonParser p = mapper.getFactory().createParser(bb)) {
+            return mapper.readerFor(BufferPojo.class)
+                    .with(schema)
+                    .readValue(p);
+        }
+    }
+
+    private void _verify(BufferPojo exp, BufferPojo act)
+    {
+        assertEquals(exp.id, act.id);
+        assertEquals(exp.names, act.names);
+        assertArrayEquals(exp.data, act.data);
+        assertEquals(exp.text, act.text);
+    }
+
+    private ByteBuffer _direct(byte[] doc)
+    {
+        ByteBuffer bb = ByteBuffer.allocateDirect(doc.length);
+        bb.put(doc);
+        bb.flip();
+        return bb;
+    }
+}
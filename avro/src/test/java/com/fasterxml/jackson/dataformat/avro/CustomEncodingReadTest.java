@@ -0,0 +1,296 @@
+package com.fasterxml.jackson.dataformat.avro;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.*;
+
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaBuilder;
+import org.apache.avro.io.Decoder;
+import org.apache.avro.io.Encoder;
+import org.apache.avro.reflect.AvroEncode;
+import org.apache.avro.reflect.CustomEncoding;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.dataformat.avro.apacheimpl.ApacheAvroFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CustomEncodingReadTest extends AvroTestBase
+{
+    static class Point {
+        public int x;
+        public long y;
+        public List<String> tags = new ArrayList<>();
+        public Map<String, Double> attrs = new LinkedHashMap<>();
+    }
+
+    static class Samples {
+        public long[] values;
+
+        public Samples(long... v) { values = v; }
+    }
+
+    static class Bean {
+        public int before;
+
+        @AvroEncode(using = PointEncoding.class)
+        public Point point;
+
+        @AvroEncode(using = UUIDEncoding.class)
+        public UUID id;
+
+        @AvroEncode(using = SamplesEncoding.class)
+        public Samples samples;
+
+        public String after;
+    }
+
+    static class PointBean {
+        public int before;
+
+        @AvroEncode(using = PointEncoding.class)
+        public Point point;
+
+        public String after;
+    }
+
+    public static class PointEncoding extends CustomEncoding<Point> {
+        public PointEncoding() {
+            schema = SchemaBuilder.record("Point").fields()
+                    .requiredInt("x")
+                    .requiredLong("y")
+                    .name("tags").type().array().items().stringType().noDefault()
+                    .name("attrs").type().map().values().doubleType().noDefault()
+                    .endRecord();
+        }
+
+        @Override
+        protected void write(Object datum, Encoder out) throws IOException {
+            Point p = (Point) datum;
+            out.writeInt(p.x);
+            out.writeLong(p.y);
+            out.writeArrayStart();
+            out.setItemCount(p.tags.size());
+            for (String tag : p.tags) {
+                out.startItem();
+                out.writeString(tag);
+            }
+            out.writeArrayEnd();
+            out.writeMapStart();
+            out.setItemCount(p.attrs.size());
+            for (Map.Entry<String, Double> entry : p.attrs.entrySet()) {
+                out.startItem();
+                out.writeString(entry.getKey());
+                out.writeDouble(entry.getValue());
+            }
+            out.writeMapEnd();
+        }
+
+        @Override
+        protected Point read(Object reuse, Decoder in) throws IOException {
+            Point p = new Point();
+            p.x = in.readInt();
+            p.y = in.readLong();
+            for (long n = in.readArrayStart(); n > 0; n = in.arrayNext()) {
+                for (long i = 0; i < n; ++i) {
+                    p.tags.add(in.readString());
+                }
+            }
+            for (long n = in.readMapStart(); n > 0; n = in.mapNext()) {
+                for (long i = 0; i < n; ++i) {
+                    String key = in.readString();
+                    p.attrs.put(key, in.readDouble());
+                }
+            }
+            return p;
+        }
+    }
+
+    public static class UUIDEncoding extends CustomEncoding<UUID> {
+        public UUIDEncoding() {
+            schema = SchemaBuilder.unionOf().nullType().and().fixed("UUID").size(16).endUnion();
+        }
+
+        @Override
+        protected void write(Object datum, Encoder out) throws IOException {
+            if (datum == null) {
+                out.writeIndex(0);
+                out.writeNull();
+                return;
+            }
+            UUID uuid = (UUID) datum;
+            ByteBuffer bb = ByteBuffer.allocate(16);
+            bb.putLong(uuid.getMostSignificantBits());
+            bb.putLong(uuid.getLeastSignificantBits());
+            out.writeIndex(1);
+            out.writeFixed(bb.array());
+        }
+
+        @Override
+        protected UUID read(Object reuse, Decoder in) throws IOException {
+            if (in.readIndex() == 0) {
+                in.readNull();
+                return null;
+            }
+            byte[] b = new byte[16];
+            in.readFixed(b);
+            ByteBuffer bb = ByteBuffer.wrap(b);
+            return new UUID(bb.getLong(), bb.getLong());
+        }
+    }
+
+    public static class SamplesEncoding extends CustomEncoding<Samples> {
+        public SamplesEncoding() {
+            schema = Schema.createArray(Schema.create(Schema.Type.LONG));
+        }
+
+        @Override
+        protected void write(Object datum, Encoder out) throws IOException {
+            long[] values = ((Samples) datum).values;
+            out.writeArrayStart();
+            out.setItemCount(values.length);
+            for (long v : values) {
+                out.startItem();
+                out.writeLong(v);
+            }
+            out.writeArrayEnd();
+        }
+
+        @Override
+        protected Samples read(Object reuse, Decoder in) throws IOException {
+            List<Long> values = new ArrayList<>();
+            for (long n = in.readArrayStart(); n > 0; n = in.arrayNext()) {
+                for (long i = 0; i < n; ++i) {
+                    values.add(in.readLong());
+                }
+            }
+            long[] result = new long[values.size()];
+            for (int i = 0; i < result.length; ++i) {
+                result[i] = values.get(i);
+            }
+            return new Samples(result);
+        }
+    }
+
+    private final AvroMapper MAPPER = newMapper();
+
+    @Test
+    public void testRoundtrip() throws Exception
+    {
+        Bean input = _bean();
+        _verifyRoundtrip(MAPPER, input);
+        _verifyRoundtrip(new AvroMapper(new ApacheAvroFactory()), input);
+    }
+
+    @Test
+    public void testRoundtripEmptyAndNull() throws Exception
+    {
+        Bean input = _bean();
+        input.point = new Point();
+        input.id = null;
+        input.samples = new Samples();
+        _verifyRoundtrip(MAPPER, input);
+        _verifyRoundtrip(new AvroMapper(new ApacheAvroFactory()), input);
+    }
+
+    @Test
+    public void testMultipleRootValues() throws Exception
+    {
+        AvroSchema schema = MAPPER.schemaFor(Bean.class);
+        Bean input = _bean();
+        byte[] doc1 = MAPPER.writer(schema).writeValueAsBytes(input);
+        byte[] both = new byte[doc1.length * 2];
+        System.arraycopy(doc1, 0, both, 0, doc1.length);
+        System.arraycopy(doc1, 0, both, doc1.length, doc1.length);
+
+        Iterator<Bean> it = MAPPER.readerFor(Bean.class).with(schema).readValues(both);
+        _verify(input, it.next());
+        _verify(input, it.next());
+        assertFalse(it.hasNext());
+    }
+
+    @Test
+    public void testReadWithResolvingSchema() throws Exception
+    {
+        final AvroSchema readerSchema = MAPPER.schemaFor(PointBean.class);
+        final PointBean input = new PointBean();
+        input.before = 3;
+        input.point = _bean().point;
+        input.after = "end";
+
+        // Writer schema where values of `Point.attrs` are floats (promoted to doubles
+        // when read), so encoded `point` is not what PointEncoding would read
+        Schema writerAvroSchema = new Schema.Parser().parse(readerSchema.getAvroSchema().toString()
+                .replace("\"values\":\"double\"", "\"values\":\"float\""));
+        assertNotEquals(readerSchema.getAvroSchema(), writerAvroSchema);
+        final AvroSchema writerSchema = new AvroSchema(writerAvroSchema);
+
+        Map<String, Object> point = new LinkedHashMap<>();
+        point.put("x", input.point.x);
+        point.put("y", input.point.y);
+        point.put("tags", input.point.tags);
+        point.put("attrs", input.point.attrs);
+        Map<String, Object> bean = new LinkedHashMap<>();
+        bean.put("before", input.before);
+        bean.put("point", point);
+        bean.put("after", input.after);
+
+        for (AvroMapper mapper : new AvroMapper[] { MAPPER, new AvroMapper(new ApacheAvroFactory()) }) {
+            byte[] avro = mapper.writer(writerSchema).writeValueAsBytes(bean);
+            _verify(input, mapper.readerFor(PointBean.class)
+                    .with(writerSchema.withReaderSchema(readerSchema))
+                    .readValue(avro));
+
+            // but values written with the same schema may still be read directly
+            avro = mapper.writer(readerSchema).writeValueAsBytes(input);
+            _verify(input, mapper.readerFor(PointBean.class)
+                    .with(readerSchema.withReaderSchema(readerSchema))
+                    .readValue(avro));
+        }
+    }
+
+    private Bean _bean() {
+        Bean bean = new Bean();
+        bean.before = -17;
+        bean.point = new Point();
+        bean.point.x = 42;
+        bean.point.y = Long.MIN_VALUE;
+        bean.point.tags.addAll(Arrays.asList("a", "bc", "def"));
+        bean.point.attrs.put("pi", 3.25);
+        bean.point.attrs.put("e", -0.5);
+        bean.id = UUID.randomUUID();
+        bean.samples = new Samples(1L, -2L, 300000000000L);
+        bean.after = "end";
+        return bean;
+    }
+
+    private void _verifyRoundtrip(AvroMapper mapper, Bean input) throws Exception
+    {
+        AvroSchema schema = mapper.schemaFor(Bean.class);
+        byte[] avro = mapper.writer(schema).writeValueAsBytes(input);
+        _verify(input, mapper.readerFor(Bean.class).with(schema).readValue(avro));
+    }
+
+    private void _verify(PointBean exp, PointBean act)
+    {
+        assertEquals(exp.before, act.before);
+        assertEquals(exp.point.x, act.point.x);
+        assertEquals(exp.point.y, act.point.y);
+        assertEquals(exp.point.tags, act.point.tags);
+        assertEquals(exp.point.attrs, act.point.attrs);
+        assertEquals(exp.after, act.after);
+    }
+
+    private void _verify(Bean exp, Bean act)
+    {
+        assertEquals(exp.before, act.before);
+        assertEquals(exp.point.x, act.point.x);
+        assertEquals(exp.point.y, act.point.y);
+        assertEquals(exp.point.tags, act.point.tags);
+        assertEquals(exp.point.attrs, act.point.attrs);
+        assertEquals(exp.id, act.id);
+        assertArrayEquals(exp.samples.values, act.samples.values);
+        assertEquals(exp.after, act.after);
+    }
+}
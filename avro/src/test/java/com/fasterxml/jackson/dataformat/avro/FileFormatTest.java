@@ -1,5 +1,9 @@
 package com.fasterxml.jackson.dataformat.avro;
 
+import java.io.ByteArrayOutputStream;
+
+import org.apache.avro.file.CodecFactory;
+import org.apache.avro.file.DataFileConstants;
 import org.apache.avro.file.DataFileReader;
 import org.apache.avro.file.SeekableByteArrayInput;
 import org.apache.avro.generic.GenericDatumReader;
@@ -8,9 +12,12 @@ import org.apache.avro.io.DatumReader;
 import org.junit.jupiter.api.Test;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 // for [dataformats-binary#15]
 public class FileFormatTest extends AvroTestBase
@@ -52,4 +59,87 @@ public class FileFormatTest extends AvroTestBase
         assertNotNull(output);
         assertEquals(output.get("name").toString(), empl.name);
     }
+
+    @Test
+    public void testFileFormatSequenceWithCodec() throws Exception
+    {
+        AvroFactory af = AvroFactory.builder()
+                .enable(AvroGenerator.Feature.AVRO_FILE_OUTPUT)
+                .fileOutputCodec(CodecFactory.deflateCodec(6))
+                .fileOutputSyncInterval(2000)
+                .build();
+        ObjectMapper mapper = new ObjectMapper(af);
+        AvroSchema schema = getEmployeeSchema();
+
+        final int COUNT = 500;
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (SequenceWriter w = mapper.writer(schema).writeValues(bytes)) {
+            for (int i = 0; i < COUNT; ++i) {
+                Employee empl = new Employee();
+                empl.name = "Employee #"+i;
+                empl.age = i;
+                empl.emails = new String[] { "empl"+i+"@company.com" };
+                w.write(empl);
+            }
+        }
+
+        DatumReader<GenericRecord> datumReader = new GenericDatumReader<>(schema.getAvroSchema());
+        try (DataFileReader<GenericRecord> dataFileReader = new DataFileReader<>(
+                new SeekableByteArrayInput(bytes.toByteArray()), datumReader)) {
+            assertEquals(DataFileConstants.DEFLATE_CODEC,
+                    dataFileReader.getMetaString(DataFileConstants.CODEC));
+            int count = 0;
+            long prevSync = dataFileReader.previousSync();
+            int blocks = 0;
+            while (dataFileReader.hasNext()) {
+                GenericRecord output = dataFileReader.next();
+                assertEquals("Employee #"+count, output.get("name").toString());
+                assertEquals(count, output.get("age"));
+                if (dataFileReader.previousSync() != prevSync) {
+                    prevSync = dataFileReader.previousSync();
+                    ++blocks;
+                }
+                ++count;
+            }
+            assertEquals(COUNT, count);
+            // small sync interval should result in multiple blocks
+            assertTrue(blocks > 1, "Should have multiple blocks, got "+blocks);
+            assertFalse(dataFileReader.hasNext());
+        }
+    }
+
+    @Test
+    public void testFileFormatSequenceFlush() throws Exception
+    {
+        AvroFactory af = AvroFactory.builder()
+                .enable(AvroGenerator.Feature.AVRO_FILE_OUTPUT)
+                .build();
+        ObjectMapper mapper = new ObjectMapper(af);
+        AvroSchema schema = getEmployeeSchema();
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (SequenceWriter w = mapper.writer(schema).writeValues(bytes)) {
+            for (int i = 0; i < 3; ++i) {
+                Employee empl = new Employee();
+                empl.name = "Employee #"+i;
+                empl.age = i;
+                empl.emails = new String[0];
+                w.write(empl);
+            }
+            // flush must end the current block, so contents are readable before close
+            w.flush();
+
+            DatumReader<GenericRecord> datumReader = new GenericDatumReader<>(schema.getAvroSchema());
+            try (DataFileReader<GenericRecord> dataFileReader = new DataFileReader<>(
+                    new SeekableByteArrayInput(bytes.toByteArray()), datumReader)) {
+                int count = 0;
+                while (dataFileReader.hasNext()) {
+                    GenericRecord output = dataFileReader.next();
+                    assertEquals("Employee #"+count, output.get("name").toString());
+                    ++count;
+                }
+                assertEquals(3, count);
+            }
+        }
+    }
 }
@@ -0,0 +1,143 @@
+package com.fasterxml.jackson.dataformat.avro.schemaev;
+
+import java.util.*;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.annotation.JsonView;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.*;
+import com.fasterxml.jackson.dataformat.avro.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ProjectionTest extends AvroTestBase
+{
+    static String SCHEMA_WIDE_JSON = aposToQuotes("{\n"+
+            " 'type':'record',\n"+
+            " 'name':'WideRecord',\n"+
+            " 'fields':[\n"+
+            "    { 'name':'id', 'type':'int' },\n"+
+            "    { 'name':'tags', 'type': { 'type':'array', 'items':'string' } },\n"+
+            "    { 'name':'description', 'type':'string' },\n"+
+            "    { 'name':'attrs', 'type': { 'type':'map', 'values':'long' } },\n"+
+            "    { 'name':'score', 'type':'double' },\n"+
+            "    { 'name':'name', 'type':['null','string'] }\n"+
+            " ]\n"+
+            "}\n");
+
+    static class WideRecord {
+        public int id;
+        public List<String> tags;
+        public String description;
+        public Map<String, Long> attrs;
+        public double score;
+        public String name;
+
+        protected WideRecord() { }
+        public WideRecord(int id, String desc, double score, String name) {
+            this.id = id;
+            tags = Arrays.asList("a", "b", "c");
+            description = desc;
+            attrs = new LinkedHashMap<>();
+            attrs.put("x", 1L);
+            attrs.put("y", 2L);
+            this.score = score;
+            this.name = name;
+        }
+    }
+
+    static class Narrow {
+        public int id;
+        public String name;
+    }
+
+    static class Views {
+        static class Summary { }
+        static class Full extends Summary { }
+    }
+
+    static class Viewed {
+        @JsonView(Views.Summary.class)
+        public int id;
+
+        @JsonView(Views.Full.class)
+        public double score;
+    }
+
+    private final AvroMapper MAPPER = newMapper();
+
+    @Test
+    public void testProjectionFromPojo() throws Exception
+    {
+        final AvroSchema writerSchema = MAPPER.schemaFrom(SCHEMA_WIDE_JSON);
+        byte[] avro = MAPPER.writer(writerSchema)
+                .writeValueAsBytes(new WideRecord(42, "long description", 0.5, "Bob"));
+
+        AvroSchema projected = MAPPER.projectionSchemaFor(Narrow.class, writerSchema);
+        assertNotSame(writerSchema, projected);
+
+        Narrow result = MAPPER.readerFor(Narrow.class)
+                .with(projected)
+                .readValue(avro);
+        assertEquals(42, result.id);
+        assertEquals("Bob", result.name);
+
+        // and verify that only projected fields are exposed
+        try (JsonParser p = MAPPER.reader(projected).createParser(avro)) {
+            assertToken(JsonToken.START_OBJECT, p.nextToken());
+            assertEquals("id", p.nextFieldName());
+            assertToken(JsonToken.VALUE_NUMBER_INT, p.nextToken());
+            assertEquals(42, p.getIntValue());
+            assertEquals("name", p.nextFieldName());
+            assertToken(JsonToken.VALUE_STRING, p.nextToken());
+            assertEquals("Bob", p.getText());
+            assertToken(JsonToken.END_OBJECT, p.nextToken());
+            assertNull(p.nextToken());
+        }
+    }
+
+    @Test
+    public void testProjectionWithView() throws Exception
+    {
+        final AvroSchema writerSchema = MAPPER.schemaFrom(SCHEMA_WIDE_JSON);
+        byte[] avro = MAPPER.writer(writerSchema)
+                .writeValueAsBytes(new WideRecord(7, "desc", 2.25, null));
+
+        AvroSchema summary = MAPPER.projectionSchemaFor(MAPPER.constructType(Viewed.class),
+                writerSchema, Views.Summary.class);
+        JsonNode tree = MAPPER.reader(summary).readTree(avro);
+        assertEquals(1, tree.size());
+        assertEquals(7, tree.path("id").intValue());
+
+        AvroSchema full = MAPPER.projectionSchemaFor(MAPPER.constructType(Viewed.class),
+                writerSchema, Views.Full.class);
+        Viewed result = MAPPER.readerFor(Viewed.class)
+                .with(full)
+                .readValue(avro);
+        assertEquals(7, result.id);
+        assertEquals(2.25, result.score);
+    }
+
+    @Test
+    public void testProjectionOfAllFields() throws Exception
+    {
+        final AvroSchema writerSchema = MAPPER.schemaFrom(SCHEMA_WIDE_JSON);
+        assertSame(writerSchema, MAPPER.projectionSchemaFor(WideRecord.class, writerSchema));
+        assertSame(writerSchema, writerSchema.withProjection(
+                Arrays.asList("id", "tags", "description", "attrs", "score", "name")));
+    }
+
+    @Test
+    public void testProjectionOfNonRecord() throws Exception
+    {
+        final AvroSchema writerSchema = MAPPER.schemaFrom(STRING_ARRAY_SCHEMA_JSON);
+        try {
+            writerSchema.withProjection(Collections.singleton("id"));
+            fail("Should not pass");
+        } catch (JsonMappingException e) {
+            verifyException(e, "Can only project fields of a Record schema");
+        }
+    }
+}
@@ -17,12 +17,19 @@ package com.fasterxml.jackson.dataformat.ion;
 import java.io.*;
 
 import com.amazon.ion.*;
+import com.amazon.ion.system.IonBinaryWriterBuilder;
+import com.amazon.ion.system.IonReaderBuilder;
 import com.amazon.ion.system.IonSystemBuilder;
+import com.amazon.ion.util.IonStreamUtils;
 
 import com.fasterxml.jackson.core.*;
 import com.fasterxml.jackson.core.io.IOContext;
 import com.fasterxml.jackson.core.io.UTF8Writer;
+import com.fasterxml.jackson.core.util.RecyclerPool;
 import com.fasterxml.jackson.core.util.TextBuffer;
+import com.fasterxml.jackson.dataformat.ion.util.IonRecyclerPools;
+import com.fasterxml.jackson.dataformat.ion.util.IonWriterRecycler;
+import com.fasterxml.jackson.dataformat.ion.util.MeteredOutputStream;
 
 /**
  * Sub-class of {@link JsonFactory} that will work on Ion content, instead of JSON
@@ -42,6 +49,53 @@ public class IonFactory extends JsonFactory
      */
     protected boolean _cfgCreateBinaryWriters = false;
 
+    /**
+     * Catalog used for resolving imported shared symbol tables when reading,
+     * if other than one of {@link #_system}.
+     *
+     * @since 2.19
+     */
+    protected final IonCatalog _catalog;
+
+    /**
+     * Shared symbol tables binary writers import, if any.
+     *
+     * @since 2.19
+     */
+    protected final SymbolTable[] _symbolTableImports;
+
+    /**
+     * Builder for readers that use {@link #_catalog}, if one configured;
+     * {@code null} if readers are constructed by {@link #_system}.
+     *
+     * @since 2.19
+     */
+    protected final transient IonReaderBuilder _readerBuilder;
+
+    /**
+     * Pool used for recycling binary {@link IonWriter}s between generators.
+     *
+     * @since 2.19
+     */
+    protected RecyclerPool<IonWriterRecycler> _ionWriterRecyclerPool
+        = IonRecyclerPools.defaultPool();
+
+    /**
+     * Amount of buffered content after which binary writers flush at the end
+     * of current top-level value; 0 if no limit.
+     *
+     * @since 2.19
+     */
+    protected final int _binaryWriterFlushThreshold;
+
+    /**
+     * Builder for binary writers that flush at {@link #_binaryWriterFlushThreshold},
+     * if one configured; {@code null} if writers are constructed by {@link #_system}.
+     *
+     * @since 2.19
+     */
+    protected final transient IonBinaryWriterBuilder _binaryWriterBuilder;
+
     /**
      * Bitfield (set of flags) of all parser features that are enabled
      * by default.
@@ -54,6 +108,8 @@ public class IonFactory extends JsonFactory
      */
     protected final static int DEFAULT_ION_GENERATOR_FEATURE_FLAGS = IonGenerator.Feature.collectDefaults();
 
+    private final static SymbolTable[] NO_IMPORTS = new SymbolTable[0];
+
     protected int _ionParserFeatures = DEFAULT_ION_PARSER_FEATURE_FLAGS;
 
     protected int _ionGeneratorFeatures = DEFAULT_ION_GENERATOR_FEATURE_FLAGS;
@@ -69,6 +125,11 @@ public class IonFactory extends JsonFactory
     public IonFactory(ObjectCodec mapper, IonSystem system) {
         super(mapper);
         _system = system;
+        _catalog = null;
+        _symbolTableImports = NO_IMPORTS;
+        _readerBuilder = null;
+        _binaryWriterFlushThreshold = 0;
+        _binaryWriterBuilder = null;
     }
 
     protected IonFactory(IonFactory src, ObjectCodec oc)
@@ -78,6 +139,13 @@ public class IonFactory extends JsonFactory
         //    too; for now assume it may be shared.
         _system = src._system;
         _cfgCreateBinaryWriters = src._cfgCreateBinaryWriters;
+        _catalog = src._catalog;
+        _symbolTableImports = src._symbolTableImports;
+        _readerBuilder = _constructReaderBuilder(_catalog);
+        _ionWriterRecyclerPool = src._ionWriterRecyclerPool;
+        _binaryWriterFlushThreshold = src._binaryWriterFlushThreshold;
+        _binaryWriterBuilder = _constructBinaryWriterBuilder(_binaryWriterFlushThreshold,
+                _symbolTableImports);
     }
 
     /**
@@ -87,6 +155,14 @@ public class IonFactory extends JsonFactory
         super(b, false);
         _cfgCreateBinaryWriters = b.willCreateBinaryWriters();
         _system = b.ionSystem();
+        _catalog = b.ionCatalog();
+        SymbolTable[] imports = b.symbolTableImports();
+        _symbolTableImports = (imports == null) ? NO_IMPORTS : imports.clone();
+        _readerBuilder = _constructReaderBuilder(_catalog);
+        _ionWriterRecyclerPool = b.ionWriterRecyclerPool();
+        _binaryWriterFlushThreshold = b.binaryWriterFlushThreshold();
+        _binaryWriterBuilder = _constructBinaryWriterBuilder(_binaryWriterFlushThreshold,
+                _symbolTableImports);
         _ionParserFeatures = b.formatParserFeaturesMask();
         _ionGeneratorFeatures = b.formatGeneratorFeaturesMask();
     }
@@ -309,6 +385,37 @@ public class IonFactory extends JsonFactory
         return _system;
     }
 
+    /**
+     * Accessor for catalog used for resolving shared symbol tables when reading,
+     * if one configured (see {@link IonFactoryBuilder#ionCatalog}); {@code null}
+     * if catalog of {@link #getIonSystem()} is used.
+     *
+     * @since 2.19
+     */
+    public IonCatalog getIonCatalog() {
+        return _catalog;
+    }
+
+    /**
+     * Accessor for shared symbol tables that binary writers import
+     * (see {@link IonFactoryBuilder#symbolTableImports}).
+     *
+     * @since 2.19
+     */
+    public SymbolTable[] getSymbolTableImports() {
+        return _symbolTableImports.clone();
+    }
+
+    /**
+     * Accessor for amount of buffered content after which binary writers
+     * flush (see {@link IonFactoryBuilder#binaryWriterFlushThreshold}); 0 if no limit.
+     *
+     * @since 2.19
+     */
+    public int getBinaryWriterFlushThreshold() {
+        return _binaryWriterFlushThreshold;
+    }
+
     /**
      * @deprecated Since 2.7
      */
@@ -343,7 +450,8 @@ public class IonFactory extends JsonFactory
     protected JsonParser _createParser(InputStream in, IOContext ctxt)
         throws IOException
     {
-        IonReader ion = _system.newReader(in);
+        IonReader ion = (_readerBuilder == null) ? _system.newReader(in)
+                : _readerBuilder.build(in);
         return new IonParser(ion, _system,
                 _createContext(_createContentReference(ion), true), getCodec(), _ionParserFeatures);
     }
@@ -352,7 +460,8 @@ public class IonFactory extends JsonFactory
     protected JsonParser _createParser(Reader r, IOContext ctxt)
         throws IOException
     {
-        IonReader ion = _system.newReader(r);
+        IonReader ion = (_readerBuilder == null) ? _system.newReader(r)
+                : _readerBuilder.build(r);
         return new IonParser(ion, _system,
                 _createContext(_createContentReference(ion), true), getCodec(), _ionParserFeatures);
     }
@@ -368,9 +477,25 @@ public class IonFactory extends JsonFactory
     protected JsonParser _createParser(byte[] data, int offset, int len, IOContext ctxt)
         throws IOException
     {
-        IonReader ion = _system.newReader(data, offset, len);
-        return new IonParser(ion, _system,
+        IonReader ion = _createReader(data, offset, len);
+        IonParser p = new IonParser(ion, _system,
                 _createContext(_createContentReference(ion), true), getCodec(), _ionParserFeatures);
+        // spans of textual content can not be reliably hoisted by other readers
+        if (IonStreamUtils.isIonBinary(data, offset, len)) {
+            p.setSourceBuffer(data, offset, len);
+        }
+        return p;
+    }
+
+    /**
+     * Helper method for constructing {@link IonReader} for given content,
+     * using catalog configured (if any).
+     *
+     * @since 2.19
+     */
+    protected IonReader _createReader(byte[] data, int offset, int len) {
+        return (_readerBuilder == null) ? _system.newReader(data, offset, len)
+                : _readerBuilder.build(data, offset, len);
     }
 
     @Override
@@ -436,31 +561,61 @@ public class IonFactory extends JsonFactory
         return result;
     }
 
+    protected static IonReaderBuilder _constructReaderBuilder(IonCatalog catalog) {
+        if (catalog == null) {
+            return null;
+        }
+        return IonReaderBuilder.standard().withCatalog(catalog).immutable();
+    }
+
+    protected static IonBinaryWriterBuilder _constructBinaryWriterBuilder(int flushThreshold,
+            SymbolTable[] imports)
+    {
+        if (flushThreshold <= 0) {
+            return null;
+        }
+        // Since content may be flushed before all symbols are known, appending
+        // to local symbol table avoids repeating already written symbols
+        return IonBinaryWriterBuilder.standard()
+                .withImports(imports)
+                .withLocalSymbolTableAppendEnabled()
+                .withAutoFlushEnabled(true)
+                .withBlockSize(flushThreshold)
+                .immutable();
+    }
+
     protected IonGenerator _createGenerator(OutputStream out, JsonEncoding enc, boolean isManaged)
          throws IOException
      {
-        IonWriter ion;
         IOContext ctxt = _createContext(_createContentReference(out), isManaged);
-        Closeable dst; // not necessarily same as 'out'...
 
-        // Binary writers are simpler: no alternate encodings
+        // Binary writers are simpler: no alternate encodings; and may be recycled
         if (createBinaryWriters()) {
             ctxt.setEncoding(enc);
-            ion = _system.newBinaryWriter(out);
-            dst = out;
-        } else {
-            if (enc != JsonEncoding.UTF8) { // not sure if non-UTF-8 encodings would be legal...
-                throw new IOException("Ion only supports UTF-8 encoding, can not use "+enc);
+            final MeteredOutputStream metered = new MeteredOutputStream(out);
+            final IonGenerator g;
+            if (_binaryWriterBuilder != null) {
+                g = _createGenerator(_binaryWriterBuilder.build(metered), true, ctxt, out);
+            } else {
+                IonWriterRecycler recycler = _ionWriterRecyclerPool.acquireAndLinkPooled();
+                IonWriterRecycler.PooledBinaryWriter pooled = recycler.acquireBinaryWriter(_system,
+                        _symbolTableImports);
+                g = _createGenerator(pooled.writeTo(metered), true, ctxt, out);
+                g.setPooledWriter(recycler, pooled);
             }
-            // In theory Ion package could take some advantage of getting OutputStream.
-            // In practice we seem to be better off using Jackson's efficient buffering encoder
-
-            ctxt.setEncoding(enc);
-            Writer w = new UTF8Writer(ctxt, out);
-            ion = _system.newTextWriter(w);
-            dst = w;
+            g.setOutputMetrics(metered);
+            return g;
+        }
+        if (enc != JsonEncoding.UTF8) { // not sure if non-UTF-8 encodings would be legal...
+            throw new IOException("Ion only supports UTF-8 encoding, can not use "+enc);
         }
-        return _createGenerator(ion, true, ctxt, dst);
+        // In theory Ion package could take some advantage of getting OutputStream.
+        // In practice we seem to be better off using Jackson's efficient buffering encoder
+
+        ctxt.setEncoding(enc);
+        Writer w = new UTF8Writer(ctxt, out);
+        // (note: `Writer` is not necessarily same as 'out'...)
+        return _createGenerator(_system.newTextWriter(w), true, ctxt, w);
     }
 
     protected IonGenerator _createGenerator(IonWriter ion, boolean ionWriterIsManaged,
@@ -1,9 +1,15 @@
 package com.fasterxml.jackson.dataformat.ion;
 
+import com.amazon.ion.IonCatalog;
 import com.amazon.ion.IonSystem;
+import com.amazon.ion.SymbolTable;
 import com.amazon.ion.system.IonSystemBuilder;
+import com.amazon.ion.system.SimpleCatalog;
 
 import com.fasterxml.jackson.core.TSFBuilder;
+import com.fasterxml.jackson.core.util.RecyclerPool;
+import com.fasterxml.jackson.dataformat.ion.util.IonRecyclerPools;
+import com.fasterxml.jackson.dataformat.ion.util.IonWriterRecycler;
 
 /**
  * {@link com.fasterxml.jackson.core.TSFBuilder}
@@ -28,6 +34,39 @@ public class IonFactoryBuilder extends TSFBuilder<IonFactory, IonFactoryBuilder>
 
     protected boolean _createBinaryWriters;
 
+    /**
+     * Catalog used for resolving shared symbol tables imported by content
+     * being read, if any; if {@code null}, catalog of the {@link IonSystem}
+     * is used, unless {@link #_symbolTableImports} are configured (in which
+     * case a catalog with those tables is constructed).
+     *
+     * @since 2.19
+     */
+    protected IonCatalog _catalog;
+
+    /**
+     * Shared symbol tables that binary writers import, so that symbols they
+     * contain need not be included in local symbol table of output.
+     *
+     * @since 2.19
+     */
+    protected SymbolTable[] _symbolTableImports;
+
+    /**
+     * Pool used for recycling binary writers between generators.
+     *
+     * @since 2.19
+     */
+    protected RecyclerPool<IonWriterRecycler> _ionWriterRecyclerPool;
+
+    /**
+     * Amount of buffered content (in bytes) after which binary writers flush
+     * content at the end of the current top-level value; 0 if no limit.
+     *
+     * @since 2.19
+     */
+    protected int _binaryWriterFlushThreshold;
+
     /**
      * Set of {@link IonParser.Feature}s enabled, as bitmask.
      *
@@ -57,6 +96,10 @@ public class IonFactoryBuilder extends TSFBuilder<IonFactory, IonFactoryBuilder>
     public IonFactoryBuilder(IonFactory base) {
         super(base);
         _createBinaryWriters = base._cfgCreateBinaryWriters;
+        _catalog = base._catalog;
+        _symbolTableImports = base._symbolTableImports;
+        _ionWriterRecyclerPool = base._ionWriterRecyclerPool;
+        _binaryWriterFlushThreshold = base._binaryWriterFlushThreshold;
         _formatParserFeatures = base._ionParserFeatures;
         _formatGeneratorFeatures = base._ionGeneratorFeatures;
     }
@@ -88,6 +131,73 @@ public class IonFactoryBuilder extends TSFBuilder<IonFactory, IonFactoryBuilder>
         return this;
     }
 
+    /**
+     * Method for specifying catalog used by parsers to resolve shared symbol
+     * tables that content being read imports.
+     *
+     * @since 2.19
+     */
+    public IonFactoryBuilder ionCatalog(IonCatalog catalog) {
+        _catalog = catalog;
+        return this;
+    }
+
+    /**
+     * Method for specifying shared symbol tables that binary writers should
+     * import: symbols (like field names) found in these tables are written
+     * as symbol ids, without declaring them in local symbol table of output.
+     * Readers of such content need to have the same tables in their catalog;
+     * if no catalog is specified with {@link #ionCatalog}, parsers created
+     * by the factory will use a catalog with these tables.
+     *
+     * @since 2.19
+     */
+    public IonFactoryBuilder symbolTableImports(SymbolTable... imports) {
+        _symbolTableImports = imports;
+        return this;
+    }
+
+    /**
+     * Method for specifying pool used for recycling binary {@link com.amazon.ion.IonWriter}s
+     * between generators; see {@link IonRecyclerPools} for available implementations.
+     * If not specified, {@link IonRecyclerPools#defaultPool()} is used; recycling
+     * may be disabled by passing {@link IonRecyclerPools#nonRecyclingPool()}.
+     *
+     * @since 2.19
+     */
+    public IonFactoryBuilder ionWriterRecyclerPool(RecyclerPool<IonWriterRecycler> pool) {
+        _ionWriterRecyclerPool = pool;
+        return this;
+    }
+
+    /**
+     * Method for limiting amount of content binary writers buffer in memory.
+     * Since binary Ion containers are prefixed by their length, binary writers
+     * buffer content until explicitly flushed (usually when generator is closed).
+     * With threshold specified, writers instead flush content at the end of
+     * top-level values once buffered content has exceeded threshold, so that
+     * memory usage for long sequences of top-level values remains bounded;
+     * note, however, that a single top-level value is always buffered fully.
+     * Threshold is used as block size of the writer buffers, and exceeding it is
+     * only detected when a block fills up, so amount of content buffered
+     * may be a few times the threshold (see {@link IonGenerator#getMaxBytesBuffered()}
+     * for actual amount).
+     *<p>
+     * Default value of {@code 0} means that no threshold is used. Note that
+     * writers with threshold are not recycled between generators.
+     *
+     * @param bytes Threshold in bytes; or 0 to disable
+     *
+     * @since 2.19
+     */
+    public IonFactoryBuilder binaryWriterFlushThreshold(int bytes) {
+        if (bytes < 0) {
+            throw new IllegalArgumentException("Invalid flush threshold ("+bytes+"): can not be negative");
+        }
+        _binaryWriterFlushThreshold = bytes;
+        return this;
+    }
+
     /*
     /**********************************************************
     /* Configuration: on/off features
@@ -173,6 +283,44 @@ public class IonFactoryBuilder extends TSFBuilder<IonFactory, IonFactoryBuilder>
         return _system;
     }
 
+    /**
+     * @since 2.19
+     */
+    public IonCatalog ionCatalog() {
+        if ((_catalog == null) && (_symbolTableImports != null) && (_symbolTableImports.length > 0)) {
+            SimpleCatalog catalog = new SimpleCatalog();
+            for (SymbolTable table : _symbolTableImports) {
+                catalog.putTable(table);
+            }
+            return catalog;
+        }
+        return _catalog;
+    }
+
+    /**
+     * @since 2.19
+     */
+    public SymbolTable[] symbolTableImports() {
+        return _symbolTableImports;
+    }
+
+    /**
+     * @since 2.19
+     */
+    public RecyclerPool<IonWriterRecycler> ionWriterRecyclerPool() {
+        if (_ionWriterRecyclerPool == null) {
+            return IonRecyclerPools.defaultPool();
+        }
+        return _ionWriterRecyclerPool;
+    }
+
+    /**
+     * @since 2.19
+     */
+    public int binaryWriterFlushThreshold() {
+        return _binaryWriterFlushThreshold;
+    }
+
     public int formatParserFeaturesMask() { return _formatParserFeatures; }
     public int formatGeneratorFeaturesMask() { return _formatGeneratorFeatures; }
 }
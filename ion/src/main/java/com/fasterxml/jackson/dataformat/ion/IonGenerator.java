@@ -28,6 +28,9 @@ import com.fasterxml.jackson.core.io.IOContext;
 import com.fasterxml.jackson.core.json.JsonWriteContext;
 import com.fasterxml.jackson.core.util.JacksonFeatureSet;
 import com.fasterxml.jackson.dataformat.ion.polymorphism.IonAnnotationTypeSerializer;
+import com.fasterxml.jackson.dataformat.ion.util.IonValueTreeWriter;
+import com.fasterxml.jackson.dataformat.ion.util.IonWriterRecycler;
+import com.fasterxml.jackson.dataformat.ion.util.MeteredOutputStream;
 
 /**
  * Implementation of {@link JsonGenerator} that will use an underlying
@@ -117,6 +120,29 @@ public class IonGenerator
      */
     protected final Closeable _destination;
 
+    /**
+     * Recycler to return pooled writer ({@link #_pooledWriter}) to, if one used.
+     *
+     * @since 2.19
+     */
+    protected IonWriterRecycler _writerRecycler;
+
+    /**
+     * If {@link #_writer} is pooled, its handle, to be returned to
+     * {@link #_writerRecycler} when generator is closed.
+     *
+     * @since 2.19
+     */
+    protected IonWriterRecycler.PooledBinaryWriter _pooledWriter;
+
+    /**
+     * Stream binary writer writes to, if generator was constructed
+     * for {@link OutputStream}: used for buffering metrics.
+     *
+     * @since 2.19
+     */
+    protected MeteredOutputStream _outputMetrics;
+
     /*
     /**********************************************************************
     /* Instantiation
@@ -141,6 +167,49 @@ public class IonGenerator
         return PackageVersion.VERSION;
     }
 
+    /**
+     * Method called by {@link IonFactory} if {@link #_writer} is a pooled
+     * instance, to be returned to the pool when generator is closed.
+     *
+     * @since 2.19
+     */
+    void setPooledWriter(IonWriterRecycler recycler, IonWriterRecycler.PooledBinaryWriter pooled) {
+        _writerRecycler = recycler;
+        _pooledWriter = pooled;
+    }
+
+    /**
+     * Method called by {@link IonFactory} when binary writer writes
+     * through given stream.
+     *
+     * @since 2.19
+     */
+    void setOutputMetrics(MeteredOutputStream metrics) {
+        _outputMetrics = metrics;
+    }
+
+    private void _releasePooledWriter() throws IOException
+    {
+        final IonWriterRecycler.PooledBinaryWriter pooled = _pooledWriter;
+        final IonWriterRecycler recycler = _writerRecycler;
+        _pooledWriter = null;
+        _writerRecycler = null;
+        boolean finished = false;
+        try {
+            // writes out remaining content; if this fails, writer is not reusable
+            pooled.finish();
+            finished = true;
+        } catch (IllegalStateException e) {
+            // Container still open: as with non-pooled writers, incomplete
+            // content is just dropped (along with the writer)
+        } finally {
+            if (finished) {
+                recycler.release(pooled);
+            }
+            recycler.releaseToPool();
+        }
+    }
+
     @Override
     public StreamWriteConstraints streamWriteConstraints() {
         return _streamWriteConstraints;
@@ -156,19 +225,34 @@ public class IonGenerator
     public void close() throws IOException
     {
         if (!isClosed()) {
-            if (_ionWriterIsManaged) {
-                _writer.close();
-            }
-            if (_ioContext.isResourceManaged()) {
-                _destination.close();
-            } else {
-                if (isEnabled(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM)) {
-                    if (_destination instanceof Flushable) {
-                        ((Flushable) _destination).flush();
+            // Caller-provided IonWriter is the destination itself, never closed
+            final boolean closeTarget = _ioContext.isResourceManaged()
+                    || (_ionWriterIsManaged && isEnabled(JsonGenerator.Feature.AUTO_CLOSE_TARGET));
+            try {
+                if (_pooledWriter != null) {
+                    _releasePooledWriter();
+                } else if (_ionWriterIsManaged) {
+                    // Binary writers write through MeteredOutputStream which never closes
+                    // the target; but text writers do, so those are only flushed if need be
+                    if (closeTarget || (_outputMetrics != null)) {
+                        _writer.close();
+                    } else {
+                        _writer.flush();
+                    }
+                }
+            } finally {
+                try {
+                    if (closeTarget) {
+                        _destination.close();
+                    } else if (isEnabled(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM)) {
+                        if (_destination instanceof Flushable) {
+                            ((Flushable) _destination).flush();
+                        }
                     }
+                } finally {
+                    super.close();
                 }
             }
-            super.close();
         }
     }
 
@@ -209,6 +293,42 @@ public class IonGenerator
         return DEFAULT_BINARY_WRITE_CAPABILITIES;
     }
 
+    /*
+    /**********************************************************************
+    /* Buffering metrics
+    /**********************************************************************
+     */
+
+    /**
+     * Accessor for number of bytes binary writer has written to the output
+     * so far (not including content it has buffered).
+     *
+     * @return Number of bytes written; or -1 if not known (generator not
+     *    writing binary Ion into {@link OutputStream})
+     *
+     * @since 2.19
+     */
+    public long getBytesWritten() {
+        return (_outputMetrics == null) ? -1L : _outputMetrics.getBytesWritten();
+    }
+
+    /**
+     * Accessor for peak amount of content binary writer has buffered before
+     * writing it out, so far: since content is buffered until flushed
+     * (see {@link IonFactoryBuilder#binaryWriterFlushThreshold}), this is
+     * the largest amount of content written out by a single flush.
+     * Note that until generator is closed, content buffered but not yet written
+     * out is not included.
+     *
+     * @return Maximum number of bytes buffered; or -1 if not known (generator not
+     *    writing binary Ion into {@link OutputStream})
+     *
+     * @since 2.19
+     */
+    public long getMaxBytesBuffered() {
+        return (_outputMetrics == null) ? -1L : _outputMetrics.getMaxBytesBetweenFlushes();
+    }
+
     /*
     /**********************************************************************
     /* JsonGenerator implementation: write numeric values
@@ -410,11 +530,30 @@ public class IonGenerator
         _verifyValueWrite("write ion value");
         if (value == null) {
             _writer.writeNull();
+        } else if (_writer instanceof IonValueTreeWriter) {
+            // can only write into Ion's own writers, but tree writer copies as is
+            ((IonValueTreeWriter) _writer).writeIonValue(value);
         } else {
             value.writeTo(_writer);
         }
     }
 
+    /**
+     * Method for writing value referred to by given handle: unless value has
+     * been materialized, it is copied from its source without constructing
+     * {@link IonValue}.
+     *
+     * @since 2.19
+     */
+    public void writeValue(LazyIonValue value) throws IOException {
+        if ((value == null) || value.isMaterialized()) {
+            writeValue((value == null) ? null : value.getValue());
+            return;
+        }
+        _verifyValueWrite("write ion value");
+        value.writeTo(_writer);
+    }
+
     public void writeValue(Timestamp value) throws IOException {
         _verifyValueWrite("write timestamp");
         if (value == null) {
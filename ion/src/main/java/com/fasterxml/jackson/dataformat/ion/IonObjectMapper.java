@@ -15,17 +15,33 @@
 package com.fasterxml.jackson.dataformat.ion;
 
 import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
 
 import com.amazon.ion.*;
 import com.amazon.ion.system.IonSystemBuilder;
+import com.amazon.ion.util.IonStreamUtils;
 
+import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.core.Version;
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.BeanDescription;
 import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.MappingIterator;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.cfg.MapperBuilder;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
 import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.dataformat.ion.util.IonValueTreeWriter;
 
 /**
  * Specialization of {@link ObjectMapper} that will set underlying
@@ -251,6 +267,237 @@ public class IonObjectMapper extends ObjectMapper
         return (IonFactory) _jsonFactory;
     }
 
+    /*
+     ************************************************************************
+     * Shared symbol table support
+     ************************************************************************
+     */
+
+    /**
+     * Method for constructing a shared symbol table that contains names of
+     * all properties (as serialized with configuration of this mapper)
+     * of given POJO types: intended to be used with
+     * {@link IonFactoryBuilder#symbolTableImports} so that binary output
+     * need not contain local symbol table declaring these names.
+     *<p>
+     * Note that properties of types of properties are NOT included: all types
+     * whose property names are to be included need to be passed.
+     * Also note that symbol ids are assigned in order of types and properties
+     * so the same (name, version) must always be constructed with the same types.
+     *
+     * @param name Name of shared symbol table
+     * @param version Version of shared symbol table (for versions above 1, the
+     *    preceding version must be available from catalog of {@link IonSystem})
+     * @param types POJO types to include property names of
+     *
+     * @since 2.19
+     */
+    public SymbolTable generateSharedSymbolTable(String name, int version, Class<?>... types)
+    {
+        Set<String> symbols = new LinkedHashSet<>();
+        for (Class<?> type : types) {
+            BeanDescription desc = _serializationConfig.introspect(constructType(type));
+            for (BeanPropertyDefinition prop : desc.findProperties()) {
+                if (prop.couldSerialize()) {
+                    symbols.add(prop.getName());
+                }
+            }
+        }
+        return getFactory().getIonSystem().newSharedSymbolTable(name, version, symbols.iterator());
+    }
+
+    /*
+     ************************************************************************
+     * Bulk reading of top-level value sequences
+     ************************************************************************
+     */
+
+    /**
+     * Default number of top-level values bound by a single task in
+     * {@link #readValuesInParallel(byte[], Class, ExecutorService)}.
+     *
+     * @since 2.19
+     */
+    public final static int DEFAULT_PARALLEL_SEGMENT_SIZE = 1000;
+
+    /**
+     * Method for binding all top-level values of given Ion content, using
+     * given executor to bind values in parallel; results are returned in
+     * document order.
+     *
+     * @since 2.19
+     */
+    public <T> List<T> readValuesInParallel(byte[] content, Class<T> valueType,
+            ExecutorService executor) throws IOException
+    {
+        return readValuesInParallel(content, 0, content.length,
+                _typeFactory.constructType(valueType), executor, DEFAULT_PARALLEL_SEGMENT_SIZE);
+    }
+
+    /**
+     * Method for binding all top-level values of given Ion content, using
+     * given executor to bind values in parallel; results are returned in
+     * document order.
+     *<p>
+     * Content is scanned for boundaries of top-level values: this is
+     * cheap for binary Ion as values are skipped using their length prefixes,
+     * without decoding. Values are then split into segments of
+     * {@code segmentSize} values, each of which is bound by a separate
+     * task using its own {@link IonReader}; symbol table context of each
+     * value is retained so segments need not start at symbol table boundaries.
+     * Textual content is bound sequentially by the calling thread instead.
+     *<p>
+     * Note that all content must be in a single array (so it is limited to
+     * 2 GB), and that all bound values are retained in the returned
+     * {@link List}: for content with more values than is practical to keep
+     * in memory, use
+     * {@link #readValuesInParallel(byte[], int, int, JavaType, ExecutorService, int, int, Consumer)}
+     * instead. Contents of the buffer must not be modified until this
+     * method returns.
+     *
+     * @param segmentSize Maximum number of values bound by a single task
+     *
+     * @since 2.19
+     */
+    public <T> List<T> readValuesInParallel(byte[] content, int offset, int len,
+            JavaType valueType, ExecutorService executor, int segmentSize)
+        throws IOException
+    {
+        final List<T> result = new ArrayList<>();
+        this.<T>readValuesInParallel(content, offset, len, valueType, executor, segmentSize,
+                Integer.MAX_VALUE, result::addAll);
+        return result;
+    }
+
+    /**
+     * Method for binding all top-level values of given Ion content, using
+     * given executor to bind values in parallel (see
+     * {@link #readValuesInParallel(byte[], int, int, JavaType, ExecutorService, int)}
+     * for details), but instead of collecting all values, passing each segment
+     * of bound values to given consumer as soon as it and all preceding segments
+     * have been bound, so that values are consumed in document order.
+     * Consumer is called by the calling thread.
+     *<p>
+     * Scanning of content is interleaved with binding: at most
+     * {@code maxPendingSegments} segments are being bound (or waiting to be
+     * consumed) at any given time, so memory needed for bound values is bounded
+     * by {@code maxPendingSegments * segmentSize} values regardless of
+     * total number of values in content.
+     *
+     * @param segmentSize Maximum number of values bound by a single task
+     * @param maxPendingSegments Maximum number of segments submitted to executor
+     *    but not yet passed to consumer
+     * @param consumer Consumer to pass segments of bound values to
+     *
+     * @since 2.19
+     */
+    public <T> void readValuesInParallel(byte[] content, int offset, int len,
+            JavaType valueType, ExecutorService executor, int segmentSize,
+            int maxPendingSegments, Consumer<? super List<T>> consumer)
+        throws IOException
+    {
+        _assertNotNull("content", content);
+        _assertNotNull("executor", executor);
+        _assertNotNull("consumer", consumer);
+        if (segmentSize < 1) {
+            throw new IllegalArgumentException("Invalid segmentSize ("+segmentSize+"): must be positive");
+        }
+        if (maxPendingSegments < 1) {
+            throw new IllegalArgumentException("Invalid maxPendingSegments ("+maxPendingSegments+"): must be positive");
+        }
+        // Seeking only reliably supported for binary content
+        if (!IonStreamUtils.isIonBinary(content, offset, len)) {
+            try (MappingIterator<T> it = readerFor(valueType).readValues(content, offset, len)) {
+                List<T> segment = new ArrayList<>();
+                while (it.hasNextValue()) {
+                    segment.add(it.nextValue());
+                    if (segment.size() == segmentSize) {
+                        consumer.accept(segment);
+                        segment = new ArrayList<>();
+                    }
+                }
+                if (!segment.isEmpty()) {
+                    consumer.accept(segment);
+                }
+            }
+            return;
+        }
+        final IonFactory f = getFactory();
+        final ArrayDeque<Future<List<T>>> pending = new ArrayDeque<>();
+        try (IonReader scanner = f._createReader(content, offset, len)) {
+            final SpanProvider spanProvider = scanner.asFacet(SeekableReader.class);
+            List<Span> segment = new ArrayList<>();
+            boolean more;
+            do {
+                try {
+                    more = (scanner.next() != null);
+                } catch (IonException e) {
+                    throw new JsonParseException(null, "Invalid Ion content: "+e.getMessage(), e);
+                }
+                if (more) {
+                    segment.add(spanProvider.currentSpan());
+                    if (segment.size() < segmentSize) {
+                        continue;
+                    }
+                }
+                if (!segment.isEmpty()) {
+                    if (pending.size() >= maxPendingSegments) {
+                        consumer.accept(_awaitSegment(pending.removeFirst()));
+                    }
+                    final List<Span> spans = segment;
+                    pending.add(executor.submit(() -> _bindSegment(f, content, offset, len,
+                            valueType, spans)));
+                    segment = new ArrayList<>();
+                }
+            } while (more);
+
+            while (!pending.isEmpty()) {
+                consumer.accept(_awaitSegment(pending.removeFirst()));
+            }
+        } finally {
+            // only relevant if failing: no need to bind values nobody will see
+            for (Future<?> future : pending) {
+                future.cancel(true);
+            }
+        }
+    }
+
+    private <T> List<T> _bindSegment(IonFactory f, byte[] content, int offset, int len,
+            JavaType valueType, List<Span> segment) throws IOException
+    {
+        List<T> values = new ArrayList<>(segment.size());
+        try (IonReader r = f._createReader(content, offset, len)) {
+            SeekableReader seekable = r.asFacet(SeekableReader.class);
+            for (Span span : segment) {
+                seekable.hoist(span);
+                values.add(readValue(r, valueType));
+            }
+        }
+        return values;
+    }
+
+    private static <T> T _awaitSegment(Future<T> future) throws IOException
+    {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while binding Ion values");
+        } catch (ExecutionException e) {
+            Throwable t = e.getCause();
+            if (t instanceof IOException) {
+                throw (IOException) t;
+            }
+            if (t instanceof RuntimeException) {
+                throw (RuntimeException) t;
+            }
+            if (t instanceof Error) {
+                throw (Error) t;
+            }
+            throw new IOException(t);
+        }
+    }
+
     /*
      ************************************************************************
      * Convenience factory methods added in 2.12 (similar to ones added in
@@ -364,17 +611,34 @@ public class IonObjectMapper extends ObjectMapper
 
     /**
      * Method that can be used to map any Java value to an IonValue.
+     *<p>
+     * Note: since 2.19, the value is constructed directly (using
+     * {@link IonValueTreeWriter}) instead of writing into a datagram.
      */
     public IonValue writeValueAsIonValue(Object value) throws IOException
     {
-        IonFactory f = getFactory();
-        IonDatagram container = f._system.newDatagram();
-
-        try (IonWriter writer = f._system.newWriter(container)) {
-            writeValue(writer, value);
-            IonValue result = container.get(0);
-            result.removeFromContainer();
-            return result;
+        IonValueTreeWriter writer = new IonValueTreeWriter(getFactory()._system);
+        writeValue(writer, value);
+        return writer.getValue();
+    }
+
+    /**
+     * Method that can be used to map a sequence of Java values to IonValues,
+     * reusing the same underlying writer and generator for all values:
+     * more efficient than calling {@link #writeValueAsIonValue} for each.
+     *
+     * @return List of IonValues, in same order as input values
+     *
+     * @since 2.19
+     */
+    public List<IonValue> writeValuesAsIonValues(Iterable<?> values) throws IOException
+    {
+        IonValueTreeWriter writer = new IonValueTreeWriter(getFactory()._system);
+        try (IonGenerator g = createGenerator(writer)) {
+            for (Object value : values) {
+                writeValue(g, value);
+            }
         }
+        return writer.getValues();
     }
 }
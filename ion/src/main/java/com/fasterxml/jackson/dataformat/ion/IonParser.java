@@ -18,6 +18,7 @@ import java.io.Closeable;
 import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.Iterator;
 
 import com.amazon.ion.*;
 import com.amazon.ion.system.IonSystemBuilder;
@@ -149,6 +150,16 @@ public class IonParser
      */
     protected int _formatFeatures;
 
+    /**
+     * Input buffer, if reading binary content from a byte array: needed
+     * for constructing {@link LazyIonValue}s that refer to it.
+     *
+     * @since 2.19
+     */
+    protected byte[] _sourceBuffer;
+
+    protected int _sourceOffset, _sourceLength;
+
     /*
     /*****************************************************************
     /* Construction
@@ -240,6 +251,18 @@ public class IonParser
         return ION_READ_CAPABILITIES;
     }
 
+    /**
+     * Method called by {@link IonFactory} to indicate that content is read from
+     * given buffer.
+     *
+     * @since 2.19
+     */
+    void setSourceBuffer(byte[] buffer, int offset, int length) {
+        _sourceBuffer = buffer;
+        _sourceOffset = offset;
+        _sourceLength = length;
+    }
+
     /*
     /*****************************************************************
     /* JsonParser implementation: state handling
@@ -605,6 +628,39 @@ public class IonParser
         return getIonValue();
     }
 
+    /**
+     * Alternative to {@link #getEmbeddedObject()} that returns the current value
+     * (including all contents for structs and lists) as {@link LazyIonValue}:
+     * if reading binary content from a byte array, handle refers to the value
+     * in the input buffer and no {@link IonValue} is constructed unless needed.
+     * As with {@link #getEmbeddedObject()}, current token is changed to
+     * {@link JsonToken#VALUE_EMBEDDED_OBJECT} so that contents of containers
+     * are skipped.
+     *
+     * @return Handle to the current value; {@code null} for Ion {@code null}
+     *    if {@link Feature#READ_NULL_AS_IONVALUE} is disabled
+     *
+     * @since 2.19
+     */
+    public LazyIonValue getLazyIonValue() throws IOException
+    {
+        if ((_sourceBuffer != null) && (_currToken != JsonToken.VALUE_NULL)) {
+            SpanProvider spans = _reader.asFacet(SeekableReader.class);
+            if (spans != null) {
+                final Span span;
+                try {
+                    span = spans.currentSpan();
+                } catch (IonException e) {
+                    return _reportCorruptContent(e);
+                }
+                _updateToken(JsonToken.VALUE_EMBEDDED_OBJECT);
+                return new LazyIonValue(_system, _sourceBuffer, _sourceOffset, _sourceLength, span);
+            }
+        }
+        IonValue v = getIonValue();
+        return (v == null) ? null : new LazyIonValue(_system, v);
+    }
+
     // @since 2.17
     private byte[] _bytesFromIonReader() throws IOException {
         return _reader.newBytes();
@@ -633,9 +689,7 @@ public class IonParser
      */
     @Override
     public Object getTypeId() throws IOException {
-        String[] typeAnnotations = getTypeAnnotations();
-        // getTypeAnnotations signals "none" with an empty array, but getTypeId is allowed to return null
-        return typeAnnotations.length == 0 ? null : typeAnnotations[0];
+        return getFirstTypeAnnotation();
     }
 
     /*
@@ -747,37 +801,60 @@ public class IonParser
         }
     }
 
+    /**
+     * Accessor for the first type annotation of the current value, if any.
+     * Unlike {@link #getTypeAnnotations()}, does not construct an array
+     * (nor resolve other annotations), and for binary Ion does not allocate anything.
+     *
+     * @return First type annotation, or {@code null} if current value has none
+     *
+     * @since 2.19
+     */
+    public String getFirstTypeAnnotation() throws JsonParseException {
+        try {
+            Iterator<String> it = _reader.iterateTypeAnnotations();
+            return it.hasNext() ? it.next() : null;
+        } catch (UnknownSymbolException e) {
+            throw _constructError(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Accessor for the number of type annotations of the current value;
+     * like {@link #getFirstTypeAnnotation()}, does not construct an array.
+     *
+     * @since 2.19
+     */
+    public int getTypeAnnotationCount() throws JsonParseException {
+        try {
+            int count = 0;
+            for (Iterator<String> it = _reader.iterateTypeAnnotations(); it.hasNext(); it.next()) {
+                ++count;
+            }
+            return count;
+        } catch (UnknownSymbolException e) {
+            throw _constructError(e.getMessage(), e);
+        }
+    }
+
     @Override
     public JsonParser skipChildren() throws IOException
     {
-       if (_currToken != JsonToken.START_OBJECT
-            && _currToken != JsonToken.START_ARRAY) {
+        final JsonToken endToken;
+        if (_currToken == JsonToken.START_OBJECT) {
+            endToken = JsonToken.END_OBJECT;
+        } else if (_currToken == JsonToken.START_ARRAY) {
+            endToken = JsonToken.END_ARRAY;
+        } else {
             return this;
         }
-        int open = 1;
-
-        // Since proper matching of start/end markers is handled
-        // by nextToken(), we'll just count nesting levels here
-        while (true) {
-            JsonToken t = nextToken();
-            if (t == null) {
-                _handleEOF(); // won't return in this case...
-                return this;
-            }
-            switch (t) {
-            case START_OBJECT:
-            case START_ARRAY:
-                ++open;
-                break;
-            case END_OBJECT:
-            case END_ARRAY:
-                if (--open == 0) {
-                    return this;
-                }
-                break;
-            default:
-            }
-        }
+        // No need to iterate over contents: as long as we have not stepped into
+        // the container, underlying reader will skip it as a whole (for binary
+        // content using length prefix) on next call to `next()`. All we need is
+        // to make it look like we are at the matching end marker (which also means
+        // no child context was created that would need to be dropped).
+        _updateToken(endToken);
+        return this;
     }
 
     /*
@@ -15,8 +15,8 @@
 package com.fasterxml.jackson.dataformat.ion;
 
 import java.io.IOException;
-import java.util.Calendar;
-import java.util.TimeZone;
+
+import com.amazon.ion.Timestamp;
 
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.SerializationFeature;
@@ -43,9 +43,8 @@ public class IonTimestampSerializers {
             if (serializerProvider.isEnabled(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)) {
                 jsonGenerator.writeNumber(date.getTime());
             } else {
-                Calendar cal = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
-                cal.setTime(date);
-                ((IonGenerator) jsonGenerator).writeDate(cal);
+                // Same as UTC Calendar would give, but without constructing one
+                ((IonGenerator) jsonGenerator).writeValue(Timestamp.forDateZ(date));
             }
         }
     }
@@ -65,9 +64,7 @@ public class IonTimestampSerializers {
             if (serializerProvider.isEnabled(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)) {
                 jsonGenerator.writeNumber(date.getTime());
             } else {
-                Calendar cal = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
-                cal.setTime(date);
-                ((IonGenerator) jsonGenerator).writeDate(cal);
+                ((IonGenerator) jsonGenerator).writeValue(Timestamp.forDateZ(date));
             }
         }
     }
@@ -0,0 +1,158 @@
+package com.fasterxml.jackson.dataformat.ion;
+
+import java.io.IOException;
+
+import com.amazon.ion.*;
+
+/**
+ * Handle to an Ion value that is only materialized as {@link IonValue} when
+ * needed. When read from binary Ion content held in a byte array, handle only
+ * refers to span of value within that buffer (along with symbol table
+ * context it needs) and content is neither copied nor decoded when value is
+ * just written out again (see {@link IonGenerator#writeValue(LazyIonValue)}).
+ * For other input sources value is materialized eagerly.
+ *<p>
+ * Note that since the handle may refer to the input buffer, contents of the buffer
+ * must not be modified as long as handle is in use.
+ *<p>
+ * Instances are constructed by {@link IonParser#getLazyIonValue()}; POJO
+ * properties of this type are supported by
+ * {@link com.fasterxml.jackson.dataformat.ion.ionvalue.IonValueModule}.
+ *
+ * @since 2.19
+ */
+public class LazyIonValue
+{
+    protected final IonSystem _system;
+
+    protected final byte[] _buffer;
+    protected final int _offset, _length;
+
+    /**
+     * Span of the value within {@link #_buffer}, as returned by
+     * {@link SeekableReader}; {@code null} if value constructed eagerly.
+     */
+    protected final Span _span;
+
+    protected IonValue _value;
+
+    protected LazyIonValue(IonSystem system, byte[] buffer, int offset, int length, Span span) {
+        _system = system;
+        _buffer = buffer;
+        _offset = offset;
+        _length = length;
+        _span = span;
+    }
+
+    protected LazyIonValue(IonSystem system, IonValue value) {
+        _system = system;
+        _buffer = null;
+        _offset = _length = 0;
+        _span = null;
+        _value = value;
+    }
+
+    /**
+     * Factory method for constructing an instance for already materialized value.
+     */
+    public static LazyIonValue of(IonValue value) {
+        return new LazyIonValue(value.getSystem(), value);
+    }
+
+    /*
+    /**********************************************************************
+    /* Public API
+    /**********************************************************************
+     */
+
+    /**
+     * @return Whether {@link IonValue} has been constructed for the value
+     *   (either since {@link #getValue()} has been called, or since it was
+     *   not possible to defer materialization)
+     */
+    public boolean isMaterialized() {
+        return (_value != null);
+    }
+
+    /**
+     * Accessor for the value as {@link IonValue}: constructed on first call
+     * if not yet materialized. Returned instance is shared by subsequent calls.
+     */
+    public IonValue getValue() throws IOException
+    {
+        if (_value == null) {
+            try (IonReader r = newReader()) {
+                _value = _system.newValue(r);
+            }
+        }
+        return _value;
+    }
+
+    /**
+     * Method for constructing a new {@link IonReader} positioned at the value
+     * (that is, {@link IonReader#next()} has been called): caller is
+     * responsible for closing it.
+     */
+    public IonReader newReader() throws IOException
+    {
+        IonReader r;
+        if (_span == null) {
+            r = _system.newReader(_value);
+        } else {
+            r = _system.newReader(_buffer, _offset, _length);
+            r.asFacet(SeekableReader.class).hoist(_span);
+        }
+        if (r.next() == null) { // should never occur
+            r.close();
+            throw new IOException("Failed to position reader at value");
+        }
+        return r;
+    }
+
+    /**
+     * Method for writing the value using given writer. If not materialized,
+     * will copy value from the underlying buffer without constructing
+     * {@link IonValue}.
+     */
+    public void writeTo(IonWriter w) throws IOException
+    {
+        try (IonReader r = newReader()) {
+            w.writeValue(r);
+        }
+    }
+
+    /*
+    /**********************************************************************
+    /* Std method overrides
+    /**********************************************************************
+     */
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) return true;
+        if (!(o instanceof LazyIonValue)) return false;
+        try {
+            return getValue().equals(((LazyIonValue) o).getValue());
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public int hashCode() {
+        try {
+            return getValue().hashCode();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    @Override
+    public String toString() {
+        try {
+            return getValue().toString();
+        } catch (IOException e) {
+            return "[LazyIonValue: "+e.getMessage()+"]";
+        }
+    }
+}
@@ -17,6 +17,7 @@ package com.fasterxml.jackson.dataformat.ion.ionvalue;
 import com.amazon.ion.Timestamp;
 
 import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.dataformat.ion.LazyIonValue;
 import com.fasterxml.jackson.dataformat.ion.PackageVersion;
 
 /**
@@ -32,8 +33,10 @@ public class IonValueModule extends SimpleModule
         super(IonValueModule.class.getName(), PackageVersion.VERSION);
         addSerializer(new TimestampSerializer());
         addSerializer(new IonValueSerializer());
+        addSerializer(new LazyIonValueSerializer());
 
         setDeserializers(new DeserializersEx());
         addDeserializer(Timestamp.class, new TimestampDeserializer());
+        addDeserializer(LazyIonValue.class, new LazyIonValueDeserializer());
     }
 }
@@ -0,0 +1,47 @@
+package com.fasterxml.jackson.dataformat.ion.ionvalue;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.*;
+import com.fasterxml.jackson.databind.util.AccessPattern;
+import com.fasterxml.jackson.dataformat.ion.IonParser;
+import com.fasterxml.jackson.dataformat.ion.LazyIonValue;
+
+/**
+ * Deserializer that knows how to deserialize a {@link LazyIonValue}.
+ *
+ * @since 2.19
+ */
+class LazyIonValueDeserializer extends JsonDeserializer<LazyIonValue>
+{
+    @Override
+    public LazyIonValue deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (!(p instanceof IonParser)) {
+            return ctxt.reportInputMismatch(LazyIonValue.class,
+                    "Unsupported parser (%s) for deserializing `LazyIonValue`",
+                    p.getClass().getName());
+        }
+        return ((IonParser) p).getLazyIonValue();
+    }
+
+    @Override
+    public LazyIonValue getNullValue(DeserializationContext ctxt) throws JsonMappingException {
+        final JsonParser p = ctxt.getParser();
+        // Ion nulls may be exposed as values, depending on `IonParser.Feature.READ_NULL_AS_IONVALUE`
+        if ((p instanceof IonParser) && p.hasToken(JsonToken.VALUE_NULL)) {
+            try {
+                return ((IonParser) p).getLazyIonValue();
+            } catch (IOException e) {
+                throw JsonMappingException.from(ctxt, e.toString());
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public AccessPattern getNullAccessPattern() {
+        return AccessPattern.DYNAMIC;
+    }
+}
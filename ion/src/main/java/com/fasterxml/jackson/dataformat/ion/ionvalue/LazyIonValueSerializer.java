@@ -0,0 +1,28 @@
+package com.fasterxml.jackson.dataformat.ion.ionvalue;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdScalarSerializer;
+import com.fasterxml.jackson.dataformat.ion.IonGenerator;
+import com.fasterxml.jackson.dataformat.ion.LazyIonValue;
+
+/**
+ * Serializer that knows how to serialize a {@link LazyIonValue}.
+ *
+ * @since 2.19
+ */
+class LazyIonValueSerializer extends StdScalarSerializer<LazyIonValue>
+{
+    private static final long serialVersionUID = 1L;
+
+    public LazyIonValueSerializer() {
+        super(LazyIonValue.class);
+    }
+
+    @Override
+    public void serialize(LazyIonValue value, JsonGenerator jgen, SerializerProvider provider) throws IOException {
+        ((IonGenerator) jgen).writeValue(value);
+    }
+}
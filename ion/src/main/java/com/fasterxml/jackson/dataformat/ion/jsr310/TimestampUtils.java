@@ -2,6 +2,7 @@ package com.fasterxml.jackson.dataformat.ion.jsr310;
 
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.time.LocalDate;
 import java.time.ZoneOffset;
 
 import com.amazon.ion.Timestamp;
@@ -12,23 +13,60 @@ final class TimestampUtils {
     private static final BigDecimal ONE_MILLION = new BigDecimal("1000000");
     private static final BigDecimal ONE_BILLION = new BigDecimal("1000000000");
 
+    private static final long SECONDS_PER_DAY = 24 * 60 * 60;
+
+    // Ion uses Julian calendar for dates before Gregorian cutover (in 1582) but
+    // java.time does not, so fast paths only used for later dates
+    private static final int MIN_FAST_PATH_YEAR = 1583;
+    private static final long MIN_FAST_PATH_EPOCH_SECONDS =
+            LocalDate.of(MIN_FAST_PATH_YEAR, 1, 1).toEpochDay() * SECONDS_PER_DAY;
+
+    private static final int[] NANOS_PER_DIGIT = new int[] {
+        1_000_000_000, 100_000_000, 10_000_000, 1_000_000, 100_000,
+        10_000, 1_000, 100, 10, 1
+    };
+
     private TimestampUtils() {}
 
     static Timestamp toTimestamp(Instant instant, ZoneOffset offset) {
         final Integer offsetMinutes = offset == null ? null
                 : secondsToMinutes(offset.getTotalSeconds());
 
+        // Common case of (at most) millisecond precision needs no BigDecimal
+        // (and results in Timestamp identical to one from fractional millis)
+        if (((instant.getNano() % 1_000_000) == 0)
+                && (instant.getEpochSecond() >= MIN_FAST_PATH_EPOCH_SECONDS)) {
+            return Timestamp.forMillis(instant.toEpochMilli(), offsetMinutes);
+        }
         return Timestamp.forMillis(getFractionalMillis(instant), offsetMinutes);
     }
 
     static Instant toInstant(Timestamp timestamp) {
-        final BigDecimal decSeconds = timestamp.getDecimalMillis().divide(ONE_THOUSAND);
-        final long epocSeconds = decSeconds.longValue();
-        final long nanoAdjustment = decSeconds.subtract(BigDecimal.valueOf(epocSeconds))
-                .multiply(ONE_BILLION)
-                .longValue();
+        if (timestamp.getZYear() < MIN_FAST_PATH_YEAR) {
+            final BigDecimal decSeconds = timestamp.getDecimalMillis().divide(ONE_THOUSAND);
+            final long epocSeconds = decSeconds.longValue();
+            final long nanoAdjustment = decSeconds.subtract(BigDecimal.valueOf(epocSeconds))
+                    .multiply(ONE_BILLION)
+                    .longValue();
+            return Instant.ofEpochSecond(epocSeconds, nanoAdjustment);
+        }
+        // Otherwise compute directly from UTC fields, to avoid BigDecimal arithmetic
+        // with milliseconds; sub-nanosecond precision is truncated
+        final long epochDay = LocalDate.of(timestamp.getZYear(), timestamp.getZMonth(),
+                timestamp.getZDay()).toEpochDay();
+        final long epochSeconds = (epochDay * SECONDS_PER_DAY)
+                + (timestamp.getZHour() * 3600L)
+                + (timestamp.getZMinute() * 60L);
+        return Instant.ofEpochSecond(epochSeconds, getNanos(timestamp.getZDecimalSecond()));
+    }
 
-        return Instant.ofEpochSecond(epocSeconds, nanoAdjustment);
+    // Seconds (including fraction, if any) are within [0, 60), so nanoseconds fit in long
+    private static long getNanos(BigDecimal seconds) {
+        final int scale = seconds.scale();
+        if ((scale >= 0) && (scale <= 9)) {
+            return seconds.unscaledValue().longValue() * NANOS_PER_DIGIT[scale];
+        }
+        return seconds.movePointRight(9).longValue();
     }
 
     static BigDecimal getFractionalSeconds(Instant instant) {
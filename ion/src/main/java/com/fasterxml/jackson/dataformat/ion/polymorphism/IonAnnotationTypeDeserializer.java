@@ -15,6 +15,8 @@
 package com.fasterxml.jackson.dataformat.ion.polymorphism;
 
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
 
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import com.fasterxml.jackson.core.*;
@@ -22,6 +24,7 @@ import com.fasterxml.jackson.databind.*;
 import com.fasterxml.jackson.databind.jsontype.TypeDeserializer;
 import com.fasterxml.jackson.databind.jsontype.TypeIdResolver;
 import com.fasterxml.jackson.databind.jsontype.impl.TypeDeserializerBase;
+import com.fasterxml.jackson.databind.util.LRUMap;
 import com.fasterxml.jackson.dataformat.ion.IonParser;
 
 /**
@@ -38,9 +41,38 @@ public class IonAnnotationTypeDeserializer extends TypeDeserializerBase
 {
     private static final long serialVersionUID = 1L;
 
+    /**
+     * Maximum number of distinct annotation combinations to cache deserializers for:
+     * since annotations come from input, cache needs to be bounded.
+     *
+     * @since 2.19
+     */
+    protected final static int MAX_CACHED_ANNOTATIONS = 1000;
+
+    /**
+     * Cache of deserializers by annotations of values they were resolved for, to
+     * avoid selecting type id for every value: keyed by annotation ({@link String})
+     * for values with a single one, {@link java.util.List} of annotations otherwise.
+     * Only used if {@link #_cacheByAnnotations} is {@code true}.
+     *
+     * @since 2.19
+     */
+    protected final LRUMap<Object, JsonDeserializer<Object>> _annotationDeserializers
+        = new LRUMap<>(16, MAX_CACHED_ANNOTATIONS);
+
+    /**
+     * Whether type id selected for given annotations is always the same: true unless
+     * {@link MultipleTypeIdResolver} used does not allow caching.
+     *
+     * @since 2.19
+     */
+    protected final boolean _cacheByAnnotations;
+
     public IonAnnotationTypeDeserializer(JavaType baseType, TypeIdResolver idRes,
             String typePropertyName, boolean typeIdVisible, JavaType defaultImpl) {
         super(baseType, idRes, typePropertyName, typeIdVisible, defaultImpl);
+        _cacheByAnnotations = !(idRes instanceof MultipleTypeIdResolver)
+                || ((MultipleTypeIdResolver) idRes).isSelectionCacheable();
     }
 
     /**
@@ -63,7 +95,50 @@ public class IonAnnotationTypeDeserializer extends TypeDeserializerBase
     }
 
     private Object _deserialize(JsonParser p, DeserializationContext ctxt) throws IOException, JsonProcessingException {
-        String[] typeIds = ionParser(p).getTypeAnnotations(); //cannot return null
+        final IonParser ion = ionParser(p);
+        final Object key = _cacheByAnnotations ? _annotationsKey(ion) : null;
+        JsonDeserializer<Object> deserializer = (key == null) ? null : _annotationDeserializers.get(key);
+        if (deserializer == null) {
+            String typeIdToUse = _selectTypeId(ctxt, ion.getTypeAnnotations()); //cannot return null
+            if (null == typeIdToUse) {
+                // not cached: may depend on features enabled
+                deserializer = _findDefaultImplDeserializer(ctxt);
+            } else {
+                deserializer = super._findDeserializer(ctxt, typeIdToUse);
+                if ((key != null) && (deserializer != null)) {
+                    _annotationDeserializers.put(key, deserializer);
+                }
+            }
+            // 22-Mar-2017, tatu: Getting `null` presumably means that no type id nor
+            //   default impl found, but that this is ok (otherwise exception thrown)
+            if (deserializer == null) {
+                return null;
+            }
+        }
+        return deserializer.deserialize(p, ctxt);
+    }
+
+    /**
+     * Helper method for constructing key for {@link #_annotationDeserializers}: in
+     * the common case of a single annotation, annotation itself (to avoid
+     * allocations); otherwise list of annotations.
+     */
+    private Object _annotationsKey(IonParser p) throws IOException {
+        switch (p.getTypeAnnotationCount()) {
+        case 0:
+            return Collections.emptyList();
+        case 1:
+            String annotation = p.getFirstTypeAnnotation();
+            if (annotation != null) {
+                return annotation;
+            }
+            // fall through, for proper handling of unresolvable symbol
+        default:
+            return Arrays.asList(p.getTypeAnnotations());
+        }
+    }
+
+    private String _selectTypeId(DeserializationContext ctxt, String[] typeIds) throws IOException {
         String typeIdToUse = null;
         TypeIdResolver typeIdResolver = super.getTypeIdResolver();
         if (typeIdResolver instanceof MultipleTypeIdResolver) {
@@ -77,18 +152,7 @@ public class IonAnnotationTypeDeserializer extends TypeDeserializerBase
                 }
             }
         }
-        JsonDeserializer<?> deserializer;
-        if (null == typeIdToUse) {
-            deserializer = _findDefaultImplDeserializer(ctxt);
-        } else {
-            deserializer = super._findDeserializer(ctxt, typeIdToUse);
-        }
-        // 22-Mar-2017, tatu: Getting `null` presumably means that no type id nor
-        //   default impl found, but that this is ok (otherwise exception thrown)
-        if (deserializer == null) {
-            return null;
-        }
-        return deserializer.deserialize(p, ctxt);
+        return typeIdToUse;
     }
 
     @Override
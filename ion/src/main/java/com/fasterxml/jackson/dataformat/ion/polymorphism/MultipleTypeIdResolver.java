@@ -81,4 +81,16 @@ public interface MultipleTypeIdResolver extends TypeIdResolver {
      */
     String selectId(String[] ids);
 
+    /**
+     * Whether result of {@link #selectId} only depends on the ids passed, so that
+     * {@link IonAnnotationTypeDeserializer} may cache the deserializer to use for each
+     * distinct set of ids instead of calling {@link #selectId} for every value.
+     * Default implementation returns {@code false} since selection heuristics
+     * may depend on other state.
+     *
+     * @since 2.19
+     */
+    default boolean isSelectionCacheable() {
+        return false;
+    }
 }
@@ -0,0 +1,386 @@
+package com.fasterxml.jackson.dataformat.ion.util;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import com.amazon.ion.*;
+
+/**
+ * {@link IonWriter} implementation that constructs {@link IonValue} trees
+ * directly, adding {@link IonStruct}, {@link IonList} and other nodes as
+ * values are written, instead of encoding content to be read back
+ * (like writers constructed by {@link IonSystem#newWriter(IonContainer)} do,
+ * along with the need for a container to write into).
+ *<p>
+ * Top-level values written are collected and available via {@link #getValues()}
+ * (and {@link #getValue()}); after values have been taken, {@link #reset()} may be
+ * called to reuse the writer for more values, which is useful for bulk conversions.
+ *<p>
+ * Instances are not thread-safe.
+ *
+ * @since 2.19
+ */
+public class IonValueTreeWriter implements IonWriter
+{
+    protected final IonSystem _system;
+
+    /**
+     * Top-level values written so far
+     */
+    protected final List<IonValue> _values = new ArrayList<>();
+
+    /**
+     * Container values are currently being added to, if any; {@code null}
+     * for top-level.
+     */
+    protected IonContainer _current;
+
+    protected SymbolToken _fieldName;
+
+    protected final List<SymbolToken> _annotations = new ArrayList<>();
+
+    protected boolean _closed;
+
+    public IonValueTreeWriter(IonSystem system) {
+        _system = system;
+    }
+
+    /*
+    /**********************************************************************
+    /* Extended API
+    /**********************************************************************
+     */
+
+    /**
+     * Accessor for the first top-level value written, if any.
+     *
+     * @return First top-level value written, if any; {@code null} if none
+     */
+    public IonValue getValue() {
+        return _values.isEmpty() ? null : _values.get(0);
+    }
+
+    /**
+     * Accessor for all top-level values written, in order they were written.
+     * Returned List is a copy and will not be modified by subsequent writes
+     * or {@link #reset()}.
+     */
+    public List<IonValue> getValues() {
+        return new ArrayList<>(_values);
+    }
+
+    /**
+     * Method for writing a copy of given value as the next value; its own
+     * annotations, if any, follow pending annotations of this writer.
+     *
+     * @param value Value to write; if {@code null}, Ion null is written
+     */
+    public void writeIonValue(IonValue value) throws IOException
+    {
+        if (value == null) {
+            writeNull();
+            return;
+        }
+        _appendAnnotated(value.clone());
+    }
+
+    /**
+     * Method for clearing all state, including top-level values written, so
+     * that this writer may be used for writing more values.
+     */
+    public void reset() {
+        _values.clear();
+        _current = null;
+        _fieldName = null;
+        _annotations.clear();
+        _closed = false;
+    }
+
+    /*
+    /**********************************************************************
+    /* IonWriter implementation: state handling
+    /**********************************************************************
+     */
+
+    @Override
+    public <T> T asFacet(Class<T> facetType) {
+        return null;
+    }
+
+    @Override
+    public SymbolTable getSymbolTable() {
+        return _system.getSystemSymbolTable();
+    }
+
+    @Override
+    public void flush() { }
+
+    @Override
+    public void finish() throws IOException {
+        if (_current != null) {
+            throw new IllegalStateException("Cannot finish within container");
+        }
+    }
+
+    @Override
+    public void close() {
+        _closed = true;
+    }
+
+    @Override
+    public void setFieldName(String name) {
+        _fieldName = new TextToken(name);
+    }
+
+    @Override
+    public void setFieldNameSymbol(SymbolToken name) {
+        _fieldName = name;
+    }
+
+    @Override
+    public void setTypeAnnotations(String... annotations) {
+        _annotations.clear();
+        if (annotations != null) {
+            for (String annotation : annotations) {
+                addTypeAnnotation(annotation);
+            }
+        }
+    }
+
+    @Override
+    public void setTypeAnnotationSymbols(SymbolToken... annotations) {
+        _annotations.clear();
+        if (annotations != null) {
+            for (SymbolToken annotation : annotations) {
+                _annotations.add(annotation);
+            }
+        }
+    }
+
+    @Override
+    public void addTypeAnnotation(String annotation) {
+        _annotations.add(new TextToken(annotation));
+    }
+
+    @Override
+    public void stepIn(IonType containerType) throws IOException
+    {
+        final IonContainer c;
+        switch (containerType) {
+        case STRUCT:
+            c = _system.newEmptyStruct();
+            break;
+        case LIST:
+            c = _system.newEmptyList();
+            break;
+        case SEXP:
+            c = _system.newEmptySexp();
+            break;
+        default:
+            throw new IllegalArgumentException("Not a container type: "+containerType);
+        }
+        _append(c);
+        _current = c;
+    }
+
+    @Override
+    public void stepOut() throws IOException
+    {
+        if (_current == null) {
+            throw new IllegalStateException("Cannot step out of top-level");
+        }
+        _current = _current.getContainer();
+    }
+
+    @Override
+    public boolean isInStruct() {
+        return _current instanceof IonStruct;
+    }
+
+    /*
+    /**********************************************************************
+    /* IonWriter implementation: value writes
+    /**********************************************************************
+     */
+
+    /**
+     * @deprecated Since deprecated by {@link IonWriter}; use
+     *    {@link #writeIonValue(IonValue)} instead
+     */
+    @Deprecated
+    @Override
+    public void writeValue(IonValue value) throws IOException {
+        writeIonValue(value);
+    }
+
+    @Override
+    public void writeValue(IonReader reader) throws IOException
+    {
+        if ((_fieldName == null) && isInStruct() && reader.isInStruct()) {
+            _fieldName = reader.getFieldNameSymbol();
+        }
+        _appendAnnotated(_system.newValue(reader));
+    }
+
+    @Override
+    public void writeValues(IonReader reader) throws IOException
+    {
+        while (reader.next() != null) {
+            writeValue(reader);
+        }
+    }
+
+    @Override
+    public void writeNull() throws IOException {
+        _append(_system.newNull());
+    }
+
+    @Override
+    public void writeNull(IonType type) throws IOException {
+        _append(_system.newNull(type));
+    }
+
+    @Override
+    public void writeBool(boolean value) throws IOException {
+        _append(_system.newBool(value));
+    }
+
+    @Override
+    public void writeInt(long value) throws IOException {
+        _append(_system.newInt(value));
+    }
+
+    @Override
+    public void writeInt(BigInteger value) throws IOException {
+        _append(_system.newInt(value));
+    }
+
+    @Override
+    public void writeFloat(double value) throws IOException {
+        _append(_system.newFloat(value));
+    }
+
+    @Override
+    public void writeDecimal(BigDecimal value) throws IOException {
+        _append(_system.newDecimal(value));
+    }
+
+    @Override
+    public void writeTimestamp(Timestamp value) throws IOException {
+        _append(_system.newTimestamp(value));
+    }
+
+    @Deprecated // since deprecated by IonWriter
+    @Override
+    public void writeTimestampUTC(Date value) throws IOException {
+        _append(_system.newUtcTimestamp(value));
+    }
+
+    @Override
+    public void writeSymbol(String content) throws IOException {
+        _append(_system.newSymbol(content));
+    }
+
+    @Override
+    public void writeSymbolToken(SymbolToken content) throws IOException {
+        _append(_system.newSymbol(content));
+    }
+
+    @Override
+    public void writeString(String value) throws IOException {
+        _append(_system.newString(value));
+    }
+
+    @Override
+    public void writeClob(byte[] value) throws IOException {
+        _append(_system.newClob(value));
+    }
+
+    @Override
+    public void writeClob(byte[] value, int start, int len) throws IOException {
+        _append(_system.newClob(value, start, len));
+    }
+
+    @Override
+    public void writeBlob(byte[] value) throws IOException {
+        _append(_system.newBlob(value));
+    }
+
+    @Override
+    public void writeBlob(byte[] value, int start, int len) throws IOException {
+        _append(_system.newBlob(value, start, len));
+    }
+
+    /*
+    /**********************************************************************
+    /* Internal methods
+    /**********************************************************************
+     */
+
+    /**
+     * Helper method for appending a value that may have annotations of
+     * its own: these need to follow any pending annotations.
+     */
+    protected void _appendAnnotated(IonValue value)
+    {
+        if (!_annotations.isEmpty()) {
+            for (SymbolToken annotation : value.getTypeAnnotationSymbols()) {
+                _annotations.add(annotation);
+            }
+        }
+        _append(value);
+    }
+
+    protected void _append(IonValue value)
+    {
+        if (_closed) {
+            throw new IllegalStateException("Writer has been closed");
+        }
+        if (!_annotations.isEmpty()) {
+            value.setTypeAnnotationSymbols(_annotations.toArray(new SymbolToken[0]));
+            _annotations.clear();
+        }
+        final IonContainer parent = _current;
+        if (parent == null) {
+            _values.add(value);
+        } else if (parent instanceof IonStruct) {
+            final SymbolToken name = _fieldName;
+            if (name == null) {
+                throw new IllegalStateException("Field name must be set before writing value into struct");
+            }
+            _fieldName = null;
+            if (name.getText() != null) {
+                ((IonStruct) parent).add(name.getText(), value);
+            } else {
+                ((IonStruct) parent).add(name, value);
+            }
+        } else {
+            ((IonSequence) parent).add(value);
+        }
+    }
+
+    /**
+     * Minimal {@link SymbolToken} for names and annotations given as text
+     */
+    private final static class TextToken implements SymbolToken
+    {
+        private final String _text;
+
+        TextToken(String text) {
+            _text = text;
+        }
+
+        @Override
+        public String getText() { return _text; }
+
+        @Override
+        public String assumeText() { return _text; }
+
+        @Override
+        public int getSid() { return SymbolTable.UNKNOWN_SYMBOL_ID; }
+    }
+}
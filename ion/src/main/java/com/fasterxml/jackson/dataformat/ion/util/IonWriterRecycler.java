@@ -0,0 +1,184 @@
+package com.fasterxml.jackson.dataformat.ion.util;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.amazon.ion.IonSystem;
+import com.amazon.ion.IonWriter;
+import com.amazon.ion.SymbolTable;
+
+import com.fasterxml.jackson.core.util.RecyclerPool;
+import com.fasterxml.jackson.core.util.RecyclerPool.WithPool;
+
+/**
+ * Simple helper class that contains extracted functionality for
+ * recycling binary {@link IonWriter}s (along with their internal buffers and
+ * symbol table state) between generators: constructing a new writer is
+ * relatively expensive compared to writing a small message.
+ *<p>
+ * Since writers can not be re-targeted to different output, pooled writers
+ * write through an intermediate {@link OutputStream} that is redirected to
+ * actual output for duration of each use, and {@link IonWriter#finish()}
+ * is called at the end of use; output is identical to that of a new writer.
+ *
+ * @see IonRecyclerPools
+ *
+ * @since 2.19
+ */
+public final class IonWriterRecycler
+    implements WithPool<IonWriterRecycler>
+{
+    // NOTE: AtomicReference only needed for ThreadLocal recycling where
+    //  single-thread access is not (ironically enough) ensured
+    private final AtomicReference<PooledBinaryWriter> _binaryWriterRef = new AtomicReference<>();
+
+    private RecyclerPool<IonWriterRecycler> _pool;
+
+    IonWriterRecycler() { }
+
+    /*
+    /**********************************************************
+    /* Public API
+    /**********************************************************
+     */
+
+    /**
+     * Method for getting a binary writer for given configuration: pooled one
+     * if one is available and was created with the same configuration,
+     * otherwise a new one.
+     */
+    public PooledBinaryWriter acquireBinaryWriter(IonSystem system, SymbolTable[] imports)
+    {
+        PooledBinaryWriter w = _binaryWriterRef.getAndSet(null);
+        if ((w == null) || !w.canReuseFor(system, imports)) {
+            w = new PooledBinaryWriter(system, imports);
+        }
+        return w;
+    }
+
+    public void release(PooledBinaryWriter w) {
+        _binaryWriterRef.set(w);
+    }
+
+    /*
+    /**********************************************************
+    /* WithPool implementation
+    /**********************************************************
+     */
+
+    /**
+     * Method called by owner of this recycler instance, to provide reference to
+     * {@link RecyclerPool} into which instance is to be released (if any)
+     */
+    @Override
+    public IonWriterRecycler withPool(RecyclerPool<IonWriterRecycler> pool) {
+        if (this._pool != null) {
+            throw new IllegalStateException("IonWriterRecycler already linked to pool: "+pool);
+        }
+        // assign to pool to which this recycler belongs in order to release it
+        // to the same pool when the work will be completed
+        _pool = Objects.requireNonNull(pool);
+        return this;
+    }
+
+    /**
+     * Method called when owner of this recycler no longer wishes use it; this should
+     * return it to pool passed via {@code withPool()} (if any).
+     */
+    @Override
+    public void releaseToPool() {
+        if (_pool != null) {
+            RecyclerPool<IonWriterRecycler> tmpPool = _pool;
+            // nullify the reference to the pool in order to avoid the risk of releasing
+            // the same recycler more than once, thus compromising the pool integrity
+            _pool = null;
+            tmpPool.releasePooled(this);
+        }
+    }
+
+    /*
+    /**********************************************************
+    /* Helper types
+    /**********************************************************
+     */
+
+    /**
+     * Binary {@link IonWriter} that writes to output that may be changed between
+     * uses.
+     */
+    public final static class PooledBinaryWriter
+    {
+        private final IonSystem _system;
+        private final SymbolTable[] _imports;
+        private final RedirectingOutputStream _out;
+        private final IonWriter _writer;
+
+        PooledBinaryWriter(IonSystem system, SymbolTable[] imports) {
+            _system = system;
+            _imports = imports;
+            _out = new RedirectingOutputStream();
+            _writer = system.newBinaryWriter(_out, imports);
+        }
+
+        public boolean canReuseFor(IonSystem system, SymbolTable[] imports) {
+            return (system == _system) && Arrays.equals(imports, _imports);
+        }
+
+        /**
+         * Method to call to start using the writer, to write to given output.
+         */
+        public IonWriter writeTo(OutputStream out) {
+            _out._target = out;
+            return _writer;
+        }
+
+        /**
+         * Method to call to end use of the writer: will write out all content
+         * written so far. Writer may only be reused if this method succeeds.
+         */
+        public void finish() throws IOException {
+            try {
+                _writer.finish();
+            } finally {
+                _out._target = null;
+            }
+        }
+    }
+
+    private final static class RedirectingOutputStream extends OutputStream
+    {
+        OutputStream _target;
+
+        @Override
+        public void write(int b) throws IOException {
+            _target().write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int offset, int len) throws IOException {
+            _target().write(b, offset, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (_target != null) {
+                _target.flush();
+            }
+        }
+
+        @Override
+        public void close() {
+            // never closed by writer; closing of actual output handled by generator
+        }
+
+        private OutputStream _target() throws IOException {
+            if (_target == null) {
+                throw new IOException("Pooled IonWriter used outside of its generator");
+            }
+            return _target;
+        }
+    }
+}
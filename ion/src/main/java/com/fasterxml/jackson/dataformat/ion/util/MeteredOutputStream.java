@@ -0,0 +1,88 @@
+package com.fasterxml.jackson.dataformat.ion.util;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * {@link OutputStream} wrapper that keeps track of number of bytes written,
+ * as well as the largest number of bytes written between two flushes.
+ * Since binary {@link com.amazon.ion.IonWriter}s buffer content and write
+ * it out (followed by flush of the stream) when flushed themselves, latter
+ * is the peak amount of content buffered by the writer.
+ *<p>
+ * Closing this stream does not close the underlying stream (it is only
+ * flushed): that is left to the owner, to allow honoring
+ * {@link com.fasterxml.jackson.core.JsonGenerator.Feature#AUTO_CLOSE_TARGET}.
+ *
+ * @since 2.19
+ */
+public final class MeteredOutputStream extends OutputStream
+{
+    private final OutputStream _out;
+
+    private long _bytesWritten;
+
+    private long _lastFlushPosition;
+
+    private long _maxBytesBetweenFlushes;
+
+    public MeteredOutputStream(OutputStream out) {
+        _out = out;
+    }
+
+    /*
+    /**********************************************************
+    /* Metrics
+    /**********************************************************
+     */
+
+    /**
+     * @return Total number of bytes written so far
+     */
+    public long getBytesWritten() {
+        return _bytesWritten;
+    }
+
+    /**
+     * @return Largest number of bytes written between two flushes (or
+     *   start of output and first flush) so far, including bytes
+     *   written since the last flush
+     */
+    public long getMaxBytesBetweenFlushes() {
+        return Math.max(_maxBytesBetweenFlushes, _bytesWritten - _lastFlushPosition);
+    }
+
+    /*
+    /**********************************************************
+    /* OutputStream implementation
+    /**********************************************************
+     */
+
+    @Override
+    public void write(int b) throws IOException {
+        _out.write(b);
+        ++_bytesWritten;
+    }
+
+    @Override
+    public void write(byte[] b, int offset, int len) throws IOException {
+        _out.write(b, offset, len);
+        _bytesWritten += len;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        _markFlushed();
+        _out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        flush();
+    }
+
+    private void _markFlushed() {
+        _maxBytesBetweenFlushes = getMaxBytesBetweenFlushes();
+        _lastFlushPosition = _bytesWritten;
+    }
+}
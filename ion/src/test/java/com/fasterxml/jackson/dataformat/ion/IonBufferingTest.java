@@ -0,0 +1,125 @@
+package com.fasterxml.jackson.dataformat.ion;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.amazon.ion.IonSystem;
+import com.amazon.ion.system.IonSystemBuilder;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IonBufferingTest
+{
+    static class Event {
+        public int id;
+        public String type;
+        public List<String> tags = new ArrayList<>();
+
+        protected Event() { }
+        public Event(int id) {
+            this.id = id;
+            type = "type"+(id % 10);
+            // to have new symbols appear after flushes
+            tags.add("tag"+(id / 100));
+        }
+    }
+
+    private final static int THRESHOLD = 4096;
+
+    private final IonSystem ION = IonSystemBuilder.standard().build();
+
+    private final IonObjectMapper MAPPER = IonObjectMapper.builderForBinaryWriters(ION).build();
+
+    private final IonObjectMapper FLUSHING_MAPPER = new IonObjectMapper(IonFactory.builderForBinaryWriters()
+            .ionSystem(ION)
+            .binaryWriterFlushThreshold(THRESHOLD)
+            .build());
+
+    @Test
+    public void testUnlimitedBuffering() throws Exception
+    {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        IonGenerator g = (IonGenerator) MAPPER.createGenerator(bytes);
+        for (int i = 0; i < 1000; ++i) {
+            MAPPER.writeValue(g, new Event(i));
+        }
+        // all content buffered until close
+        assertEquals(0, bytes.size());
+        assertEquals(0L, g.getBytesWritten());
+        g.close();
+        assertEquals(bytes.size(), g.getBytesWritten());
+        assertEquals(bytes.size(), g.getMaxBytesBuffered());
+    }
+
+    @Test
+    public void testBufferingWithThreshold() throws Exception
+    {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        IonGenerator g = (IonGenerator) FLUSHING_MAPPER.createGenerator(bytes);
+        List<Event> exp = new ArrayList<>();
+        for (int i = 0; i < 5000; ++i) {
+            Event ev = new Event(i);
+            exp.add(ev);
+            FLUSHING_MAPPER.writeValue(g, ev);
+        }
+        // content written incrementally
+        assertTrue(bytes.size() > THRESHOLD);
+        assertEquals(bytes.size(), g.getBytesWritten());
+        g.close();
+        assertEquals(bytes.size(), g.getBytesWritten());
+        long maxBuffered = g.getMaxBytesBuffered();
+        assertTrue(maxBuffered > 0);
+        // exceeding threshold only detected at writer block boundaries, so some slack needed
+        assertTrue(maxBuffered < 5 * THRESHOLD, "Buffered "+maxBuffered+" bytes");
+        assertTrue(maxBuffered < bytes.size() / 4, "Buffered "+maxBuffered+" bytes");
+
+        // and content is equivalent to fully buffered one
+        ByteArrayOutputStream expBytes = new ByteArrayOutputStream();
+        try (IonGenerator g2 = (IonGenerator) MAPPER.createGenerator(expBytes)) {
+            for (Event ev : exp) {
+                MAPPER.writeValue(g2, ev);
+            }
+        }
+        assertEquals(ION.getLoader().load(expBytes.toByteArray()),
+                ION.getLoader().load(bytes.toByteArray()));
+        List<Event> result = FLUSHING_MAPPER.readerFor(Event.class)
+                .<Event>readValues(bytes.toByteArray()).readAll();
+        assertEquals(exp.size(), result.size());
+        assertEquals(exp.get(4999).tags, result.get(4999).tags);
+    }
+
+    @Test
+    public void testLargeValueBufferedFully() throws Exception
+    {
+        List<Integer> large = new ArrayList<>();
+        for (int i = 0; i < 10000; ++i) {
+            large.add(i * 1000);
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (IonGenerator g = (IonGenerator) FLUSHING_MAPPER.createGenerator(bytes)) {
+            FLUSHING_MAPPER.writeValue(g, large);
+            g.close();
+            assertTrue(g.getMaxBytesBuffered() > THRESHOLD);
+        }
+        assertEquals(ION.singleValue(MAPPER.writeValueAsBytes(large)), ION.singleValue(bytes.toByteArray()));
+    }
+
+    @Test
+    public void testConfiguration() throws Exception
+    {
+        assertEquals(0, MAPPER.getFactory().getBinaryWriterFlushThreshold());
+        assertEquals(THRESHOLD, FLUSHING_MAPPER.getFactory().getBinaryWriterFlushThreshold());
+        assertEquals(THRESHOLD, FLUSHING_MAPPER.getFactory().rebuild().build().getBinaryWriterFlushThreshold());
+        assertEquals(THRESHOLD, FLUSHING_MAPPER.getFactory().copy().getBinaryWriterFlushThreshold());
+        assertThrows(IllegalArgumentException.class,
+                () -> IonFactory.builderForBinaryWriters().binaryWriterFlushThreshold(-1));
+
+        // no metrics for textual output
+        try (IonGenerator g = (IonGenerator) new IonObjectMapper().createGenerator(new ByteArrayOutputStream())) {
+            assertEquals(-1L, g.getBytesWritten());
+            assertEquals(-1L, g.getMaxBytesBuffered());
+        }
+    }
+}
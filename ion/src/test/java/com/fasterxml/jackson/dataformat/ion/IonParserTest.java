@@ -23,6 +23,7 @@ import com.amazon.ion.system.IonSystemBuilder;
 import org.junit.jupiter.api.Test;
 
 import com.fasterxml.jackson.core.*;
+import com.fasterxml.jackson.core.io.SerializedString;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -193,4 +194,139 @@ public class IonParserTest
             }
         });
     }
+
+    @Test
+    public void testSkipChildren() throws IOException {
+        final String DOC = "{ a: 1, skipped: { x: [1, 2, { y: [[3], (4 5)] }], z: \"abc\" },"
+                +" list: [ [1, 2], { q: true } ], b: 2 }";
+        IonFactory f = new IonFactory();
+        IonSystem ion = IonSystemBuilder.standard().build();
+        IonDatagram dg = ion.getLoader().load(DOC);
+        for (boolean binary : new boolean[] { false, true }) {
+            IonParser parser = binary ? (IonParser) f.createParser(dg.getBytes())
+                    : (IonParser) f.createParser(DOC);
+            try {
+                assertEquals(JsonToken.START_OBJECT, parser.nextToken());
+                assertEquals("a", parser.nextFieldName());
+                assertEquals(JsonToken.VALUE_NUMBER_INT, parser.nextToken());
+                assertEquals("skipped", parser.nextFieldName());
+                assertEquals(JsonToken.START_OBJECT, parser.nextToken());
+                parser.skipChildren();
+                assertEquals(JsonToken.END_OBJECT, parser.currentToken());
+                assertEquals("skipped", parser.currentName());
+                assertTrue(parser.getParsingContext().inObject());
+
+                assertEquals("list", parser.nextFieldName());
+                assertEquals(JsonToken.START_ARRAY, parser.nextToken());
+                assertEquals(JsonToken.START_ARRAY, parser.nextToken());
+                parser.skipChildren();
+                assertEquals(JsonToken.END_ARRAY, parser.currentToken());
+                assertTrue(parser.getParsingContext().inArray());
+                assertEquals(JsonToken.START_OBJECT, parser.nextToken());
+                assertEquals(JsonToken.FIELD_NAME, parser.nextToken());
+                // no-op for scalar values
+                assertEquals(JsonToken.VALUE_TRUE, parser.nextToken());
+                parser.skipChildren();
+                assertEquals(JsonToken.VALUE_TRUE, parser.currentToken());
+                assertEquals(JsonToken.END_OBJECT, parser.nextToken());
+                assertEquals(JsonToken.END_ARRAY, parser.nextToken());
+
+                assertEquals("b", parser.nextFieldName());
+                assertEquals(JsonToken.VALUE_NUMBER_INT, parser.nextToken());
+                assertEquals(2, parser.getIntValue());
+                assertEquals(JsonToken.END_OBJECT, parser.nextToken());
+                assertTrue(parser.getParsingContext().inRoot());
+                assertNull(parser.nextToken());
+            } finally {
+                parser.close();
+            }
+        }
+    }
+
+    @Test
+    public void testSkipRootLevelChildren() throws IOException {
+        IonFactory f = new IonFactory();
+        try (IonParser parser = (IonParser) f.createParser("[1, [2]] {a: {b: 3}} 4")) {
+            assertEquals(JsonToken.START_ARRAY, parser.nextToken());
+            parser.skipChildren();
+            assertEquals(JsonToken.END_ARRAY, parser.currentToken());
+            assertEquals(JsonToken.START_OBJECT, parser.nextToken());
+            parser.skipChildren();
+            assertEquals(JsonToken.END_OBJECT, parser.currentToken());
+            assertEquals(JsonToken.VALUE_NUMBER_INT, parser.nextToken());
+            assertEquals(4, parser.getIntValue());
+            assertNull(parser.nextToken());
+        }
+    }
+
+    @Test
+    public void testNextFieldNameWithSymbolIds() throws IOException {
+        IonSystem ion = IonSystemBuilder.standard().build();
+        // Two concatenated binary streams with different local symbol tables,
+        // so that symbol ids for the same names differ
+        byte[] doc1 = ion.getLoader().load("{ alpha: 1, beta: 2 } { alpha: 3, beta: 4 }").getBytes();
+        byte[] doc2 = ion.getLoader().load("{ beta: 5, alpha: 6 }").getBytes();
+        byte[] doc = new byte[doc1.length + doc2.length];
+        System.arraycopy(doc1, 0, doc, 0, doc1.length);
+        System.arraycopy(doc2, 0, doc, doc1.length, doc2.length);
+
+        final SerializableString ALPHA = new SerializedString("alpha");
+        final SerializableString BETA = new SerializedString("beta");
+        try (IonParser parser = (IonParser) new IonFactory().createParser(doc)) {
+            for (int i = 0; i < 2; ++i) {
+                assertEquals(JsonToken.START_OBJECT, parser.nextToken());
+                assertTrue(parser.nextFieldName(ALPHA));
+                assertEquals("alpha", parser.currentName());
+                assertEquals(JsonToken.VALUE_NUMBER_INT, parser.nextToken());
+                assertEquals(1 + i * 2, parser.getIntValue());
+                assertFalse(parser.nextFieldName(ALPHA));
+                assertEquals("beta", parser.currentName());
+                assertEquals(JsonToken.VALUE_NUMBER_INT, parser.nextToken());
+                assertFalse(parser.nextFieldName(BETA));
+                assertEquals(JsonToken.END_OBJECT, parser.currentToken());
+            }
+            assertEquals(JsonToken.START_OBJECT, parser.nextToken());
+            assertFalse(parser.nextFieldName(ALPHA));
+            assertEquals("beta", parser.currentName());
+            assertEquals(JsonToken.VALUE_NUMBER_INT, parser.nextToken());
+            assertEquals(5, parser.getIntValue());
+            assertTrue(parser.nextFieldName(ALPHA));
+            assertEquals(JsonToken.VALUE_NUMBER_INT, parser.nextToken());
+            assertEquals(6, parser.getIntValue());
+            assertFalse(parser.nextFieldName(ALPHA));
+            assertEquals(JsonToken.END_OBJECT, parser.currentToken());
+            assertNull(parser.nextToken());
+        }
+    }
+
+    @Test
+    public void testTypeAnnotationAccessors() throws IOException {
+        IonSystem ion = IonSystemBuilder.standard().build();
+        IonObjectMapper mapper = new IonObjectMapper();
+        String doc = "[a::b::c::1, single::{}, 3]";
+        for (byte[] content : new byte[][] {
+                doc.getBytes("UTF-8"), ion.getLoader().load(doc).getBytes() }) {
+            try (IonParser p = (IonParser) mapper.createParser(content)) {
+                assertEquals(JsonToken.START_ARRAY, p.nextToken());
+                assertEquals(0, p.getTypeAnnotationCount());
+                assertNull(p.getFirstTypeAnnotation());
+
+                assertEquals(JsonToken.VALUE_NUMBER_INT, p.nextToken());
+                assertEquals(3, p.getTypeAnnotationCount());
+                assertEquals("a", p.getFirstTypeAnnotation());
+                assertEquals("a", p.getTypeId());
+                assertArrayEquals(new String[] { "a", "b", "c" }, p.getTypeAnnotations());
+
+                assertEquals(JsonToken.START_OBJECT, p.nextToken());
+                assertEquals(1, p.getTypeAnnotationCount());
+                assertEquals("single", p.getFirstTypeAnnotation());
+                assertEquals(JsonToken.END_OBJECT, p.nextToken());
+
+                assertEquals(JsonToken.VALUE_NUMBER_INT, p.nextToken());
+                assertEquals(0, p.getTypeAnnotationCount());
+                assertNull(p.getFirstTypeAnnotation());
+                assertNull(p.getTypeId());
+            }
+        }
+    }
 }
@@ -0,0 +1,158 @@
+package com.fasterxml.jackson.dataformat.ion;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.List;
+
+import com.amazon.ion.IonSystem;
+import com.amazon.ion.SymbolTable;
+import com.amazon.ion.system.IonSystemBuilder;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.RecyclerPool;
+import com.fasterxml.jackson.dataformat.ion.util.IonRecyclerPools;
+import com.fasterxml.jackson.dataformat.ion.util.IonWriterRecycler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IonWriterRecyclingTest
+{
+    static class Message {
+        public String name;
+        public List<Integer> values;
+        public boolean flag;
+
+        protected Message() { }
+        public Message(String n, Integer... v) {
+            name = n;
+            values = Arrays.asList(v);
+            flag = true;
+        }
+    }
+
+    static class ClosingOutputStream extends ByteArrayOutputStream {
+        boolean closed;
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+
+    private final IonSystem ION = IonSystemBuilder.standard().build();
+
+    @Test
+    public void testOutputSameAsWithoutRecycling() throws Exception
+    {
+        IonObjectMapper plain = new IonObjectMapper(IonFactory.builderForBinaryWriters()
+                .ionSystem(ION)
+                .ionWriterRecyclerPool(IonRecyclerPools.nonRecyclingPool())
+                .build());
+        for (RecyclerPool<IonWriterRecycler> pool : Arrays.<RecyclerPool<IonWriterRecycler>>asList(
+                IonRecyclerPools.threadLocalPool(),
+                IonRecyclerPools.newConcurrentDequePool(),
+                IonRecyclerPools.newBoundedPool(3))) {
+            IonObjectMapper mapper = new IonObjectMapper(IonFactory.builderForBinaryWriters()
+                    .ionSystem(ION)
+                    .ionWriterRecyclerPool(pool)
+                    .build());
+            for (int i = 0; i < 5; ++i) {
+                Message msg = new Message("msg"+i, i, i * 2, i * 3);
+                byte[] exp = plain.writeValueAsBytes(msg);
+                assertArrayEquals(exp, mapper.writeValueAsBytes(msg));
+                Message result = mapper.readValue(exp, Message.class);
+                assertEquals(msg.name, result.name);
+                assertEquals(msg.values, result.values);
+            }
+        }
+    }
+
+    @Test
+    public void testWriterReturnedToPool() throws Exception
+    {
+        RecyclerPool<IonWriterRecycler> pool = IonRecyclerPools.newBoundedPool(2);
+        IonFactory f = IonFactory.builderForBinaryWriters()
+                .ionWriterRecyclerPool(pool)
+                .build();
+        IonObjectMapper mapper = new IonObjectMapper(f);
+        assertEquals(0, pool.pooledCount());
+        mapper.writeValueAsBytes(new Message("a", 1));
+        assertEquals(1, pool.pooledCount());
+        mapper.writeValueAsBytes(new Message("b", 2));
+        assertEquals(1, pool.pooledCount());
+
+        // Nested generators need separate writers
+        ByteArrayOutputStream out1 = new ByteArrayOutputStream();
+        ByteArrayOutputStream out2 = new ByteArrayOutputStream();
+        try (JsonGenerator g1 = f.createGenerator(out1)) {
+            try (JsonGenerator g2 = f.createGenerator(out2)) {
+                g1.writeString("first");
+                g2.writeString("second");
+                g1.writeNumber(1);
+            }
+            g1.writeNumber(2);
+        }
+        assertEquals(2, pool.pooledCount());
+        assertEquals(ION.getLoader().load("\"first\" 1 2"), ION.getLoader().load(out1.toByteArray()));
+        assertEquals(ION.getLoader().load("\"second\""), ION.getLoader().load(out2.toByteArray()));
+
+        // But writer not reused if it can not be finished (recycler itself is);
+        // incomplete content dropped, as with non-pooled writers
+        ClosingOutputStream out = new ClosingOutputStream();
+        JsonGenerator g = f.createGenerator(out);
+        assertEquals(1, pool.pooledCount());
+        g.writeStartArray();
+        g.close();
+        assertTrue(g.isClosed());
+        assertTrue(out.closed);
+        assertEquals(0, out.size());
+        assertEquals(2, pool.pooledCount());
+        // and subsequent writes work fine
+        assertEquals(ION.singleValue("{name:\"c\",values:[3],flag:true}"),
+                ION.singleValue(mapper.writeValueAsBytes(new Message("c", 3))));
+    }
+
+    @Test
+    public void testCloseTarget() throws Exception
+    {
+        for (IonFactory f : new IonFactory[] {
+                IonFactory.builderForBinaryWriters().build(),
+                IonFactory.builderForBinaryWriters().binaryWriterFlushThreshold(1000).build(),
+                IonFactory.builderForTextualWriters().build() }) {
+            ClosingOutputStream out = new ClosingOutputStream();
+            try (JsonGenerator g = f.createGenerator(out)) {
+                g.writeString("a");
+            }
+            assertTrue(out.closed);
+            assertEquals(ION.singleValue("\"a\""), ION.singleValue(out.toByteArray()));
+
+            out = new ClosingOutputStream();
+            try (JsonGenerator g = f.createGenerator(out)) {
+                g.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                g.writeString("b");
+            }
+            assertFalse(out.closed);
+            assertEquals(ION.singleValue("\"b\""), ION.singleValue(out.toByteArray()));
+        }
+    }
+
+    @Test
+    public void testDifferentConfigsShareThreadLocalPool() throws Exception
+    {
+        SymbolTable symbols = new IonObjectMapper()
+                .generateSharedSymbolTable("test.Message", 1, Message.class);
+        IonObjectMapper withImports = new IonObjectMapper(IonFactory.builderForBinaryWriters()
+                .symbolTableImports(symbols)
+                .build());
+        IonObjectMapper withoutImports = IonObjectMapper.builderForBinaryWriters().build();
+        Message msg = new Message("x", 1, 2);
+        for (int i = 0; i < 3; ++i) {
+            byte[] doc1 = withImports.writeValueAsBytes(msg);
+            byte[] doc2 = withoutImports.writeValueAsBytes(msg);
+            assertFalse(Arrays.equals(doc1, doc2));
+            assertEquals("x", withImports.readValue(doc1, Message.class).name);
+            assertEquals("x", withoutImports.readValue(doc2, Message.class).name);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.fasterxml.jackson.dataformat.ion;
+
+import java.io.ByteArrayInputStream;
+import java.util.Iterator;
+
+import com.amazon.ion.SymbolTable;
+import com.amazon.ion.system.SimpleCatalog;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonParseException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SharedSymbolTableTest
+{
+    static class Order {
+        public String customerName;
+        public int quantity;
+        public Item orderedItem;
+        @JsonProperty("shipping_address")
+        public String address;
+        @JsonIgnore
+        public String internalNotes;
+
+        protected Order() { }
+        public Order(String name, int q, Item item, String addr) {
+            customerName = name;
+            quantity = q;
+            orderedItem = item;
+            address = addr;
+        }
+    }
+
+    static class Item {
+        public String description;
+        public long itemId;
+    }
+
+    @Test
+    public void testGenerateSharedSymbolTable() throws Exception
+    {
+        SymbolTable symbols = new IonObjectMapper()
+                .generateSharedSymbolTable("test.Orders", 1, Order.class, Item.class);
+        assertTrue(symbols.isSharedTable());
+        assertEquals("test.Orders", symbols.getName());
+        assertEquals(1, symbols.getVersion());
+        StringBuilder sb = new StringBuilder();
+        for (Iterator<String> it = symbols.iterateDeclaredSymbolNames(); it.hasNext(); ) {
+            sb.append(it.next()).append(',');
+        }
+        assertEquals("customerName,quantity,orderedItem,shipping_address,description,itemId,",
+                sb.toString());
+    }
+
+    @Test
+    public void testRoundtripWithImports() throws Exception
+    {
+        SymbolTable symbols = new IonObjectMapper()
+                .generateSharedSymbolTable("test.Orders", 1, Order.class, Item.class);
+        IonObjectMapper mapper = new IonObjectMapper(IonFactory.builderForBinaryWriters()
+                .symbolTableImports(symbols)
+                .build());
+        assertNotNull(mapper.getFactory().getIonCatalog());
+        assertEquals(1, mapper.getFactory().getSymbolTableImports().length);
+
+        Order input = _order();
+        byte[] doc = mapper.writeValueAsBytes(input);
+        byte[] plainDoc = IonObjectMapper.builderForBinaryWriters().build()
+                .writeValueAsBytes(input);
+        // no local symbols for field names, should be a lot smaller
+        assertTrue(doc.length < plainDoc.length * 2 / 3,
+                "Expected "+doc.length+" to be much less than "+plainDoc.length);
+
+        _verify(mapper.readValue(doc, Order.class));
+        _verify(mapper.readValue(new ByteArrayInputStream(doc), Order.class));
+        // and can of course still read content without imports
+        _verify(mapper.readValue(plainDoc, Order.class));
+
+        // but without catalog, field names can not be resolved
+        try {
+            new IonObjectMapper().readValue(doc, Order.class);
+            fail("Should not pass");
+        } catch (JsonParseException e) {
+            assertTrue(e.getMessage().contains("Unknown symbol text"), "Unexpected: "+e);
+        }
+    }
+
+    @Test
+    public void testExplicitCatalog() throws Exception
+    {
+        IonObjectMapper baseMapper = new IonObjectMapper();
+        SymbolTable symbols = baseMapper.generateSharedSymbolTable("test.Orders", 1,
+                Order.class, Item.class);
+        byte[] doc = new IonObjectMapper(IonFactory.builderForBinaryWriters()
+                .symbolTableImports(symbols)
+                .build()).writeValueAsBytes(_order());
+
+        SimpleCatalog catalog = new SimpleCatalog();
+        catalog.putTable(symbols);
+        IonObjectMapper reader = new IonObjectMapper(IonFactory.builderForTextualWriters()
+                .ionCatalog(catalog)
+                .build());
+        _verify(reader.readValue(doc, Order.class));
+        // settings retained on copy and rebuild
+        _verify(reader.copy().readValue(doc, Order.class));
+        _verify(new IonObjectMapper(reader.getFactory().rebuild().build())
+                .readValue(doc, Order.class));
+    }
+
+    private Order _order() {
+        Item item = new Item();
+        item.description = "Widget";
+        item.itemId = 1234567L;
+        return new Order("Bob", 3, item, "Main Street 1");
+    }
+
+    private void _verify(Order result) {
+        assertEquals("Bob", result.customerName);
+        assertEquals(3, result.quantity);
+        assertEquals("Main Street 1", result.address);
+        assertEquals("Widget", result.orderedItem.description);
+        assertEquals(1234567L, result.orderedItem.itemId);
+    }
+}
@@ -0,0 +1,135 @@
+package com.fasterxml.jackson.dataformat.ion.ionvalue;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+import com.amazon.ion.*;
+import com.amazon.ion.system.IonSystemBuilder;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.dataformat.ion.IonObjectMapper;
+import com.fasterxml.jackson.dataformat.ion.util.IonValueTreeWriter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IonValueTreeWriterTest
+{
+    @JsonTypeInfo(use = JsonTypeInfo.Id.CLASS)
+    static class Shape {
+        public String name;
+        public Date created = new Date(1234567890123L);
+    }
+
+    static class Circle extends Shape {
+        public double radius;
+        public List<Integer> points = Arrays.asList(1, 2, 3);
+        public byte[] data = new byte[] { 1, 2, 3 };
+        public BigDecimal weight = new BigDecimal("12.50");
+        public BigInteger big = BigInteger.TEN.pow(30);
+        public Object nothing = null;
+    }
+
+    private final IonSystem ION = IonSystemBuilder.standard().build();
+
+    private final IonObjectMapper MAPPER = new IonObjectMapper();
+
+    @Test
+    public void testSameAsViaDatagram() throws Exception
+    {
+        Circle input = new Circle();
+        input.name = "ring";
+        input.radius = 2.25;
+
+        IonValue direct = MAPPER.writeValueAsIonValue(input);
+        assertNull(direct.getContainer());
+        assertEquals(_viaDatagram(input), direct);
+        assertEquals(Circle.class.getName(), direct.getTypeAnnotations()[0]);
+        assertEquals("ring", ((IonText) ((IonStruct) direct).get("name")).stringValue());
+
+        Circle result = MAPPER.readValue(direct, Circle.class);
+        assertEquals(input.radius, result.radius);
+        assertEquals(input.created, result.created);
+        assertArrayEquals(input.data, result.data);
+        assertEquals(input.big, result.big);
+
+        // and scalars, too
+        assertEquals(ION.newString("abc"), MAPPER.writeValueAsIonValue("abc"));
+        assertEquals(ION.newNull(), MAPPER.writeValueAsIonValue(null));
+    }
+
+    @Test
+    public void testBulkConversion() throws Exception
+    {
+        Shape a = new Shape();
+        a.name = "a";
+        Circle b = new Circle();
+        b.name = "b";
+        List<IonValue> values = MAPPER.writeValuesAsIonValues(Arrays.asList(a, b, 3));
+        assertEquals(3, values.size());
+        assertEquals(_viaDatagram(a), values.get(0));
+        assertEquals(_viaDatagram(b), values.get(1));
+        assertEquals(ION.newInt(3), values.get(2));
+    }
+
+    @Test
+    public void testWriterReuse() throws Exception
+    {
+        IonValueTreeWriter w = new IonValueTreeWriter(ION);
+        w.addTypeAnnotation("outer");
+        w.stepIn(IonType.STRUCT);
+        w.setFieldName("list");
+        w.stepIn(IonType.SEXP);
+        w.writeSymbol("sym");
+        w.addTypeAnnotation("pending");
+        w.writeIonValue(ION.singleValue("own::{ x: 1 }"));
+        w.stepOut();
+        w.setFieldName("copied");
+        try (IonReader r = ION.newReader("[true, 2.5e0]")) {
+            r.next();
+            w.writeValue(r);
+        }
+        w.stepOut();
+        w.writeTimestamp(Timestamp.valueOf("2024-01-02T"));
+        w.finish();
+
+        assertEquals(ION.getLoader().load(
+                "outer::{ list: (sym pending::own::{ x: 1 }), copied: [true, 2.5e0] } 2024-01-02T"),
+                _datagram(w.getValues()));
+
+        w.reset();
+        assertNull(w.getValue());
+        w.writeString("next");
+        assertEquals(ION.newString("next"), w.getValue());
+
+        // but must have field names for struct members
+        w.reset();
+        w.stepIn(IonType.STRUCT);
+        try {
+            w.writeInt(1);
+            fail("Should not pass");
+        } catch (IllegalStateException e) {
+            assertTrue(e.getMessage().contains("Field name"));
+        }
+    }
+
+    private IonValue _viaDatagram(Object value) throws Exception
+    {
+        IonDatagram container = ION.newDatagram();
+        try (IonWriter writer = ION.newWriter(container)) {
+            MAPPER.writeValue(writer, value);
+        }
+        IonValue result = container.get(0);
+        result.removeFromContainer();
+        return result;
+    }
+
+    private IonDatagram _datagram(List<IonValue> values) {
+        IonDatagram dg = ION.newDatagram();
+        dg.addAll(values);
+        return dg;
+    }
+}
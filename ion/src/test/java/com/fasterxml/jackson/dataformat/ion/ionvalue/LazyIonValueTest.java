@@ -0,0 +1,110 @@
+package com.fasterxml.jackson.dataformat.ion.ionvalue;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import com.amazon.ion.*;
+import com.amazon.ion.system.IonSystemBuilder;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.dataformat.ion.IonObjectMapper;
+import com.fasterxml.jackson.dataformat.ion.IonParser;
+import com.fasterxml.jackson.dataformat.ion.LazyIonValue;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LazyIonValueTest
+{
+    static class Envelope {
+        public String id;
+        public LazyIonValue payload;
+        public int version;
+    }
+
+    private final static String DOC = "{ id: \"abc\", payload: meta::{ items: [1, 2.5, { deep: sym }],"
+            +" text: \"some text\", blob: {{ AQID }} }, version: 3 }";
+
+    private final IonSystem ION = IonSystemBuilder.standard().build();
+
+    private final IonObjectMapper BINARY_MAPPER = IonObjectMapper.builderForBinaryWriters(ION)
+            .addModule(new IonValueModule())
+            .build();
+
+    private final IonObjectMapper TEXT_MAPPER = IonObjectMapper.builderForTextualWriters(ION)
+            .addModule(new IonValueModule())
+            .build();
+
+    @Test
+    public void testLazyFromBinary() throws Exception
+    {
+        final IonStruct expPayload = (IonStruct) ((IonStruct) ION.singleValue(DOC)).get("payload").clone();
+        byte[] doc = ION.getLoader().load(DOC).getBytes();
+
+        Envelope env = BINARY_MAPPER.readValue(doc, Envelope.class);
+        assertEquals("abc", env.id);
+        assertEquals(3, env.version);
+        assertFalse(env.payload.isMaterialized());
+
+        // write back without materializing, both as binary and text
+        byte[] out = BINARY_MAPPER.writeValueAsBytes(env);
+        assertFalse(env.payload.isMaterialized());
+        assertEquals(ION.getLoader().load(DOC), ION.getLoader().load(out));
+        assertEquals(ION.getLoader().load(DOC),
+                ION.getLoader().load(TEXT_MAPPER.writeValueAsString(env)));
+        // as well as tree
+        assertEquals(ION.singleValue(DOC), BINARY_MAPPER.writeValueAsIonValue(env));
+
+        // and materializes on demand
+        assertEquals(expPayload, env.payload.getValue());
+        assertTrue(env.payload.isMaterialized());
+        assertSame(env.payload.getValue(), env.payload.getValue());
+        assertEquals(ION.getLoader().load(DOC), ION.getLoader().load(BINARY_MAPPER.writeValueAsBytes(env)));
+    }
+
+    @Test
+    public void testEagerFromStream() throws Exception
+    {
+        byte[] doc = ION.getLoader().load(DOC).getBytes();
+        Envelope env = BINARY_MAPPER.readValue(new ByteArrayInputStream(doc), Envelope.class);
+        assertTrue(env.payload.isMaterialized());
+        assertEquals(3, env.version);
+        assertEquals(ION.getLoader().load(DOC), ION.getLoader().load(BINARY_MAPPER.writeValueAsBytes(env)));
+
+        env = TEXT_MAPPER.readValue(DOC, Envelope.class);
+        assertEquals("abc", env.id);
+        assertEquals(3, env.version);
+        assertEquals(((IonStruct) ION.singleValue(DOC)).get("payload"), env.payload.getValue());
+
+        // textual content in byte array also materialized eagerly
+        env = TEXT_MAPPER.readValue(DOC.getBytes(StandardCharsets.UTF_8), Envelope.class);
+        assertTrue(env.payload.isMaterialized());
+        assertEquals(((IonStruct) ION.singleValue(DOC)).get("payload"), env.payload.getValue());
+    }
+
+    @Test
+    public void testParserAccess() throws Exception
+    {
+        byte[] doc = ION.getLoader().load("[ { a: [1, 2] }, 7, null, \"x\" ]").getBytes();
+        try (IonParser p = (IonParser) BINARY_MAPPER.createParser(doc)) {
+            assertEquals(JsonToken.START_ARRAY, p.nextToken());
+            assertEquals(JsonToken.START_OBJECT, p.nextToken());
+            LazyIonValue struct = p.getLazyIonValue();
+            assertEquals(JsonToken.VALUE_EMBEDDED_OBJECT, p.currentToken());
+            assertEquals(JsonToken.VALUE_NUMBER_INT, p.nextToken());
+            assertEquals(7, p.getIntValue());
+            LazyIonValue seven = p.getLazyIonValue();
+            assertEquals(JsonToken.VALUE_NULL, p.nextToken());
+            // by default, nulls exposed as Ion nulls as well
+            assertEquals(ION.newNull(), p.getLazyIonValue().getValue());
+            assertEquals(JsonToken.VALUE_STRING, p.nextToken());
+            assertEquals(JsonToken.END_ARRAY, p.nextToken());
+            assertNull(p.nextToken());
+
+            assertFalse(struct.isMaterialized());
+            assertEquals(ION.singleValue("{ a: [1, 2] }"), struct.getValue());
+            assertEquals(ION.newInt(7), seven.getValue());
+            assertEquals(LazyIonValue.of(ION.newInt(7)), seven);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.fasterxml.jackson.dataformat.ion.jsr310;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Random;
+
+import com.amazon.ion.Timestamp;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class TimestampUtilsTest
+{
+    private static final BigDecimal ONE_THOUSAND = new BigDecimal("1000");
+
+    // Range of Ion timestamps, with margin of a day for local offsets
+    private static final long MIN_MILLIS = -62135596800000L + 86400000L;
+    private static final long MAX_MILLIS = 253402300800000L - 86400000L;
+
+    @Test
+    public void testToInstant()
+    {
+        for (String ts : new String[] {
+                "2001T", "2001-02T", "2001-02-03", "2001-02-03T04:05Z", "2001-02-03T04:05-08:00",
+                "1970-01-01T00:00:00Z", "1970-01-01T00:00:00.000Z",
+                "1969-12-31T23:59:59.5Z", "1969-12-31T23:59:59.999999999+01:30",
+                "2020-02-29T12:34:56.1234567891234-07:00", "0001-01-01T00:00:00.000000001Z",
+                "9999-12-31T23:59:59.999999999Z", "1582-10-10T10:10:10.0101Z",
+                "2024-06-30T23:59:59.00000000000000000000001Z"
+        }) {
+            _verifyToInstant(Timestamp.valueOf(ts));
+        }
+        Random rnd = new Random(123);
+        for (int i = 0; i < 1000; ++i) {
+            long millis = _between(rnd, MIN_MILLIS, MAX_MILLIS);
+            BigDecimal frac = BigDecimal.valueOf(millis).add(BigDecimal.valueOf(rnd.nextInt(1_000_000), 6));
+            _verifyToInstant(Timestamp.forMillis(frac, rnd.nextInt(1000) - 500));
+        }
+    }
+
+    @Test
+    public void testToTimestamp()
+    {
+        Random rnd = new Random(123);
+        for (int i = 0; i < 1000; ++i) {
+            long seconds = _between(rnd, MIN_MILLIS, MAX_MILLIS) / 1000L;
+            int nanos = (i % 2 == 0) ? rnd.nextInt(1000) * 1_000_000 : rnd.nextInt(1_000_000_000);
+            Instant instant = Instant.ofEpochSecond(seconds, nanos);
+            ZoneOffset offset = (i % 3 == 0) ? null : ZoneOffset.ofTotalSeconds((rnd.nextInt(30) - 15) * 3600);
+            Integer offsetMinutes = (offset == null) ? null : offset.getTotalSeconds() / 60;
+            Timestamp exp = Timestamp.forMillis(TimestampUtils.getFractionalMillis(instant), offsetMinutes);
+            Timestamp actual = TimestampUtils.toTimestamp(instant, offset);
+            assertEquals(exp, actual);
+            assertEquals(exp.toString(), actual.toString());
+            assertEquals(instant, TimestampUtils.toInstant(actual));
+        }
+    }
+
+    private long _between(Random rnd, long min, long max) {
+        return min + (long) (rnd.nextDouble() * (max - min));
+    }
+
+    private void _verifyToInstant(Timestamp ts)
+    {
+        // Reference implementation, using BigDecimal arithmetic
+        BigDecimal decSeconds = ts.getDecimalMillis().divide(ONE_THOUSAND);
+        long epochSeconds = decSeconds.longValue();
+        long nanos = decSeconds.subtract(BigDecimal.valueOf(epochSeconds)).movePointRight(9).longValue();
+        assertEquals(Instant.ofEpochSecond(epochSeconds, nanos), TimestampUtils.toInstant(ts), ts.toString());
+    }
+}
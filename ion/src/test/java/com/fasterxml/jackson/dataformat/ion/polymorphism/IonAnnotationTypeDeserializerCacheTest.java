@@ -0,0 +1,144 @@
+package com.fasterxml.jackson.dataformat.ion.polymorphism;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.amazon.ion.system.IonSystemBuilder;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.core.Version;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DatabindContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.annotation.JsonTypeResolver;
+import com.fasterxml.jackson.databind.cfg.MapperConfig;
+import com.fasterxml.jackson.databind.jsontype.TypeIdResolver;
+import com.fasterxml.jackson.databind.jsontype.impl.TypeIdResolverBase;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.dataformat.ion.IonObjectMapper;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IonAnnotationTypeDeserializerCacheTest
+{
+    @JsonTypeResolver(IonAnnotationTypeResolverBuilder.class)
+    static class Shape {
+        public int size;
+    }
+
+    static class Circle extends Shape { }
+
+    static class Square extends Shape { }
+
+    // Resolves simple names, preferring most specific type
+    static class CountingResolver extends TypeIdResolverBase implements MultipleTypeIdResolver
+    {
+        final AtomicInteger selectCount = new AtomicInteger();
+
+        @Override
+        public String[] idsFromValue(Object value) {
+            return new String[] { idFromValue(value), "shape" };
+        }
+
+        @Override
+        public String selectId(String[] ids) {
+            selectCount.incrementAndGet();
+            for (String id : ids) {
+                if (!"shape".equals(id)) {
+                    return id;
+                }
+            }
+            return (ids.length == 0) ? null : ids[0];
+        }
+
+        @Override
+        public boolean isSelectionCacheable() {
+            return true;
+        }
+
+        @Override
+        public String idFromValue(Object value) {
+            return idFromValueAndType(value, value.getClass());
+        }
+
+        @Override
+        public String idFromValueAndType(Object value, Class<?> suggestedType) {
+            return suggestedType.getSimpleName().toLowerCase();
+        }
+
+        @Override
+        public JavaType typeFromId(DatabindContext context, String id) {
+            switch (id) {
+            case "circle":
+                return context.constructType(Circle.class);
+            case "square":
+                return context.constructType(Square.class);
+            case "shape":
+                return context.constructType(Shape.class);
+            }
+            return null;
+        }
+
+        @Override
+        public JsonTypeInfo.Id getMechanism() {
+            return JsonTypeInfo.Id.CUSTOM;
+        }
+    }
+
+    @Test
+    public void testResolutionCached() throws Exception
+    {
+        final CountingResolver resolver = new CountingResolver();
+        IonObjectMapper mapper = new IonObjectMapper();
+        mapper.registerModule(new SimpleModule("test", Version.unknownVersion()) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            public void setupModule(SetupContext context) {
+                context.appendAnnotationIntrospector(new IonAnnotationIntrospector(false) {
+                    private static final long serialVersionUID = 1L;
+
+                    @Override
+                    protected TypeIdResolver defaultIdResolver(MapperConfig<?> config, JavaType baseType) {
+                        return resolver;
+                    }
+                });
+            }
+        });
+
+        StringBuilder doc = new StringBuilder("[");
+        for (int i = 0; i < 100; ++i) {
+            switch (i % 3) {
+            case 0:
+                doc.append("circle::{size:").append(i).append("},");
+                break;
+            case 1:
+                doc.append("square::shape::{size:").append(i).append("},");
+                break;
+            default:
+                doc.append("circle::shape::{size:").append(i).append("},");
+            }
+        }
+        doc.append("]");
+
+        for (int round = 0; round < 3; ++round) {
+            List<Shape> shapes = mapper.readValue(doc.toString(), new TypeReference<List<Shape>>() { });
+            assertEquals(100, shapes.size());
+            for (int i = 0; i < shapes.size(); ++i) {
+                assertEquals((i % 3 == 1) ? Square.class : Circle.class, shapes.get(i).getClass());
+                assertEquals(i, shapes.get(i).size);
+            }
+        }
+        // one resolution per distinct set of annotations
+        assertEquals(3, resolver.selectCount.get());
+
+        // cache keyed by annotation text, so also shared with binary content
+        byte[] binary = IonSystemBuilder.standard().build().getLoader().load(doc.toString()).getBytes();
+        List<Shape> shapes = mapper.readValue(binary, new TypeReference<List<Shape>>() { });
+        assertEquals(100, shapes.size());
+        assertEquals(Circle.class, shapes.get(0).getClass());
+        assertEquals(Square.class, shapes.get(1).getClass());
+        assertEquals(3, resolver.selectCount.get());
+    }
+}
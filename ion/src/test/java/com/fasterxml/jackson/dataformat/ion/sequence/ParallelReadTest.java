@@ -0,0 +1,154 @@
+package com.fasterxml.jackson.dataformat.ion.sequence;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.fasterxml.jackson.dataformat.ion.IonObjectMapper;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ParallelReadTest
+{
+    static class Point {
+        public int x, y;
+        public Map<String, String> tags;
+
+        protected Point() { }
+        public Point(int x, int y) {
+            this.x = x;
+            this.y = y;
+            tags = Collections.singletonMap("tag"+(x % 7), "value"+y);
+        }
+    }
+
+    private final IonObjectMapper BINARY_MAPPER = IonObjectMapper.builderForBinaryWriters().build();
+
+    private final ExecutorService EXECUTOR = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    public void tearDown() {
+        EXECUTOR.shutdownNow();
+    }
+
+    @Test
+    public void testBinaryWithMultipleSymbolTables() throws Exception
+    {
+        // Concatenate separately written streams, each with its own local symbol table
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        List<Point> exp = new ArrayList<>();
+        for (int i = 0; i < 50; ++i) {
+            try (SequenceWriter w = BINARY_MAPPER.writer().writeValues(bytes)) {
+                for (int j = 0; j < i; ++j) {
+                    Point p = new Point(i, j);
+                    w.write(p);
+                    exp.add(p);
+                }
+            }
+        }
+        final byte[] doc = bytes.toByteArray();
+        for (int segmentSize : new int[] { 1, 7, 100, 5000 }) {
+            List<Point> result = BINARY_MAPPER.readValuesInParallel(doc, 0, doc.length,
+                    BINARY_MAPPER.constructType(Point.class), EXECUTOR, segmentSize);
+            _verify(exp, result);
+        }
+        _verify(exp, BINARY_MAPPER.readValuesInParallel(doc, Point.class, EXECUTOR));
+    }
+
+    @Test
+    public void testBinaryToConsumer() throws Exception
+    {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        List<Point> exp = new ArrayList<>();
+        try (SequenceWriter w = BINARY_MAPPER.writer().writeValues(bytes)) {
+            for (int i = 0; i < 200; ++i) {
+                Point p = new Point(i, -i);
+                w.write(p);
+                exp.add(p);
+            }
+        }
+        final byte[] doc = bytes.toByteArray();
+        final AtomicInteger submitted = new AtomicInteger();
+        ExecutorService counting = new ThreadPoolExecutor(2, 2, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>()) {
+            @Override
+            public void execute(Runnable task) {
+                submitted.incrementAndGet();
+                super.execute(task);
+            }
+        };
+        try {
+            final List<Point> result = new ArrayList<>();
+            final int[] segments = new int[1];
+            BINARY_MAPPER.readValuesInParallel(doc, 0, doc.length,
+                    BINARY_MAPPER.constructType(Point.class), counting, 7, 3,
+                    (List<Point> segment) -> {
+                        assertTrue(segment.size() <= 7);
+                        // no more than 3 segments in flight, including this one
+                        assertTrue(submitted.get() <= segments[0] + 3);
+                        ++segments[0];
+                        result.addAll(segment);
+                    });
+            assertEquals((200 + 6) / 7, segments[0]);
+            _verify(exp, result);
+        } finally {
+            counting.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testTextual() throws Exception
+    {
+        IonObjectMapper mapper = new IonObjectMapper();
+        List<Point> exp = Arrays.asList(new Point(1, 2), new Point(3, 4), new Point(5, 6));
+        StringBuilder sb = new StringBuilder();
+        for (Point p : exp) {
+            sb.append(mapper.writeValueAsString(p)).append('\n');
+        }
+        byte[] doc = sb.toString().getBytes(StandardCharsets.UTF_8);
+        _verify(exp, mapper.readValuesInParallel(doc, 0, doc.length,
+                mapper.constructType(Point.class), EXECUTOR, 2));
+    }
+
+    @Test
+    public void testEmpty() throws Exception
+    {
+        assertEquals(0, BINARY_MAPPER.readValuesInParallel(new byte[0], Point.class, EXECUTOR).size());
+    }
+
+    @Test
+    public void testFailures() throws Exception
+    {
+        byte[] doc = BINARY_MAPPER.writeValueAsBytes("not a point");
+        assertThrows(MismatchedInputException.class,
+                () -> BINARY_MAPPER.readValuesInParallel(doc, Point.class, EXECUTOR));
+
+        // truncated content
+        byte[] valid = BINARY_MAPPER.writeValueAsBytes(new Point(1, 2));
+        byte[] truncated = Arrays.copyOf(valid, valid.length - 3);
+        assertThrows(JsonParseException.class,
+                () -> BINARY_MAPPER.readValuesInParallel(truncated, Point.class, EXECUTOR));
+    }
+
+    private void _verify(List<Point> exp, List<Point> actual)
+    {
+        assertEquals(exp.size(), actual.size());
+        for (int i = 0; i < exp.size(); ++i) {
+            assertEquals(exp.get(i).x, actual.get(i).x);
+            assertEquals(exp.get(i).y, actual.get(i).y);
+            assertEquals(exp.get(i).tags, actual.get(i).tags);
+        }
+    }
+}
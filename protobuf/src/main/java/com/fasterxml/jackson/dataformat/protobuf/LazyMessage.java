@@ -0,0 +1,168 @@
+package com.fasterxml.jackson.dataformat.protobuf;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.dataformat.protobuf.deser.LazyMessageDeserializer;
+
+/**
+ * Holder for a nested Protobuf message, decoding of which is deferred
+ * until first access via {@link #get()}. When read using {@link ProtobufParser},
+ * encoded contents of the message are retained as is (see
+ * {@link ProtobufParser#readMessageAsByteBuffer()}); and unless replaced
+ * with {@link #set}, are also written back as is by {@link ProtobufGenerator},
+ * without decoding or re-encoding.
+ * This is useful when only some of the fields of an enclosing message are needed,
+ * and rest is forwarded unchanged.
+ *<p>
+ * Note that when reading from a {@code byte[]}, retained contents are a view of
+ * that array to avoid copying: array must not be modified while instance is in use.
+ *
+ * @param <T> Type of decoded message value
+ *
+ * @since 2.19
+ */
+@JsonDeserialize(using = LazyMessageDeserializer.class)
+public class LazyMessage<T>
+    implements JsonSerializable
+{
+    /**
+     * Encoded contents of the message (without tag or length prefix), if any.
+     */
+    protected ByteBuffer _content;
+
+    /**
+     * Reader to use for decoding {@link #_content}; configured with
+     * target type and schema for the message type.
+     */
+    protected ObjectReader _reader;
+
+    protected T _value;
+
+    protected boolean _decoded;
+
+    public LazyMessage(ByteBuffer content, ObjectReader reader) {
+        _content = content;
+        _reader = reader;
+    }
+
+    protected LazyMessage(T value) {
+        _value = value;
+        _decoded = true;
+    }
+
+    /**
+     * Factory method for constructing instance with given already decoded value
+     * (to be serialized normally when writing).
+     */
+    public static <T> LazyMessage<T> of(T value) {
+        return new LazyMessage<T>(value);
+    }
+
+    /*
+    /**********************************************************
+    /* Accessors, mutators
+    /**********************************************************
+     */
+
+    /**
+     * Accessor for the message value, decoding it first if that has not
+     * yet been done.
+     *
+     * @throws UncheckedIOException If decoding of contents fails
+     */
+    public T get() {
+        if (!_decoded) {
+            try {
+                _value = _decode();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            _decoded = true;
+        }
+        return _value;
+    }
+
+    /**
+     * Method for replacing value: will also discard encoded contents, if any,
+     * so that value is serialized when writing.
+     */
+    public void set(T value) {
+        _value = value;
+        _decoded = true;
+        _content = null;
+        _reader = null;
+    }
+
+    /**
+     * @return Whether value has been decoded (or assigned)
+     */
+    public boolean isDecoded() {
+        return _decoded;
+    }
+
+    /**
+     * Accessor for encoded contents of the message (without tag or length prefix),
+     * if available; {@code null} if not (instance constructed with value, or
+     * value replaced).
+     */
+    public ByteBuffer getContent() {
+        return (_content == null) ? null : _content.asReadOnlyBuffer();
+    }
+
+    protected T _decode() throws IOException {
+        final ByteBuffer bb = _content;
+        if (bb.hasArray()) {
+            return _reader.readValue(bb.array(), bb.arrayOffset() + bb.position(), bb.remaining());
+        }
+        byte[] b = new byte[bb.remaining()];
+        bb.duplicate().get(b);
+        return _reader.readValue(b);
+    }
+
+    /*
+    /**********************************************************
+    /* JsonSerializable
+    /**********************************************************
+     */
+
+    @Override
+    public void serialize(JsonGenerator gen, SerializerProvider provider) throws IOException
+    {
+        // Encoded contents are only usable as is with Protobuf
+        if ((_content != null) && (gen instanceof ProtobufGenerator)) {
+            final ByteBuffer bb = _content;
+            if (bb.hasArray()) {
+                gen.writeBinary(bb.array(), bb.arrayOffset() + bb.position(), bb.remaining());
+            } else {
+                byte[] b = new byte[bb.remaining()];
+                bb.duplicate().get(b);
+                gen.writeBinary(b);
+            }
+            return;
+        }
+        provider.defaultSerializeValue(get(), gen);
+    }
+
+    @Override
+    public void serializeWithType(JsonGenerator gen, SerializerProvider provider,
+            TypeSerializer typeSer) throws IOException
+    {
+        serialize(gen, provider);
+    }
+
+    @Override
+    public String toString() {
+        if (_decoded) {
+            return "[LazyMessage: "+_value+"]";
+        }
+        return "[LazyMessage: "+_content.remaining()+" bytes]";
+    }
+}
@@ -14,21 +14,59 @@ public class ProtobufFactory extends JsonFactory
 {
     private static final long serialVersionUID = 1;
 
+    /**
+     * Bitfield (set of flags) of all parser features that are enabled
+     * by default.
+     *
+     * @since 2.19
+     */
+    final static int DEFAULT_PROTOBUF_PARSER_FEATURE_FLAGS = ProtobufParser.Feature.collectDefaults();
+
+    /**
+     * Bitfield (set of flags) of all generator features that are enabled
+     * by default.
+     *
+     * @since 2.19
+     */
+    final static int DEFAULT_PROTOBUF_GENERATOR_FEATURE_FLAGS = ProtobufGenerator.Feature.collectDefaults();
+
+    /*
+    /**********************************************************
+    /* Configuration
+    /**********************************************************
+     */
+
+    /**
+     * @since 2.19
+     */
+    protected int _formatParserFeatures;
+
+    /**
+     * @since 2.19
+     */
+    protected int _formatGeneratorFeatures;
+
     /*
     /**********************************************************
     /* Factory construction, configuration
     /**********************************************************
      */
 
-    public ProtobufFactory() { }
+    public ProtobufFactory() {
+        this((ObjectCodec) null);
+    }
 
     public ProtobufFactory(ObjectCodec codec) {
         super(codec);
+        _formatParserFeatures = DEFAULT_PROTOBUF_PARSER_FEATURE_FLAGS;
+        _formatGeneratorFeatures = DEFAULT_PROTOBUF_GENERATOR_FEATURE_FLAGS;
     }
 
     protected ProtobufFactory(ProtobufFactory src, ObjectCodec oc)
     {
         super(src, oc);
+        _formatParserFeatures = src._formatParserFeatures;
+        _formatGeneratorFeatures = src._formatGeneratorFeatures;
     }
 
     /**
@@ -38,6 +76,8 @@ public class ProtobufFactory extends JsonFactory
      */
     protected ProtobufFactory(ProtobufFactoryBuilder b) {
         super(b, false);
+        _formatParserFeatures = b.formatParserFeaturesMask();
+        _formatGeneratorFeatures = b.formatGeneratorFeaturesMask();
     }
 
     @Override
@@ -129,18 +169,131 @@ public class ProtobufFactory extends JsonFactory
     @Override
     public boolean canUseCharArrays() { return false; }
 
-    // No format-specific configuration, yet:
-/*
-    @Override
-    public Class<? extends FormatFeature> getFormatReadFeatureType() {
-        return null;
+    @Override // @since 2.19
+    public Class<ProtobufParser.Feature> getFormatReadFeatureType() {
+        return ProtobufParser.Feature.class;
     }
 
-    @Override
-    public Class<? extends FormatFeature> getFormatWriteFeatureType() {
-        return null;
+    @Override // @since 2.19
+    public Class<ProtobufGenerator.Feature> getFormatWriteFeatureType() {
+        return ProtobufGenerator.Feature.class;
+    }
+
+    /*
+    /**********************************************************
+    /* Configuration, parser settings
+    /**********************************************************
+     */
+
+    /**
+     * Method for enabling or disabling specified parser feature
+     * (check {@link ProtobufParser.Feature} for list of features)
+     *
+     * @since 2.19
+     */
+    public final ProtobufFactory configure(ProtobufParser.Feature f, boolean state)
+    {
+        if (state) {
+            enable(f);
+        } else {
+            disable(f);
+        }
+        return this;
+    }
+
+    /**
+     * Method for enabling specified parser feature
+     * (check {@link ProtobufParser.Feature} for list of features)
+     *
+     * @since 2.19
+     */
+    public ProtobufFactory enable(ProtobufParser.Feature f) {
+        _formatParserFeatures |= f.getMask();
+        return this;
+    }
+
+    /**
+     * Method for disabling specified parser features
+     * (check {@link ProtobufParser.Feature} for list of features)
+     *
+     * @since 2.19
+     */
+    public ProtobufFactory disable(ProtobufParser.Feature f) {
+        _formatParserFeatures &= ~f.getMask();
+        return this;
+    }
+
+    /**
+     * Checked whether specified parser feature is enabled.
+     *
+     * @since 2.19
+     */
+    public final boolean isEnabled(ProtobufParser.Feature f) {
+        return (_formatParserFeatures & f.getMask()) != 0;
+    }
+
+    @Override // @since 2.19
+    public int getFormatParserFeatures() {
+        return _formatParserFeatures;
+    }
+
+    /*
+    /**********************************************************
+    /* Configuration, generator settings
+    /**********************************************************
+     */
+
+    /**
+     * Method for enabling or disabling specified generator feature
+     * (check {@link ProtobufGenerator.Feature} for list of features)
+     *
+     * @since 2.19
+     */
+    public final ProtobufFactory configure(ProtobufGenerator.Feature f, boolean state)
+    {
+        if (state) {
+            enable(f);
+        } else {
+            disable(f);
+        }
+        return this;
+    }
+
+    /**
+     * Method for enabling specified generator feature
+     * (check {@link ProtobufGenerator.Feature} for list of features)
+     *
+     * @since 2.19
+     */
+    public ProtobufFactory enable(ProtobufGenerator.Feature f) {
+        _formatGeneratorFeatures |= f.getMask();
+        return this;
+    }
+
+    /**
+     * Method for disabling specified generator features
+     * (check {@link ProtobufGenerator.Feature} for list of features)
+     *
+     * @since 2.19
+     */
+    public ProtobufFactory disable(ProtobufGenerator.Feature f) {
+        _formatGeneratorFeatures &= ~f.getMask();
+        return this;
+    }
+
+    /**
+     * Checked whether specified generator feature is enabled.
+     *
+     * @since 2.19
+     */
+    public final boolean isEnabled(ProtobufGenerator.Feature f) {
+        return (_formatGeneratorFeatures & f.getMask()) != 0;
+    }
+
+    @Override // @since 2.19
+    public int getFormatGeneratorFeatures() {
+        return _formatGeneratorFeatures;
     }
-*/
 
     /*
     /**********************************************************
@@ -227,7 +380,7 @@ public class ProtobufFactory extends JsonFactory
     protected ProtobufParser _createParser(InputStream in, IOContext ctxt) throws IOException
     {
         byte[] buf = ctxt.allocReadIOBuffer();
-        return new ProtobufParser(ctxt, _parserFeatures,
+        return new ProtobufParser(ctxt, _parserFeatures, _formatParserFeatures,
                 _objectCodec, in, buf, 0, 0, true);
     }
 
@@ -245,8 +398,8 @@ public class ProtobufFactory extends JsonFactory
     @Override
     protected ProtobufParser _createParser(byte[] data, int offset, int len, IOContext ctxt) throws IOException
     {
-        return new ProtobufParser(ctxt, _parserFeatures,
-                _objectCodec, null, data, offset, len, false);
+        return new ProtobufParser(ctxt, _parserFeatures, _formatParserFeatures,
+                _objectCodec, null, data, offset, offset+len, false);
     }
 
     @Override
@@ -267,7 +420,7 @@ public class ProtobufFactory extends JsonFactory
     private final ProtobufGenerator _createProtobufGenerator(IOContext ctxt,
             int stdFeat, ObjectCodec codec, OutputStream out) throws IOException
     {
-        return new ProtobufGenerator(ctxt, stdFeat, _objectCodec, out);
+        return new ProtobufGenerator(ctxt, stdFeat, _formatGeneratorFeatures, _objectCodec, out);
     }
 
     protected <T> T _nonByteSource() {
@@ -11,14 +11,138 @@ import com.fasterxml.jackson.core.TSFBuilder;
  */
 public class ProtobufFactoryBuilder extends TSFBuilder<ProtobufFactory, ProtobufFactoryBuilder>
 {
+    /**
+     * Set of {@link ProtobufParser.Feature}s enabled, as bitmask.
+     *
+     * @since 2.19
+     */
+    protected int _formatParserFeatures;
+
+    /**
+     * Set of {@link ProtobufGenerator.Feature}s enabled, as bitmask.
+     *
+     * @since 2.19
+     */
+    protected int _formatGeneratorFeatures;
+
     public ProtobufFactoryBuilder() {
         super();
+        _formatParserFeatures = ProtobufFactory.DEFAULT_PROTOBUF_PARSER_FEATURE_FLAGS;
+        _formatGeneratorFeatures = ProtobufFactory.DEFAULT_PROTOBUF_GENERATOR_FEATURE_FLAGS;
     }
 
     public ProtobufFactoryBuilder(ProtobufFactory base) {
         super(base);
+        _formatParserFeatures = base._formatParserFeatures;
+        _formatGeneratorFeatures = base._formatGeneratorFeatures;
+    }
+
+    // // // Parser features
+
+    /**
+     * @since 2.19
+     */
+    public ProtobufFactoryBuilder enable(ProtobufParser.Feature f) {
+        _formatParserFeatures |= f.getMask();
+        return _this();
+    }
+
+    /**
+     * @since 2.19
+     */
+    public ProtobufFactoryBuilder enable(ProtobufParser.Feature first, ProtobufParser.Feature... other) {
+        _formatParserFeatures |= first.getMask();
+        for (ProtobufParser.Feature f : other) {
+            _formatParserFeatures |= f.getMask();
+        }
+        return _this();
     }
 
+    /**
+     * @since 2.19
+     */
+    public ProtobufFactoryBuilder disable(ProtobufParser.Feature f) {
+        _formatParserFeatures &= ~f.getMask();
+        return _this();
+    }
+
+    /**
+     * @since 2.19
+     */
+    public ProtobufFactoryBuilder disable(ProtobufParser.Feature first, ProtobufParser.Feature... other) {
+        _formatParserFeatures &= ~first.getMask();
+        for (ProtobufParser.Feature f : other) {
+            _formatParserFeatures &= ~f.getMask();
+        }
+        return _this();
+    }
+
+    /**
+     * @since 2.19
+     */
+    public ProtobufFactoryBuilder configure(ProtobufParser.Feature f, boolean state) {
+        return state ? enable(f) : disable(f);
+    }
+
+    // // // Generator features
+
+    /**
+     * @since 2.19
+     */
+    public ProtobufFactoryBuilder enable(ProtobufGenerator.Feature f) {
+        _formatGeneratorFeatures |= f.getMask();
+        return _this();
+    }
+
+    /**
+     * @since 2.19
+     */
+    public ProtobufFactoryBuilder enable(ProtobufGenerator.Feature first, ProtobufGenerator.Feature... other) {
+        _formatGeneratorFeatures |= first.getMask();
+        for (ProtobufGenerator.Feature f : other) {
+            _formatGeneratorFeatures |= f.getMask();
+        }
+        return _this();
+    }
+
+    /**
+     * @since 2.19
+     */
+    public ProtobufFactoryBuilder disable(ProtobufGenerator.Feature f) {
+        _formatGeneratorFeatures &= ~f.getMask();
+        return _this();
+    }
+
+    /**
+     * @since 2.19
+     */
+    public ProtobufFactoryBuilder disable(ProtobufGenerator.Feature first, ProtobufGenerator.Feature... other) {
+        _formatGeneratorFeatures &= ~first.getMask();
+        for (ProtobufGenerator.Feature f : other) {
+            _formatGeneratorFeatures &= ~f.getMask();
+        }
+        return _this();
+    }
+
+    /**
+     * @since 2.19
+     */
+    public ProtobufFactoryBuilder configure(ProtobufGenerator.Feature f, boolean state) {
+        return state ? enable(f) : disable(f);
+    }
+
+    // // // Accessors
+
+    /**
+     * @since 2.19
+     */
+    public int formatParserFeaturesMask() { return _formatParserFeatures; }
+
+    /**
+     * @since 2.19
+     */
+    public int formatGeneratorFeaturesMask() { return _formatGeneratorFeatures; }
+
     @Override
     public ProtobufFactory build() {
         // 28-Dec-2017, tatu: No special settings beyond base class ones, so:
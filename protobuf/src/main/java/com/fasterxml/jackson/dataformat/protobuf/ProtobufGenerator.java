@@ -4,6 +4,7 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 
 import com.fasterxml.jackson.core.*;
@@ -15,6 +16,58 @@ import com.fasterxml.jackson.dataformat.protobuf.schema.*;
 
 public class ProtobufGenerator extends GeneratorBase
 {
+    /**
+     * Enumeration that defines all togglable features for Protobuf generators.
+     *
+     * @since 2.19
+     */
+    public enum Feature implements FormatFeature
+    {
+        /**
+         * Feature that determines whether binary values of properties that are
+         * not defined in the schema, and are named by numeric field id, are
+         * written as is, as already encoded fields (tag and value) of unknown
+         * type (enabled); or handled like any other unknown property (disabled).
+         * Such values are exposed by {@link ProtobufParser} when
+         * {@link ProtobufParser.Feature#PRESERVE_UNKNOWN_FIELDS} is enabled, and
+         * can be retained using {@link ProtobufUnknownFields}.
+         *<p>
+         * NOTE: content is not validated in any way, so caller must make sure
+         * values are valid encoded fields.
+         *<p>
+         * Feature is disabled by default.
+         */
+        WRITE_RAW_UNKNOWN_FIELDS(false)
+        ;
+
+        final boolean _defaultState;
+        final int _mask;
+
+        /**
+         * Method that calculates bit set (flags) of all features that
+         * are enabled by default.
+         */
+        public static int collectDefaults()
+        {
+            int flags = 0;
+            for (Feature f : values()) {
+                if (f.enabledByDefault()) {
+                    flags |= f.getMask();
+                }
+            }
+            return flags;
+        }
+
+        private Feature(boolean defaultState) {
+            _defaultState = defaultState;
+            _mask = (1 << ordinal());
+        }
+
+        @Override public boolean enabledByDefault() { return _defaultState; }
+        @Override public int getMask() { return _mask; }
+        @Override public boolean enabledIn(int flags) { return (flags & _mask) != 0; }
+    }
+
     /*
     /**********************************************************
     /* Constants
@@ -34,6 +87,15 @@ public class ProtobufGenerator extends GeneratorBase
      */
     protected final static ProtobufField UNKNOWN_FIELD = ProtobufField.unknownField();
 
+    /**
+     * This instance is used as a placeholder for fields not known by schema,
+     * named by numeric field id, for which raw encoded content (tag and value)
+     * is to be written as is (see {@link Feature#WRITE_RAW_UNKNOWN_FIELDS}).
+     *
+     * @since 2.19
+     */
+    protected final static ProtobufField RAW_FIELD = new ProtobufField(null, FieldType.BYTES);
+
     /**
      * This is used as a placeholder for case where we don't have an actual message
      * to use, but know (from context) that one is expected.
@@ -51,6 +113,14 @@ public class ProtobufGenerator extends GeneratorBase
      */
     protected final StreamWriteConstraints _streamWriteConstraints;
 
+    /**
+     * Bit flag composed of bits that indicate which
+     * {@link ProtobufGenerator.Feature}s are enabled.
+     *
+     * @since 2.19
+     */
+    protected int _formatFeatures;
+
     protected ProtobufSchema _schema;
 
     /*
@@ -136,8 +206,19 @@ public class ProtobufGenerator extends GeneratorBase
     public ProtobufGenerator(IOContext ctxt, int jsonFeatures,
             ObjectCodec codec, OutputStream output)
         throws IOException
+    {
+        this(ctxt, jsonFeatures, Feature.collectDefaults(), codec, output);
+    }
+
+    /**
+     * @since 2.19
+     */
+    public ProtobufGenerator(IOContext ctxt, int jsonFeatures, int formatFeatures,
+            ObjectCodec codec, OutputStream output)
+        throws IOException
     {
         super(jsonFeatures, codec, ctxt, BOGUS_WRITE_CONTEXT);
+        _formatFeatures = formatFeatures;
         _streamWriteConstraints = ctxt.streamWriteConstraints();
         _output = output;
         _pbContext = _rootContext = ProtobufWriteContext.createNullContext();
@@ -187,6 +268,30 @@ public class ProtobufGenerator extends GeneratorBase
         return (schema instanceof ProtobufSchema);
     }
 
+    /*
+    /**********************************************************
+    /* Format feature handling
+    /**********************************************************
+     */
+
+    @Override // @since 2.19
+    public int getFormatFeatures() {
+        return _formatFeatures;
+    }
+
+    @Override // @since 2.19
+    public JsonGenerator overrideFormatFeatures(int values, int mask) {
+        _formatFeatures = (_formatFeatures & ~mask) | (values & mask);
+        return this;
+    }
+
+    /**
+     * @since 2.19
+     */
+    public boolean isEnabled(ProtobufGenerator.Feature f) {
+        return (_formatFeatures & f.getMask()) != 0;
+    }
+
     /*
     /**********************************************************
     /* Overridden methods, configuration
@@ -281,6 +386,10 @@ public class ProtobufGenerator extends GeneratorBase
         if (!_inObject) {
             _reportError("Can not write field name: current context not Object but "+_pbContext.typeDesc());
         }
+        if (_pbContext.inMap()) {
+            _writeMapKey(name);
+            return;
+        }
         ProtobufField f = _currField;
         // important: use current field only if NOT repeated field; repeated
         // field means an array until START_OBJECT
@@ -293,8 +402,12 @@ public class ProtobufGenerator extends GeneratorBase
             f = _currMessage.firstIf(name);
         }
         if (f == null) {
+            // Raw content of a field not known by schema?
+            if (((_formatFeatures & Feature.WRITE_RAW_UNKNOWN_FIELDS.getMask()) != 0)
+                    && _isRawFieldName(name)) {
+                f = RAW_FIELD;
             // May be ok, if we have said so
-            if ((_currMessage == UNKNOWN_MESSAGE)
+            } else if ((_currMessage == UNKNOWN_MESSAGE)
                     || isEnabled(JsonGenerator.Feature.IGNORE_UNKNOWN)) {
                 f = UNKNOWN_FIELD;
             } else {
@@ -307,13 +420,36 @@ public class ProtobufGenerator extends GeneratorBase
         _currField = f;
     }
 
+    /**
+     * Helper method for checking whether given name is that of a preserved
+     * unknown field: that is, numeric field id.
+     */
+    private final static boolean _isRawFieldName(String name)
+    {
+        final int len = name.length();
+        if (len == 0 || len > 10) {
+            return false;
+        }
+        for (int i = 0; i < len; ++i) {
+            char c = name.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
     @Override
     public final void writeFieldName(SerializableString sstr) throws IOException {
         if (!_inObject) {
             _reportError("Can not write field name: current context not Object but "+_pbContext.typeDesc());
         }
-        ProtobufField f = _currField;
         final String name = sstr.getValue();
+        if (_pbContext.inMap()) {
+            _writeMapKey(name);
+            return;
+        }
+        ProtobufField f = _currField;
         // important: use current field only if NOT repeated field; repeated
         // field means an array until START_OBJECT
         // NOTE: not ideal -- depends on if it really is sibling field of an array,
@@ -327,8 +463,12 @@ public class ProtobufGenerator extends GeneratorBase
             f = _currMessage.firstIf(name);
         }
         if (f == null) {
+            // Raw content of a field not known by schema?
+            if (((_formatFeatures & Feature.WRITE_RAW_UNKNOWN_FIELDS.getMask()) != 0)
+                    && _isRawFieldName(name)) {
+                f = RAW_FIELD;
             // May be ok, if we have said so
-            if ((_currMessage == UNKNOWN_MESSAGE)
+            } else if ((_currMessage == UNKNOWN_MESSAGE)
                     || isEnabled(JsonGenerator.Feature.IGNORE_UNKNOWN)) {
                 f = UNKNOWN_FIELD;
             } else {
@@ -470,6 +610,9 @@ public class ProtobufGenerator extends GeneratorBase
             }
             _currMessage = _schema.getRootType();
             // note: no buffering on root
+        } else if (_currField.isMap) {
+            _writeStartMap();
+            return;
         } else {
             // but also, field value must be Message if so
             if (!_currField.isObject) {
@@ -504,6 +647,10 @@ public class ProtobufGenerator extends GeneratorBase
         if (!_inObject) {
             _reportError("Current context not Object but "+_pbContext.typeDesc());
         }
+        if (_pbContext.inMap()) {
+            _writeEndMap();
+            return;
+        }
         _pbContext = _pbContext.getParent();
         if (_pbContext.inRoot()) {
             if (!_complete) {
@@ -522,6 +669,111 @@ public class ProtobufGenerator extends GeneratorBase
         }
     }
 
+    /*
+    /**********************************************************
+    /* Internal methods, writing maps
+    /**********************************************************
+     */
+
+    /**
+     * Method called when START_OBJECT is written for a {@code map<K,V>} field:
+     * such maps are written as a sequence of (length-prefixed) entry messages,
+     * without tag or length for the map itself.
+     */
+    private void _writeStartMap() throws IOException
+    {
+        _currMessage = _currField.getMessageType();
+        _pbContext = _pbContext.createChildMapContext(_currField);
+        streamWriteConstraints().validateNestingDepth(_pbContext.getNestingDepth());
+        _currField = null;
+        _writeTag = true;
+    }
+
+    private void _writeEndMap() throws IOException
+    {
+        final ProtobufWriteContext ctxt = _pbContext;
+        if (ctxt.isEntryOpen()) {
+            _finishBuffering();
+        }
+        _pbContext = ctxt.getParent();
+        _currMessage = _pbContext.getMessageType();
+        _currField = ctxt.getMapField();
+        _writeTag = true;
+    }
+
+    /**
+     * Method called for property name within map: completes the previous entry,
+     * if any, starts a new one and writes the key; after which the value field
+     * is the current field.
+     */
+    private void _writeMapKey(String key) throws IOException
+    {
+        final ProtobufWriteContext ctxt = _pbContext;
+        if (ctxt.isEntryOpen()) {
+            _finishBuffering();
+        }
+        _startBuffering(ctxt.getMapField().typedTag);
+        ctxt.setEntryOpen(true);
+
+        final ProtobufField keyField = _currMessage.field(1);
+        _currField = keyField;
+        switch (keyField.type) {
+        case STRING:
+            writeString(key);
+            break;
+        case BOOLEAN:
+            if ("true".equals(key)) {
+                writeBoolean(true);
+            } else if ("false".equals(key)) {
+                writeBoolean(false);
+            } else {
+                _reportError("Invalid key '"+key+"' for map field '"+ctxt.getMapField().name+"': not a boolean");
+            }
+            break;
+        default: // integral types
+            _writeIntegralMapKey(key, keyField.type);
+        }
+        _currField = _currMessage.field(2);
+        ctxt.setField(_currField);
+    }
+
+    /**
+     * Helper method for writing key of a map with integral key type: since
+     * signed and unsigned variants of a type are not distinguished (except
+     * for ZigZag-encoded ones, which are always signed), accepts values within
+     * range of either.
+     */
+    private void _writeIntegralMapKey(String key, FieldType type) throws IOException
+    {
+        final boolean is64 = (type == FieldType.VINT64_Z) || (type == FieldType.VINT64_STD)
+                || (type == FieldType.FIXINT64);
+        long l;
+        try {
+            l = Long.parseLong(key);
+        } catch (NumberFormatException e) {
+            // Possibly uint64 or fixed64 value above `Long.MAX_VALUE`?
+            l = 0L;
+            if (is64 && !type.usesZigZag()) {
+                try {
+                    writeNumber(Long.parseUnsignedLong(key));
+                    return;
+                } catch (NumberFormatException e2) { }
+            }
+            _reportError("Invalid key '"+key+"' for map field '"+_pbContext.getMapField().name
+                    +"': not a valid "+type);
+        }
+        if (is64) {
+            writeNumber(l);
+            return;
+        }
+        final long max = type.usesZigZag() ? Integer.MAX_VALUE : 0xFFFFFFFFL;
+        if ((l < Integer.MIN_VALUE) || (l > max)) {
+            _reportError("Invalid key '"+key+"' for map field '"+_pbContext.getMapField().name
+                    +"': out of range of "+type);
+        }
+        writeNumber((int) l);
+    }
+
     @Override
     public void writeArray(int[] array, int offset, int length) throws IOException
     {
@@ -1084,6 +1336,11 @@ public class ProtobufGenerator extends GeneratorBase
             writeNull();
             return;
         }
+        // Raw content of unknown field: tag and value already included
+        if (_currField == RAW_FIELD) {
+            _writeRawBytes(data, offset, len);
+            return;
+        }
         _verifyValueWrite();
 
         // Unlike with some other formats, let's NOT Base64 encoded even if nominally
@@ -1135,6 +1392,10 @@ public class ProtobufGenerator extends GeneratorBase
     @Override
     public void writeNull() throws IOException
     {
+        // nothing to write for missing raw content
+        if (_currField == RAW_FIELD) {
+            return;
+        }
         _verifyValueWrite();
         if (_currField == UNKNOWN_FIELD) {
             return;
@@ -1283,6 +1544,52 @@ public class ProtobufGenerator extends GeneratorBase
         if (_currField == null) {
             _reportError("Can not write value without indicating field first (in message of type "+_currMessage.getName()+")");
         }
+        if (_currField == RAW_FIELD) {
+            _reportError("Can only write binary value for unknown field '"+_pbContext.getCurrentName()
+                +"' (in message of type "+_currMessage.getName()+")");
+        }
+    }
+
+    /*
+    /**********************************************************
+    /* Overridden methods, copying from parser
+    /**********************************************************
+     */
+
+    /**
+     * Overridden to copy {@code bytes} values from {@link ProtobufParser}
+     * without intermediate {@code byte[]} (see
+     * {@link ProtobufParser#getRawValueAsByteBuffer()}).
+     *
+     * @since 2.19
+     */
+    @Override
+    public void copyCurrentEvent(JsonParser p) throws IOException
+    {
+        if ((p instanceof ProtobufParser) && p.hasToken(JsonToken.VALUE_EMBEDDED_OBJECT)) {
+            ByteBuffer bb = ((ProtobufParser) p).getRawValueAsByteBuffer();
+            writeBinary(bb.array(), bb.arrayOffset() + bb.position(), bb.remaining());
+            return;
+        }
+        super.copyCurrentEvent(p);
+    }
+
+    /**
+     * Overridden to copy {@code string} values from {@link ProtobufParser}
+     * as UTF-8 encoded, without decoding and re-encoding.
+     *
+     * @since 2.19
+     */
+    @Override
+    protected void _copyCurrentStringValue(JsonParser p) throws IOException
+    {
+        if ((p instanceof ProtobufParser) && (_currField != null)
+                && (_currField.wireType == WireType.LENGTH_PREFIXED)) {
+            ByteBuffer bb = ((ProtobufParser) p).getRawValueAsByteBuffer();
+            writeUTF8String(bb.array(), bb.arrayOffset() + bb.position(), bb.remaining());
+            return;
+        }
+        super._copyCurrentStringValue(p);
     }
 
     /*
@@ -1339,7 +1646,33 @@ public class ProtobufGenerator extends GeneratorBase
         _ensureRoom(10); // max tag 5 bytes, ditto max length
         int ptr = _writeTag(_currPtr);
         ptr = ProtobufUtil.appendLengthLength(len, _currBuffer, ptr);
+        _appendBytes(data, offset, len, ptr);
+    }
+
+    /**
+     * Method for writing already encoded content (of a field) as is.
+     *
+     * @since 2.19
+     */
+    protected void _writeRawBytes(byte[] data, int offset, int len) throws IOException
+    {
+        _ensureRoom(1);
+        _appendBytes(data, offset, len, _currPtr);
+    }
 
+    /**
+     * Helper method for appending given bytes starting at given position within
+     * current buffer, flushing or accumulating content as necessary.
+     *
+     * @since 2.19
+     */
+    private void _appendBytes(byte[] data, int offset, int len, int ptr) throws IOException
+    {
+        // trivial case: nothing to append (but may have tag, length already)
+        if (len == 0) {
+            _currPtr = ptr;
+            return;
+        }
         // and then loop until we are done
         while (len > 0) {
             int max = Math.min(len, _currBuffer.length - ptr);
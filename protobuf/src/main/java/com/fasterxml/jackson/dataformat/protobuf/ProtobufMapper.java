@@ -2,14 +2,22 @@ package com.fasterxml.jackson.dataformat.protobuf;
 
 import java.io.*;
 import java.net.URL;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Objects;
 import java.util.concurrent.locks.ReentrantLock;
 
 import com.fasterxml.jackson.core.Version;
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.core.util.BufferRecycler;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
 import com.fasterxml.jackson.databind.*;
 import com.fasterxml.jackson.databind.cfg.MapperBuilder;
+import com.fasterxml.jackson.databind.util.LRUMap;
+import com.fasterxml.jackson.databind.util.LookupCache;
 import com.fasterxml.jackson.dataformat.protobuf.schema.*;
 import com.fasterxml.jackson.dataformat.protobuf.schemagen.ProtobufSchemaGenerator;
+import com.fasterxml.jackson.dataformat.protobuf.schemagen.ProtobufSchemaPrecompiler;
 
 public class ProtobufMapper extends ObjectMapper
 {
@@ -23,13 +31,105 @@ public class ProtobufMapper extends ObjectMapper
      */
     public static class Builder extends MapperBuilder<ProtobufMapper, Builder>
     {
+        protected final ProtobufFactory _streamFactory; // since 2.19
+
         public Builder(ProtobufMapper m) {
             super(m);
+            _streamFactory = m.getFactory();
+        }
+
+        /*
+        /******************************************************************
+        /* Format features
+        /******************************************************************
+         */
+
+        /**
+         * @since 2.19
+         */
+        public Builder enable(ProtobufParser.Feature... features) {
+            for (ProtobufParser.Feature f : features) {
+                _streamFactory.enable(f);
+            }
+            return this;
+        }
+
+        /**
+         * @since 2.19
+         */
+        public Builder disable(ProtobufParser.Feature... features) {
+            for (ProtobufParser.Feature f : features) {
+                _streamFactory.disable(f);
+            }
+            return this;
+        }
+
+        /**
+         * @since 2.19
+         */
+        public Builder configure(ProtobufParser.Feature f, boolean state)
+        {
+            if (state) {
+                _streamFactory.enable(f);
+            } else {
+                _streamFactory.disable(f);
+            }
+            return this;
+        }
+
+        /**
+         * @since 2.19
+         */
+        public Builder enable(ProtobufGenerator.Feature... features) {
+            for (ProtobufGenerator.Feature f : features) {
+                _streamFactory.enable(f);
+            }
+            return this;
+        }
+
+        /**
+         * @since 2.19
+         */
+        public Builder disable(ProtobufGenerator.Feature... features) {
+            for (ProtobufGenerator.Feature f : features) {
+                _streamFactory.disable(f);
+            }
+            return this;
+        }
+
+        /**
+         * @since 2.19
+         */
+        public Builder configure(ProtobufGenerator.Feature f, boolean state)
+        {
+            if (state) {
+                _streamFactory.enable(f);
+            } else {
+                _streamFactory.disable(f);
+            }
+            return this;
         }
     }
 
+    /**
+     * Maximum number of schemas retained in the cache used by
+     * {@link #parseSchema(String, String)} and
+     * {@link #loadSchemaFromDescriptorSet(byte[], String)}.
+     *
+     * @since 2.19
+     */
+    public final static int DEFAULT_SCHEMA_CACHE_SIZE = 200;
+
     protected ProtobufSchemaLoader _schemaLoader = ProtobufSchemaLoader.std;
 
+    /**
+     * Bounded cache of resolved schemas, keyed by content of protoc definition
+     * (or descriptor set) and root type name.
+     *
+     * @since 2.19
+     */
+    protected final LookupCache<SchemaKey, ProtobufSchema> _schemaCache;
+
     /**
      * Lazily constructed instance of {@link DescriptorLoader}, used for loading
      * structured protoc definitions from multiple files.
@@ -53,10 +153,14 @@ public class ProtobufMapper extends ObjectMapper
 
     public ProtobufMapper(ProtobufFactory f) {
         super(f);
+        // @since 2.19: support bulk decoding of packed arrays
+        registerModule(new ProtobufModule());
+        _schemaCache = new LRUMap<>(16, DEFAULT_SCHEMA_CACHE_SIZE);
     }
 
     protected ProtobufMapper(ProtobufMapper src) {
         super(src);
+        _schemaCache = new LRUMap<>(16, DEFAULT_SCHEMA_CACHE_SIZE);
     }
 
     /**
@@ -105,8 +209,95 @@ public class ProtobufMapper extends ObjectMapper
         return _schemaLoader;
     }
 
+    /**
+     * Method for changing {@link ProtobufSchemaLoader} to use; since 2.19 also
+     * clears schemas cached by {@link #parseSchema(String, String)}, as they
+     * were resolved using the previous loader.
+     */
     public void setSchemaLoader(ProtobufSchemaLoader l) {
         _schemaLoader = l;
+        _schemaCache.clear();
+    }
+
+    /**
+     * Method for parsing given protoc definition into schema with the first
+     * message type defined as the root type; same as
+     * {@code parseSchema(protoc, null)}.
+     *
+     * @since 2.19
+     */
+    public ProtobufSchema parseSchema(String protoc) throws IOException {
+        return parseSchema(protoc, null);
+    }
+
+    /**
+     * Method for parsing given protoc definition into schema, similar to
+     * {@link ProtobufSchemaLoader#parse(String, String)} but with resolved
+     * schemas cached (up to {@link #DEFAULT_SCHEMA_CACHE_SIZE} most recently used),
+     * so that loading same definition again is cheap.
+     *
+     * @param protoc Textual protoc definition
+     * @param rootTypeName Name of message type to use as the root type;
+     *    if {@code null}, first message type defined
+     *
+     * @since 2.19
+     */
+    public ProtobufSchema parseSchema(String protoc, String rootTypeName) throws IOException
+    {
+        final SchemaKey key = new SchemaKey(protoc, null, rootTypeName);
+        ProtobufSchema schema = _schemaCache.get(key);
+        if (schema == null) {
+            final ProtobufSchemaLoader loader = _schemaLoader;
+            schema = (rootTypeName == null) ? loader.parse(protoc)
+                    : loader.parse(protoc, rootTypeName);
+            // Loader changed while parsing? If so, result must not be cached
+            if (loader == _schemaLoader) {
+                schema = _cacheSchema(key, schema);
+            }
+        }
+        return schema;
+    }
+
+    /**
+     * Method for loading schema from given encoded {@link FileDescriptorSet}
+     * (as produced by {@code protoc --descriptor_set_out}); with resolved
+     * schemas cached similar to {@link #parseSchema(String, String)}.
+     *
+     * @param descriptorSet Encoded descriptor set
+     * @param rootTypeName Name of message type to use as the root type;
+     *    if {@code null}, first message type defined
+     *
+     * @since 2.19
+     */
+    public ProtobufSchema loadSchemaFromDescriptorSet(byte[] descriptorSet, String rootTypeName)
+        throws IOException
+    {
+        final SchemaKey key = new SchemaKey(null, descriptorSet, rootTypeName);
+        ProtobufSchema schema = _schemaCache.get(key);
+        if (schema == null) {
+            FileDescriptorSet fds = descriptorLoader().load(new ByteArrayInputStream(descriptorSet));
+            schema = (rootTypeName == null) ? fds.schemaForFirstType()
+                    : fds.schemaFor(rootTypeName);
+            schema = _cacheSchema(key, schema);
+        }
+        return schema;
+    }
+
+    /**
+     * Method that will clear all schemas cached by {@link #parseSchema(String, String)}
+     * and {@link #loadSchemaFromDescriptorSet(byte[], String)}.
+     *
+     * @since 2.19
+     */
+    public void clearSchemaCache() {
+        _schemaCache.clear();
+    }
+
+    private ProtobufSchema _cacheSchema(SchemaKey key, ProtobufSchema schema)
+    {
+        // Concurrent loads may race: if so, use whichever got cached first
+        ProtobufSchema old = _schemaCache.putIfAbsent(key, schema);
+        return (old == null) ? schema : old;
     }
 
     /**
@@ -142,6 +333,30 @@ public class ProtobufMapper extends ObjectMapper
         return gen.getGeneratedSchema();
     }
 
+    /**
+     * Method for finding schema for given Java type: if a precompiled schema
+     * (generated at build time with {@link ProtobufSchemaPrecompiler}) is
+     * found from the class path, it is loaded, avoiding cost of generation;
+     * otherwise schema is generated same as with {@link #generateSchemaFor(Class)}.
+     *<p>
+     * Note that precompiled schemas are generated with configuration of the mapper
+     * used for precompilation, not this mapper.
+     *
+     * @param type Type to find {@link ProtobufSchema} for
+     *
+     * @return Precompiled or generated {@link ProtobufSchema}
+     *
+     * @since 2.19
+     */
+    public ProtobufSchema loadSchemaFor(Class<?> type) throws IOException
+    {
+        ProtobufSchema schema = ProtobufSchemaPrecompiler.findPrecompiled(type);
+        if (schema == null) {
+            schema = generateSchemaFor(type);
+        }
+        return schema;
+    }
+
     /**
      * Convenience method for constructing protoc definition that matches
      * given Java type. Uses {@link ProtobufSchemaGenerator} for generation.
@@ -156,6 +371,90 @@ public class ProtobufMapper extends ObjectMapper
         return generateSchemaFor(_typeFactory.constructType(type));
     }
 
+    /*
+    /**********************************************************
+    /* Serialization into ByteBuffers (since 2.19)
+    /**********************************************************
+     */
+
+    /**
+     * Method for serializing given value into a heap {@link ByteBuffer};
+     * same as {@code writeValueAsByteBuffer(schema, value, false)}.
+     *
+     * @since 2.19
+     */
+    public ByteBuffer writeValueAsByteBuffer(ProtobufSchema schema, Object value)
+        throws IOException
+    {
+        return writeValueAsByteBuffer(schema, value, false);
+    }
+
+    /**
+     * Method for serializing given value into a newly allocated {@link ByteBuffer},
+     * sized to exactly fit encoded content, ready to be read (position 0,
+     * limit at the end of content).
+     * Compared to writing into a {@link ByteArrayOutputStream} and wrapping
+     * result, uses recycled buffers for encoding and copies content just once,
+     * directly into resulting buffer.
+     *
+     * @param direct Whether to allocate a direct buffer ({@code true}) or heap
+     *    buffer ({@code false})
+     *
+     * @since 2.19
+     */
+    public ByteBuffer writeValueAsByteBuffer(ProtobufSchema schema, Object value,
+            boolean direct)
+        throws IOException
+    {
+        final BufferRecycler br = _jsonFactory._getBufferRecycler();
+        try (ByteArrayBuilder bb = new ByteArrayBuilder(br)) {
+            writer(schema).writeValue(bb, value);
+            final int len = bb.size();
+            ByteBuffer result = direct ? ByteBuffer.allocateDirect(len) : ByteBuffer.allocate(len);
+            // Usually all content fits in the first segment; if not, need to coalesce
+            if (bb.getCurrentSegmentLength() == len) {
+                result.put(bb.getCurrentSegment(), 0, len);
+            } else {
+                result.put(bb.toByteArray());
+            }
+            bb.release();
+            result.flip();
+            return result;
+        } finally {
+            br.releaseToPool();
+        }
+    }
+
+    /**
+     * Method for serializing given value into given (possibly pooled) {@link ByteBuffer},
+     * starting at its current position, without intermediate copies.
+     * On success, position of the buffer is advanced past content written;
+     * on failure (including buffer not having enough room for content),
+     * position is left unchanged.
+     *
+     * @return Number of bytes written
+     *
+     * @throws IOException If buffer does not have enough room for content,
+     *    or if serialization fails
+     *
+     * @since 2.19
+     */
+    public int writeValue(ByteBuffer target, ProtobufSchema schema, Object value)
+        throws IOException
+    {
+        final int start = target.position();
+        boolean ok = false;
+        try {
+            writer(schema).writeValue(new ByteBufferTarget(target), value);
+            ok = true;
+        } finally {
+            if (!ok) {
+                target.position(start);
+            }
+        }
+        return target.position() - start;
+    }
+
     /*
     /**********************************************************
     /* Schema access, FileDescriptorSets (since 2.9)
@@ -205,4 +504,87 @@ public class ProtobufMapper extends ObjectMapper
         }
         return l;
     }
+
+    /*
+    /**********************************************************
+    /* Helper types
+    /**********************************************************
+     */
+
+    /**
+     * Key for {@link ProtobufMapper#_schemaCache}: either textual protoc
+     * definition or encoded descriptor set, along with root type name.
+     *
+     * @since 2.19
+     */
+    protected final static class SchemaKey
+        implements java.io.Serializable
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final String _protoc;
+        private final byte[] _descriptorSet;
+        private final String _rootType;
+        private final int _hash;
+
+        public SchemaKey(String protoc, byte[] descriptorSet, String rootType) {
+            _protoc = protoc;
+            _descriptorSet = descriptorSet;
+            _rootType = rootType;
+            int h = (protoc == null) ? Arrays.hashCode(descriptorSet) : protoc.hashCode();
+            if (rootType != null) {
+                h = (h * 31) + rootType.hashCode();
+            }
+            _hash = h;
+        }
+
+        @Override
+        public int hashCode() { return _hash; }
+
+        @Override
+        public boolean equals(Object o) {
+            if (o == this) return true;
+            if (!(o instanceof SchemaKey)) return false;
+            SchemaKey other = (SchemaKey) o;
+            return (_hash == other._hash)
+                    && Objects.equals(_rootType, other._rootType)
+                    && Objects.equals(_protoc, other._protoc)
+                    && Arrays.equals(_descriptorSet, other._descriptorSet);
+        }
+    }
+
+    /**
+     * {@link OutputStream} that writes into a fixed-size {@link ByteBuffer},
+     * reporting overflow as an {@link IOException}.
+     */
+    private final static class ByteBufferTarget extends OutputStream
+    {
+        private final ByteBuffer _target;
+
+        ByteBufferTarget(ByteBuffer target) {
+            _target = target;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            if (!_target.hasRemaining()) {
+                _reportOverflow(1);
+            }
+            _target.put((byte) b);
+        }
+
+        @Override
+        public void write(byte[] b, int offset, int len) throws IOException {
+            if (_target.remaining() < len) {
+                _reportOverflow(len);
+            }
+            _target.put(b, offset, len);
+        }
+
+        private void _reportOverflow(int len) throws IOException {
+            throw new IOException(String.format(
+                    "Target ByteBuffer too small: need to write %d bytes, only %d remaining (capacity %d)",
+                    len, _target.remaining(), _target.capacity()));
+        }
+    }
 }
@@ -0,0 +1,46 @@
+package com.fasterxml.jackson.dataformat.protobuf;
+
+import java.nio.ByteBuffer;
+
+import com.fasterxml.jackson.core.Version;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.module.SimpleDeserializers;
+import com.fasterxml.jackson.dataformat.protobuf.deser.ByteBufferSliceDeserializer;
+import com.fasterxml.jackson.dataformat.protobuf.deser.PackedArrayDeserializer;
+
+/**
+ * Module that adds handlers that take advantage of Protobuf-specific
+ * capabilities of {@link ProtobufParser}:
+ *<ul>
+ * <li>Bulk decoding of packed repeated fields into primitive arrays
+ *   (see {@link PackedArrayDeserializer})
+ *  </li>
+ * <li>Binding of {@code bytes} values into {@link ByteBuffer}s without copying,
+ *   if {@link ProtobufParser.Feature#ZERO_COPY_BINARY} is enabled
+ *   (see {@link ByteBufferSliceDeserializer})
+ *  </li>
+ *</ul>
+ * Registered by default by {@link ProtobufMapper}.
+ *
+ * @since 2.19
+ */
+public class ProtobufModule extends Module
+{
+    public ProtobufModule() { }
+
+    @Override
+    public String getModuleName() {
+        return getClass().getName();
+    }
+
+    @Override
+    public Version version() { return PackageVersion.VERSION; }
+
+    @Override
+    public void setupModule(SetupContext context) {
+        context.addBeanDeserializerModifier(new PackedArrayDeserializer.Modifier());
+        SimpleDeserializers desers = new SimpleDeserializers();
+        desers.addDeserializer(ByteBuffer.class, new ByteBufferSliceDeserializer());
+        context.addDeserializers(desers);
+    }
+}
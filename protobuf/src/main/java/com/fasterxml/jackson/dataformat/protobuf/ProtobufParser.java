@@ -3,6 +3,9 @@ package com.fasterxml.jackson.dataformat.protobuf;
 import java.io.*;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 
 import com.fasterxml.jackson.core.*;
 import com.fasterxml.jackson.core.base.ParserMinimalBase;
@@ -13,6 +16,71 @@ import com.fasterxml.jackson.dataformat.protobuf.schema.*;
 
 public class ProtobufParser extends ParserMinimalBase
 {
+    /**
+     * Enumeration that defines all togglable features for Protobuf parsers.
+     *
+     * @since 2.19
+     */
+    public enum Feature implements FormatFeature
+    {
+        /**
+         * Feature that determines whether fields not defined in the schema are
+         * to be skipped (disabled), or exposed (enabled) as properties named with
+         * the numeric field id, with value of {@link JsonToken#VALUE_EMBEDDED_OBJECT}
+         * that contains raw encoded field (tag and value) as {@code byte[]}.
+         * Such properties can be retained using {@code @JsonAnySetter} (see
+         * {@link ProtobufUnknownFields}) and written back as is by
+         * {@link ProtobufGenerator} (if {@link ProtobufGenerator.Feature#WRITE_RAW_UNKNOWN_FIELDS}
+         * is enabled), to allow round-tripping of content written using newer
+         * versions of a schema.
+         *<p>
+         * Feature is disabled by default.
+         */
+        PRESERVE_UNKNOWN_FIELDS(false),
+
+        /**
+         * Feature that determines whether {@code bytes} values bound to
+         * {@link ByteBuffer} properties are exposed, when reading from a
+         * {@code byte[]}, as slices of that array without copying (enabled)
+         * or as copies (disabled). Enabling avoids copying of large values,
+         * but resulting buffers share content with the input array, which
+         * must therefore not be modified while they are in use.
+         *<p>
+         * Feature is disabled by default.
+         *
+         * @since 2.19
+         */
+        ZERO_COPY_BINARY(false)
+        ;
+
+        final boolean _defaultState;
+        final int _mask;
+
+        /**
+         * Method that calculates bit set (flags) of all features that
+         * are enabled by default.
+         */
+        public static int collectDefaults()
+        {
+            int flags = 0;
+            for (Feature f : values()) {
+                if (f.enabledByDefault()) {
+                    flags |= f.getMask();
+                }
+            }
+            return flags;
+        }
+
+        private Feature(boolean defaultState) {
+            _defaultState = defaultState;
+            _mask = (1 << ordinal());
+        }
+
+        @Override public boolean enabledByDefault() { return _defaultState; }
+        @Override public int getMask() { return _mask; }
+        @Override public boolean enabledIn(int flags) { return (flags & _mask) != 0; }
+    }
+
     // State constants
 
     // State right after parser created; may start root Object
@@ -51,6 +119,26 @@ public class ProtobufParser extends ParserMinimalBase
     // State after either reaching end-of-input, or getting explicitly closed
     private final static int STATE_CLOSED = 12;
 
+    // State after FIELD_NAME of an unknown field, when preserving those
+    // @since 2.19
+    private final static int STATE_UNKNOWN_VALUE = 13;
+
+    // State after FIELD_NAME of a `map<K,V>` field
+    // @since 2.19
+    private final static int STATE_MAP_START = 14;
+
+    // State after START_OBJECT of a map, or after tag of another entry
+    // @since 2.19
+    private final static int STATE_MAP_ENTRY = 15;
+
+    // State after FIELD_NAME (entry key) of a map
+    // @since 2.19
+    private final static int STATE_MAP_VALUE = 16;
+
+    // State after value of a map entry
+    // @since 2.19
+    private final static int STATE_MAP_ENTRY_END = 17;
+
     private final static int[] UTF8_UNIT_CODES = ProtobufUtil.sUtf8UnitLengths;
 
     // @since 2.14
@@ -68,6 +156,14 @@ public class ProtobufParser extends ParserMinimalBase
      */
     protected ObjectCodec _objectCodec;
 
+    /**
+     * Bit flag composed of bits that indicate which
+     * {@link ProtobufParser.Feature}s are enabled.
+     *
+     * @since 2.19
+     */
+    protected int _formatFeatures;
+
     protected ProtobufSchema _schema;
 
     /*
@@ -257,6 +353,23 @@ public class ProtobufParser extends ParserMinimalBase
 
     protected int _currentEndOffset = Integer.MAX_VALUE;
 
+    /**
+     * Raw content of an unknown field being preserved, to be exposed as the
+     * value following its {@code FIELD_NAME}.
+     *
+     * @since 2.19
+     */
+    protected byte[] _unknownFieldValue;
+
+    /**
+     * Length of raw content of an unknown field being preserved, when it is
+     * not copied into {@link #_unknownFieldValue} but left in caller-provided
+     * input buffer (just before current input pointer) to be exposed lazily.
+     *
+     * @since 2.19
+     */
+    protected int _unknownFieldLength;
+
     /*
     /**********************************************************
     /* Numeric conversions
@@ -292,10 +405,23 @@ public class ProtobufParser extends ParserMinimalBase
             ObjectCodec codec,
             InputStream in, byte[] inputBuffer, int start, int end,
             boolean bufferRecyclable)
+    {
+        this(ctxt, parserFeatures, Feature.collectDefaults(), codec,
+                in, inputBuffer, start, end, bufferRecyclable);
+    }
+
+    /**
+     * @since 2.19
+     */
+    public ProtobufParser(IOContext ctxt, int parserFeatures, int formatFeatures,
+            ObjectCodec codec,
+            InputStream in, byte[] inputBuffer, int start, int end,
+            boolean bufferRecyclable)
     {
         super(parserFeatures, ctxt.streamReadConstraints());
         _ioContext = ctxt;
         _objectCodec = codec;
+        _formatFeatures = formatFeatures;
 
         _inputStream = in;
         _inputBuffer = inputBuffer;
@@ -337,6 +463,24 @@ public class ProtobufParser extends ParserMinimalBase
         return PROTOBUF_READ_CAPABILITIES;
     }
 
+    @Override // @since 2.19
+    public int getFormatFeatures() {
+        return _formatFeatures;
+    }
+
+    @Override // @since 2.19
+    public JsonParser overrideFormatFeatures(int values, int mask) {
+        _formatFeatures = (_formatFeatures & ~mask) | (values & mask);
+        return this;
+    }
+
+    /**
+     * @since 2.19
+     */
+    public boolean isEnabled(ProtobufParser.Feature f) {
+        return (_formatFeatures & f.getMask()) != 0;
+    }
+
     /*
     /**********************************************************
     /* Versioned
@@ -663,7 +807,7 @@ public class ProtobufParser extends ParserMinimalBase
             }
             return _updateToken(_readNextValue(_currentField.type, STATE_ARRAY_VALUE_PACKED));
 
-        case STATE_ARRAY_END: // only used with unpacked and with "_nextTag"
+        case STATE_ARRAY_END: // only used with unpacked arrays and maps, with "_nextTag"
 
             // We have returned END_ARRAY; now back to similar to STATE_ROOT_KEY / STATE_NESTED_KEY
 
@@ -680,6 +824,39 @@ public class ProtobufParser extends ParserMinimalBase
             close(); // sets state to STATE_CLOSED
             return _updateToken(JsonToken.END_OBJECT);
 
+        case STATE_MAP_START:
+            // Map itself has neither tag nor length: entries do, and are read one by one
+            _currentMessage = _currentField.getMessageType();
+            _parsingContext = _parsingContext.createChildObjectContext(_currentMessage,
+                    _currentField, _currentEndOffset);
+            _streamReadConstraints.validateNestingDepth(_parsingContext.getNestingDepth());
+            _state = STATE_MAP_ENTRY;
+            return _updateToken(JsonToken.START_OBJECT);
+
+        case STATE_MAP_ENTRY:
+            return _handleMapEntryKey();
+
+        case STATE_MAP_VALUE:
+            return _updateToken(_readMapEntryValue());
+
+        case STATE_MAP_ENTRY_END:
+            return _handleMapEntryEnd();
+
+        case STATE_UNKNOWN_VALUE:
+            if (_unknownFieldValue == null) {
+                // Within caller-provided buffer: rewind, to be handled like any
+                // incomplete binary value (copied or sliced only if accessed)
+                _inputPtr -= _unknownFieldLength;
+                _tokenInputTotal = _currInputProcessed + _inputPtr;
+                _decodedLength = _unknownFieldLength;
+                _tokenIncomplete = true;
+            } else {
+                _binaryValue = _unknownFieldValue;
+                _unknownFieldValue = null;
+            }
+            _state = _parsingContext.inRoot() ? STATE_ROOT_KEY : STATE_NESTED_KEY;
+            return _updateToken(JsonToken.VALUE_EMBEDDED_OBJECT);
+
         case STATE_CLOSED:
             return null;
 
@@ -707,6 +884,8 @@ public class ProtobufParser extends ParserMinimalBase
             _state =  STATE_ROOT_KEY;
         } else if (_parsingContext.inArray()) {
             _state = _currentField.packed ? STATE_ARRAY_VALUE_PACKED : STATE_ARRAY_VALUE_OTHER;
+        } else if (_currentMessage.isMapEntry()) { // Message value of a map entry
+            _state = STATE_MAP_ENTRY_END;
         } else {
             _state = STATE_NESTED_KEY;
         }
@@ -742,6 +921,8 @@ public class ProtobufParser extends ParserMinimalBase
             } else {
                 _state = STATE_ARRAY_START;
             }
+        } else if (f.isMap) {
+            _state = STATE_MAP_START;
         } else {
             _state = STATE_ROOT_VALUE;
         }
@@ -766,14 +947,6 @@ public class ProtobufParser extends ParserMinimalBase
                 return _skipUnknownField(id, wireType);
             }
         }
-
-        if ((_currentField == null) || (f = _currentField.nextOrThisIf(id)) == null) {
-            f = _currentMessage.field(id);
-        }
-        // Note: may be null; if so, value needs to be skipped
-        if (f == null) {
-            return _skipUnknownField(id, wireType);
-        }
         _parsingContext.setCurrentName(f.name);
         if (!f.isValidFor(wireType)) {
             _reportIncompatibleType(f, wireType);
@@ -786,6 +959,8 @@ public class ProtobufParser extends ParserMinimalBase
             } else {
                 _state = STATE_ARRAY_START;
             }
+        } else if (f.isMap) {
+            _state = STATE_MAP_START;
         } else {
             _state = STATE_NESTED_VALUE;
         }
@@ -793,6 +968,172 @@ public class ProtobufParser extends ParserMinimalBase
         return _updateToken(JsonToken.FIELD_NAME);
     }
 
+    /**
+     * Method called to read an entry of a {@code map<K,V>} field (tag of which
+     * has been read), up to and including its key, which is exposed as
+     * {@link JsonToken#FIELD_NAME}.
+     * Entry itself is encoded as a length-prefixed message, with key as field 1
+     * and value as field 2: either may be missing, in which case key has default value
+     * and value is exposed as {@link JsonToken#VALUE_NULL}.
+     */
+    private JsonToken _handleMapEntryKey() throws IOException
+    {
+        final int len = _decodeLength();
+        final int entryEnd = _inputPtr + len;
+        final ProtobufReadContext mapCtxt = _parsingContext;
+        if (!mapCtxt.getParent().inRoot() && (entryEnd > mapCtxt.getParent().getEndOffset())) {
+            _reportErrorF("Map entry for field '%s' extends past end of enclosing message: %d > %d (length: %d)",
+                    mapCtxt.getParent().getField().name, entryEnd, mapCtxt.getParent().getEndOffset(), len);
+        }
+        _currentEndOffset = entryEnd;
+        mapCtxt.setEndOffset(entryEnd);
+
+        final ProtobufField keyField = _currentMessage.field(1);
+        String key = null;
+        _nextTag = 0;
+        if (_inputPtr < entryEnd) {
+            int tag = _decodeVInt();
+            if ((tag >> 3) == 1) {
+                if (!keyField.isValidFor(tag & 0x7)) {
+                    _reportIncompatibleType(keyField, tag & 0x7);
+                }
+                key = _decodeMapKey(keyField);
+            } else {
+                _nextTag = tag;
+            }
+        }
+        if (key == null) { // missing, use default value
+            switch (keyField.type) {
+            case STRING:
+                key = "";
+                break;
+            case BOOLEAN:
+                key = "false";
+                break;
+            default:
+                key = "0";
+            }
+        }
+        mapCtxt.setCurrentName(key);
+        _currentField = _currentMessage.field(2);
+        _state = STATE_MAP_VALUE;
+        return _updateToken(JsonToken.FIELD_NAME);
+    }
+
+    private String _decodeMapKey(ProtobufField keyField) throws IOException
+    {
+        switch (keyField.type) {
+        case STRING:
+            {
+                final int len = _decodeLength();
+                if (len == 0) {
+                    return "";
+                }
+                if (len > (_inputEnd - _inputPtr)) {
+                    if (len >= _inputBuffer.length) {
+                        _finishLongText(len);
+                        return _textBuffer.contentsAsString();
+                    }
+                    _loadToHaveAtLeast(len);
+                }
+                return _finishShortText(len);
+            }
+        case BOOLEAN:
+            if (_inputPtr >= _inputEnd) {
+                loadMoreGuaranteed();
+            }
+            return (_inputBuffer[_inputPtr++] == 0) ? "false" : "true";
+        case VINT32_Z:
+            return String.valueOf(ProtobufUtil.zigzagDecode(_decodeVInt()));
+        case VINT64_Z:
+            return String.valueOf(ProtobufUtil.zigzagDecode(_decodeVLong()));
+        case VINT32_STD:
+            return String.valueOf(_decodeVInt());
+        case VINT64_STD:
+            return String.valueOf(_decodeVLong());
+        case FIXINT32:
+            return String.valueOf(_decode32Bits());
+        case FIXINT64:
+            return String.valueOf(_decode64Bits());
+        default:
+        }
+        // should never get here as schema validates key types, but:
+        _reportErrorF("Invalid key type %s for map field", keyField.type);
+        return null;
+    }
+
+    private JsonToken _readMapEntryValue() throws IOException
+    {
+        int tag = _nextTag;
+        _nextTag = 0;
+        while (true) {
+            if (tag == 0) {
+                if (_inputPtr >= _currentEndOffset) { // no value
+                    _state = STATE_MAP_ENTRY_END;
+                    return JsonToken.VALUE_NULL;
+                }
+                tag = _decodeVInt();
+            }
+            if ((tag >> 3) == 2) {
+                break;
+            }
+            // not expected but skip anything other than value
+            _skipUnknownValue(tag & 0x7);
+            tag = 0;
+        }
+        if (!_currentField.isValidFor(tag & 0x7)) {
+            _reportIncompatibleType(_currentField, tag & 0x7);
+        }
+        return _readNextValue(_currentField.type, STATE_MAP_ENTRY_END);
+    }
+
+    /**
+     * Method called after value of a map entry, to either read the next entry,
+     * or to end the map if tag of some other field (or end of enclosing message)
+     * is encountered.
+     */
+    private JsonToken _handleMapEntryEnd() throws IOException
+    {
+        // anything left in entry (unknown fields) must be skipped
+        if (_inputPtr < _currentEndOffset) {
+            _skipBytes(_currentEndOffset - _inputPtr);
+        }
+        final ProtobufReadContext parent = _parsingContext.getParent();
+        final ProtobufField mapField = parent.getField();
+        if (parent.inRoot()) {
+            if ((_inputPtr >= _inputEnd) && !loadMore()) {
+                _endMap(parent, mapField);
+                _state = STATE_MESSAGE_END;
+                return _updateToken(JsonToken.END_OBJECT);
+            }
+        } else if (_inputPtr >= parent.getEndOffset()) {
+            _endMap(parent, mapField);
+            _state = STATE_NESTED_KEY;
+            return _updateToken(JsonToken.END_OBJECT);
+        }
+        final int tag = _decodeVInt();
+        // expected case: another entry of the same map
+        if ((tag >> 3) == mapField.id) {
+            if (!mapField.isValidFor(tag & 0x7)) {
+                _reportIncompatibleType(mapField, tag & 0x7);
+            }
+            return _handleMapEntryKey();
+        }
+        // otherwise, different field, need to end this map
+        _nextTag = tag;
+        _endMap(parent, mapField);
+        _state = STATE_ARRAY_END;
+        return _updateToken(JsonToken.END_OBJECT);
+    }
+
+    private void _endMap(ProtobufReadContext parent, ProtobufField mapField)
+    {
+        _parsingContext = parent;
+        _currentMessage = parent.getMessageType();
+        _currentEndOffset = parent.getEndOffset();
+        _currentField = mapField;
+    }
+
     private JsonToken _readNextValue(FieldType t, int nextState) throws IOException
     {
         JsonToken type;
@@ -936,6 +1277,10 @@ public class ProtobufParser extends ParserMinimalBase
 
     private JsonToken _skipUnknownField(int tag, int wireType) throws IOException
     {
+        // Retained instead of skipping?
+        if ((_formatFeatures & Feature.PRESERVE_UNKNOWN_FIELDS.getMask()) != 0) {
+            return _preserveUnknownField(tag, wireType);
+        }
         // First: is this even allowed?
         if (!isEnabled(StreamReadFeature.IGNORE_UNDEFINED)) {
             _reportErrorF("Undefined property (id %d, wire type %d) for message type %s: not allowed to ignore, as `JsonParser.Feature.IGNORE_UNDEFINED` disabled",
@@ -976,6 +1321,108 @@ public class ProtobufParser extends ParserMinimalBase
         }
     }
 
+    /**
+     * Helper method called to read raw content of an unknown field (re-encoded
+     * tag followed by value as is) to be exposed as a property named by
+     * field id.
+     */
+    private JsonToken _preserveUnknownField(int id, int wireType) throws IOException
+    {
+        // Contents all within caller-provided buffer? No need to copy, just
+        // find the extent of the field (including tag already decoded)
+        if ((_inputStream == null) && !_bufferRecyclable) {
+            final int start = _rawTagStart((id << 3) | wireType);
+            if (start >= 0) {
+                _skipUnknownValue(wireType);
+                _unknownFieldLength = _inputPtr - start;
+                _unknownFieldValue = null;
+                _parsingContext.setCurrentName(String.valueOf(id));
+                _state = STATE_UNKNOWN_VALUE;
+                return _updateToken(JsonToken.FIELD_NAME);
+            }
+        }
+        ByteArrayBuilder bb = _getByteArrayBuilder();
+        _appendVInt(bb, (id << 3) | wireType);
+        switch (wireType) {
+        case WireType.VINT:
+            while (true) {
+                if (_inputPtr >= _inputEnd) {
+                    loadMoreGuaranteed();
+                }
+                int b = _inputBuffer[_inputPtr++];
+                bb.append(b);
+                if (b >= 0) {
+                    break;
+                }
+            }
+            break;
+        case WireType.FIXED_32BIT:
+            _appendRawBytes(bb, 4);
+            break;
+        case WireType.FIXED_64BIT:
+            _appendRawBytes(bb, 8);
+            break;
+        case WireType.LENGTH_PREFIXED:
+            int len = _decodeLength();
+            _appendVInt(bb, len);
+            _appendRawBytes(bb, len);
+            break;
+        default:
+            _reportError(String.format("Unrecognized wire type 0x%x for unknown field within message of type %s)",
+                    wireType, _currentMessage.getName()));
+        }
+        _unknownFieldValue = bb.toByteArray();
+        _parsingContext.setCurrentName(String.valueOf(id));
+        _state = STATE_UNKNOWN_VALUE;
+        return _updateToken(JsonToken.FIELD_NAME);
+    }
+
+    /**
+     * Helper method for locating start of the tag just decoded (and immediately
+     * preceding current input pointer), as long as it used the minimal
+     * encoding (as it should): if not, returns -1.
+     */
+    private int _rawTagStart(int tag)
+    {
+        int len = 1;
+        for (int v = tag >>> 7; v != 0; v >>>= 7) {
+            ++len;
+        }
+        final int start = _inputPtr - len;
+        if (start < 0) {
+            return -1;
+        }
+        int v = tag;
+        for (int i = start, last = _inputPtr - 1; i <= last; ++i, v >>>= 7) {
+            int b = (i == last) ? v : ((v & 0x7F) | 0x80);
+            if (_inputBuffer[i] != (byte) b) {
+                return -1;
+            }
+        }
+        return start;
+    }
+
+    private void _appendVInt(ByteArrayBuilder bb, int v) {
+        while ((v & ~0x7F) != 0) {
+            bb.append((v & 0x7F) | 0x80);
+            v >>>= 7;
+        }
+        bb.append(v);
+    }
+
+    private void _appendRawBytes(ByteArrayBuilder bb, int len) throws IOException
+    {
+        while (len > 0) {
+            if (_inputPtr >= _inputEnd) {
+                loadMoreGuaranteed();
+            }
+            int count = Math.min(len, _inputEnd - _inputPtr);
+            bb.write(_inputBuffer, _inputPtr, count);
+            _inputPtr += count;
+            len -= count;
+        }
+    }
+
     private void _skipUnknownValue(int wireType) throws IOException
     {
         switch (wireType) {
@@ -1007,6 +1454,11 @@ public class ProtobufParser extends ParserMinimalBase
     @Override
     public boolean nextFieldName(SerializableString sstr) throws IOException
     {
+        // Value may not have been (fully) read; if so, skip
+        if (_tokenIncomplete) {
+            _tokenIncomplete = false;
+            _skipBytes(_decodedLength);
+        }
         if (_state == STATE_ROOT_KEY) {
             if (_inputPtr >= _inputEnd) {
                 if (!loadMore()) {
@@ -1040,6 +1492,8 @@ public class ProtobufParser extends ParserMinimalBase
                 } else {
                     _state = STATE_ARRAY_START;
                 }
+            } else if (_currentField.isMap) {
+                _state = STATE_MAP_START;
             } else {
                 _state = STATE_ROOT_VALUE;
             }
@@ -1076,6 +1530,8 @@ public class ProtobufParser extends ParserMinimalBase
                 } else {
                     _state = STATE_ARRAY_START;
                 }
+            } else if (_currentField.isMap) {
+                _state = STATE_MAP_START;
             } else {
                 _state = STATE_NESTED_VALUE;
             }
@@ -1088,6 +1544,11 @@ public class ProtobufParser extends ParserMinimalBase
     @Override
     public String nextFieldName() throws IOException
     {
+        // Value may not have been (fully) read; if so, skip
+        if (_tokenIncomplete) {
+            _tokenIncomplete = false;
+            _skipBytes(_decodedLength);
+        }
         if (_state == STATE_ROOT_KEY) {
             if (_inputPtr >= _inputEnd) {
                 if (!loadMore()) {
@@ -1107,6 +1568,9 @@ public class ProtobufParser extends ParserMinimalBase
                 if (_skipUnknownField(id, wireType) != JsonToken.FIELD_NAME) {
                     return null;
                 }
+                if (_state == STATE_UNKNOWN_VALUE) {
+                    return _parsingContext.getCurrentName();
+                }
                 // sub-optimal as skip method already set it, but:
                 // [dataformats-binary#202]: need to reset after skipping
                 wireType = _currentField.wireType;
@@ -1124,6 +1588,8 @@ public class ProtobufParser extends ParserMinimalBase
                 } else {
                     _state = STATE_ARRAY_START;
                 }
+            } else if (_currentField.isMap) {
+                _state = STATE_MAP_START;
             } else {
                 _state = STATE_ROOT_VALUE;
             }
@@ -1146,6 +1612,9 @@ public class ProtobufParser extends ParserMinimalBase
                 if (_skipUnknownField(id, wireType) != JsonToken.FIELD_NAME) {
                     return null;
                 }
+                if (_state == STATE_UNKNOWN_VALUE) {
+                    return _parsingContext.getCurrentName();
+                }
                 // sub-optimal as skip method already set it, but:
                 // [dataformats-binary#202]: need to reset after skipping
                 wireType = _currentField.wireType;
@@ -1163,6 +1632,8 @@ public class ProtobufParser extends ParserMinimalBase
                 } else {
                     _state = STATE_ARRAY_START;
                 }
+            } else if (_currentField.isMap) {
+                _state = STATE_MAP_START;
             } else {
                 _state = STATE_NESTED_VALUE;
             }
@@ -1270,6 +1741,291 @@ public class ProtobufParser extends ParserMinimalBase
         return _textBuffer.contentsAsString();
     }
 
+    /*
+    /**********************************************************
+    /* Public API, deferred decoding of nested messages
+    /**********************************************************
+     */
+
+    /**
+     * Method that may be called when parser points to {@link JsonToken#START_OBJECT}
+     * of a nested message, to read its encoded contents (without tag or length
+     * prefix) as is, instead of decoding them into tokens.
+     * If successful, parser will point to matching {@link JsonToken#END_OBJECT} after call.
+     *
+     * @return Encoded contents of the nested message, if parser pointed to start of one;
+     *    {@code null} otherwise (in which case parser state is not changed)
+     *
+     * @since 2.19
+     */
+    public byte[] readMessageAsBinary() throws IOException
+    {
+        if (!_atNestedMessageStart()) {
+            return null;
+        }
+        final int len = _currentEndOffset - _inputPtr;
+        byte[] result = (len == 0) ? ByteArrayBuilder.NO_BYTES : _finishBytes(len);
+        _checkEnd();
+        _updateToken(JsonToken.END_OBJECT);
+        return result;
+    }
+
+    /**
+     * Method similar to {@link #readMessageAsBinary()}, but that returns
+     * contents as a {@link ByteBuffer}. If parser was constructed
+     * for a caller-provided {@code byte[]}, buffer is a view of that array
+     * (and no copying is done): neither array nor buffer should be modified
+     * while buffer is in use.
+     *
+     * @return Encoded contents of the nested message, if parser pointed to start of one;
+     *    {@code null} otherwise (in which case parser state is not changed)
+     *
+     * @since 2.19
+     */
+    public ByteBuffer readMessageAsByteBuffer() throws IOException
+    {
+        if (!_atNestedMessageStart()) {
+            return null;
+        }
+        // Contents all within caller-provided buffer? Can just slice
+        if ((_inputStream == null) && !_bufferRecyclable) {
+            final int start = _inputPtr;
+            final int len = _currentEndOffset - start;
+            if (_currentEndOffset > _inputEnd) {
+                _reportInvalidEOF();
+            }
+            _inputPtr = _currentEndOffset;
+            _checkEnd();
+            _updateToken(JsonToken.END_OBJECT);
+            return ByteBuffer.wrap(_inputBuffer, start, len).slice();
+        }
+        return ByteBuffer.wrap(readMessageAsBinary());
+    }
+
+    private boolean _atNestedMessageStart() {
+        return (_currToken == JsonToken.START_OBJECT) && (_state == STATE_NESTED_KEY)
+                && !_parsingContext.inRoot();
+    }
+
+    /*
+    /**********************************************************
+    /* Public API, bulk decoding of packed arrays
+    /**********************************************************
+     */
+
+    /**
+     * Method that may be called when parser points to {@link JsonToken#START_ARRAY}
+     * of a packed repeated field of 32-bit integral type, to decode all values of
+     * the array in one go (instead of one {@link JsonToken#VALUE_NUMBER_INT} at a time).
+     * If successful, parser will point to matching {@link JsonToken#END_ARRAY} after call.
+     *
+     * @return Values of the packed array, if parser pointed to start of one with
+     *    compatible element type; {@code null} otherwise (in which case parser state
+     *    is not changed)
+     *
+     * @since 2.19
+     */
+    public int[] readPackedIntArray() throws IOException
+    {
+        final FieldType type = _packedArrayType();
+        if ((type != FieldType.VINT32_STD) && (type != FieldType.VINT32_Z)
+                && (type != FieldType.FIXINT32)) {
+            return null;
+        }
+        int[] result = new int[_packedArraySize(type == FieldType.FIXINT32 ? 4 : 1)];
+        int count = 0;
+        while (!_checkEnd()) {
+            if (count == result.length) {
+                result = Arrays.copyOf(result, _growPackedArray(count));
+            }
+            int v;
+            if (type == FieldType.FIXINT32) {
+                v = _decode32Bits();
+            } else {
+                v = _decodeVInt();
+                if (type == FieldType.VINT32_Z) {
+                    v = ProtobufUtil.zigzagDecode(v);
+                }
+            }
+            result[count++] = v;
+        }
+        _updateToken(JsonToken.END_ARRAY);
+        return (count == result.length) ? result : Arrays.copyOf(result, count);
+    }
+
+    /**
+     * Method similar to {@link #readPackedIntArray()} but for packed repeated
+     * fields of any integral type.
+     *
+     * @since 2.19
+     */
+    public long[] readPackedLongArray() throws IOException
+    {
+        final FieldType type = _packedArrayType();
+        if (type == null) {
+            return null;
+        }
+        final int minSize;
+        switch (type) {
+        case FIXINT64:
+            minSize = 8;
+            break;
+        case FIXINT32:
+            minSize = 4;
+            break;
+        case VINT32_STD:
+        case VINT32_Z:
+        case VINT64_STD:
+        case VINT64_Z:
+            minSize = 1;
+            break;
+        default:
+            return null;
+        }
+        long[] result = new long[_packedArraySize(minSize)];
+        int count = 0;
+        while (!_checkEnd()) {
+            if (count == result.length) {
+                result = Arrays.copyOf(result, _growPackedArray(count));
+            }
+            long v;
+            switch (type) {
+            case FIXINT64:
+                v = _decode64Bits();
+                break;
+            case FIXINT32:
+                v = _decode32Bits();
+                break;
+            case VINT32_STD:
+                v = _decodeVInt();
+                break;
+            case VINT32_Z:
+                v = ProtobufUtil.zigzagDecode(_decodeVInt());
+                break;
+            case VINT64_Z:
+                v = ProtobufUtil.zigzagDecode(_decodeVLong());
+                break;
+            default: // VINT64_STD
+                v = _decodeVLong();
+            }
+            result[count++] = v;
+        }
+        _updateToken(JsonToken.END_ARRAY);
+        return (count == result.length) ? result : Arrays.copyOf(result, count);
+    }
+
+    /**
+     * Method similar to {@link #readPackedIntArray()} but for packed repeated
+     * fields of type {@code double} or {@code float}.
+     *
+     * @since 2.19
+     */
+    public double[] readPackedDoubleArray() throws IOException
+    {
+        final FieldType type = _packedArrayType();
+        if ((type != FieldType.DOUBLE) && (type != FieldType.FLOAT)) {
+            return null;
+        }
+        final boolean isDouble = (type == FieldType.DOUBLE);
+        double[] result = new double[_packedArraySize(isDouble ? 8 : 4)];
+        int count = 0;
+        while (!_checkEnd()) {
+            if (count == result.length) {
+                result = Arrays.copyOf(result, _growPackedArray(count));
+            }
+            result[count++] = isDouble ? Double.longBitsToDouble(_decode64Bits())
+                    : Float.intBitsToFloat(_decode32Bits());
+        }
+        _updateToken(JsonToken.END_ARRAY);
+        return (count == result.length) ? result : Arrays.copyOf(result, count);
+    }
+
+    /**
+     * Method similar to {@link #readPackedIntArray()} but for packed repeated
+     * fields of type {@code float}.
+     *
+     * @since 2.19
+     */
+    public float[] readPackedFloatArray() throws IOException
+    {
+        if (_packedArrayType() != FieldType.FLOAT) {
+            return null;
+        }
+        float[] result = new float[_packedArraySize(4)];
+        int count = 0;
+        while (!_checkEnd()) {
+            if (count == result.length) {
+                result = Arrays.copyOf(result, _growPackedArray(count));
+            }
+            result[count++] = Float.intBitsToFloat(_decode32Bits());
+        }
+        _updateToken(JsonToken.END_ARRAY);
+        return (count == result.length) ? result : Arrays.copyOf(result, count);
+    }
+
+    /**
+     * Method similar to {@link #readPackedIntArray()} but for packed repeated
+     * fields of type {@code bool}.
+     *
+     * @since 2.19
+     */
+    public boolean[] readPackedBooleanArray() throws IOException
+    {
+        if (_packedArrayType() != FieldType.BOOLEAN) {
+            return null;
+        }
+        boolean[] result = new boolean[_packedArraySize(1)];
+        int count = 0;
+        while (!_checkEnd()) {
+            if (count == result.length) {
+                result = Arrays.copyOf(result, _growPackedArray(count));
+            }
+            if (_inputPtr >= _inputEnd) {
+                loadMoreGuaranteed();
+            }
+            int i = _inputBuffer[_inputPtr++];
+            if (i == 1) {
+                result[count++] = true;
+            } else if (i == 0) {
+                result[count++] = false;
+            } else {
+                _reportError(String.format("Invalid byte value for bool field %s: 0x%2x; should be either 0x0 or 0x1",
+                        _currentField.name, i));
+            }
+        }
+        _updateToken(JsonToken.END_ARRAY);
+        return (count == result.length) ? result : Arrays.copyOf(result, count);
+    }
+
+    /**
+     * @return Type of elements of packed array, if parser points to its
+     *    {@code START_ARRAY}; {@code null} otherwise
+     */
+    private final FieldType _packedArrayType() {
+        if ((_currToken == JsonToken.START_ARRAY) && (_state == STATE_ARRAY_VALUE_PACKED)) {
+            return _currentField.type;
+        }
+        return null;
+    }
+
+    // Maximum number of elements to allocate up-front, based on length prefix
+    private final static int MAX_PACKED_INITIAL_SIZE = 0x10000;
+
+    /**
+     * Helper method for calculating initial size of the array to decode
+     * packed array values into: exact count for fixed-size elements; upper
+     * bound for variable-length ones, but capped to avoid excessive allocations
+     * for corrupt length prefixes.
+     */
+    private final int _packedArraySize(int minElementBytes) {
+        int count = (_currentEndOffset - _inputPtr) / minElementBytes;
+        return Math.max(0, Math.min(count, MAX_PACKED_INITIAL_SIZE));
+    }
+
+    private final static int _growPackedArray(int count) {
+        return count + Math.max(16, count >> 1);
+    }
+
     private final ProtobufField _findField(int id)
     {
         ProtobufField f;
@@ -1484,9 +2240,78 @@ public class ProtobufParser extends ParserMinimalBase
         if (_currToken != JsonToken.VALUE_EMBEDDED_OBJECT ) {
             _reportError("Current token ("+_currToken+") not VALUE_EMBEDDED_OBJECT, can not access as binary");
         }
+        if (!_tokenIncomplete) {
+            out.write(_binaryValue);
+            return _binaryValue.length;
+        }
+        // Not yet read: can copy directly from input, without intermediate buffer
+        _tokenIncomplete = false;
+        final int total = _decodedLength;
+        int left = total;
+        while (true) {
+            if (_inputPtr >= _inputEnd) {
+                loadMoreGuaranteed();
+            }
+            int count = Math.min(left, _inputEnd - _inputPtr);
+            out.write(_inputBuffer, _inputPtr, count);
+            _inputPtr += count;
+            left -= count;
+            if (left <= 0) {
+                return total;
+            }
+        }
+    }
 
-        // !!! TBI
-        return -1;
+    /**
+     * Method that may be called when parser points to a {@code bytes} value
+     * ({@link JsonToken#VALUE_EMBEDDED_OBJECT}) or {@code string} value
+     * ({@link JsonToken#VALUE_STRING}) to access its raw encoded content
+     * (for Strings, UTF-8 encoded) as a {@link ByteBuffer}, without decoding.
+     *<p>
+     * If parser was constructed for a {@code byte[]} (and value has not yet
+     * been accessed otherwise), returned buffer is a slice of that array and
+     * no copying is done: caller must not modify buffer contents (unless
+     * modifying input is acceptable), and input array must not be modified
+     * while buffer is in use. Otherwise contents are copied.
+     * Either way, value may still be accessed using other methods (like
+     * {@link #getText()} or {@link #getBinaryValue()}) afterwards.
+     *
+     * @return Raw content of the current value, if parser points to a
+     *   {@code bytes} or {@code string} value; {@code null} otherwise
+     *
+     * @since 2.19
+     */
+    public ByteBuffer getRawValueAsByteBuffer() throws IOException
+    {
+        final JsonToken t = _currToken;
+        if ((t != JsonToken.VALUE_EMBEDDED_OBJECT) && (t != JsonToken.VALUE_STRING)) {
+            return null;
+        }
+        if (_tokenIncomplete) {
+            final int len = _decodedLength;
+            // Contents all within caller-provided buffer? Can just slice
+            if ((_inputStream == null) && !_bufferRecyclable) {
+                if ((_inputPtr + len) > _inputEnd) {
+                    _reportInvalidEOF();
+                }
+                return ByteBuffer.wrap(_inputBuffer, _inputPtr, len).slice();
+            }
+            if (t == JsonToken.VALUE_EMBEDDED_OBJECT) {
+                _finishToken();
+            } else if (len < _inputBuffer.length) {
+                // copy raw bytes but leave decoding (if any) to happen later
+                if (len > (_inputEnd - _inputPtr)) {
+                    _loadToHaveAtLeast(len);
+                }
+                return ByteBuffer.wrap(Arrays.copyOfRange(_inputBuffer, _inputPtr, _inputPtr + len));
+            } else {
+                _finishToken();
+            }
+        }
+        if (t == JsonToken.VALUE_EMBEDDED_OBJECT) {
+            return ByteBuffer.wrap(_binaryValue);
+        }
+        return ByteBuffer.wrap(_textBuffer.contentsAsString().getBytes(StandardCharsets.UTF_8));
     }
 
     /*
@@ -113,7 +113,7 @@ public final class ProtobufReadContext
         ProtobufReadContext ctxt = _child;
         if (ctxt == null) {
             _child = ctxt = new ProtobufReadContext(this, _messageType,
-                    TYPE_ARRAY, 0);
+                    TYPE_ARRAY, endOffset);
         } else {
             ctxt.reset(_messageType, TYPE_ARRAY, endOffset);
         }
@@ -182,6 +182,14 @@ public final class ProtobufReadContext
 
     public int getEndOffset() { return _endOffset; }
 
+    /**
+     * Method for changing end offset: needed for {@code map<K,V>} contexts which
+     * span multiple entries, each with its own end offset.
+     *
+     * @since 2.19
+     */
+    public void setEndOffset(int end) { _endOffset = end; }
+
     public ProtobufMessage getMessageType() { return _messageType; }
 
     public ProtobufField getField() { return _field; }
@@ -0,0 +1,95 @@
+package com.fasterxml.jackson.dataformat.protobuf;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Simple container for retaining raw encoded fields not known by the schema
+ * used for reading, when {@link ProtobufParser.Feature#PRESERVE_UNKNOWN_FIELDS}
+ * is enabled. Intended to be used with {@code @JsonAnySetter} and
+ * {@code @JsonAnyGetter} like so:
+ *<pre>
+ *  public class Item {
+ *    public String name;
+ *
+ *    protected final ProtobufUnknownFields unknown = new ProtobufUnknownFields();
+ *
+ *    &#64;JsonAnySetter
+ *    public void setUnknown(String id, byte[] raw) { unknown.add(id, raw); }
+ *
+ *    &#64;JsonAnyGetter
+ *    public Map&lt;String, byte[]&gt; getUnknown() { return unknown.asMap(); }
+ *  }
+ *</pre>
+ * so that content will be written back as is by {@link ProtobufGenerator}
+ * (with {@link ProtobufGenerator.Feature#WRITE_RAW_UNKNOWN_FIELDS} enabled).
+ *<p>
+ * Since Protobuf allows multiple instances of a field (for repeated fields),
+ * raw content of all instances with same id is concatenated; this retains
+ * values of both packed and unpacked repeated fields.
+ *
+ * @since 2.19
+ */
+public class ProtobufUnknownFields
+    implements java.io.Serializable
+{
+    private static final long serialVersionUID = 1L;
+
+    protected Map<String, byte[]> _fields;
+
+    public ProtobufUnknownFields() { }
+
+    /**
+     * Method for adding raw content (encoded tag and value) of a field
+     * with given numeric id (as String).
+     */
+    public ProtobufUnknownFields add(String id, byte[] raw)
+    {
+        if (raw == null || raw.length == 0) {
+            return this;
+        }
+        if (_fields == null) {
+            _fields = new LinkedHashMap<>();
+        }
+        byte[] old = _fields.get(id);
+        if (old != null) {
+            byte[] b = new byte[old.length + raw.length];
+            System.arraycopy(old, 0, b, 0, old.length);
+            System.arraycopy(raw, 0, b, old.length, raw.length);
+            raw = b;
+        }
+        _fields.put(id, raw);
+        return this;
+    }
+
+    public boolean isEmpty() {
+        return (_fields == null) || _fields.isEmpty();
+    }
+
+    public int size() {
+        return (_fields == null) ? 0 : _fields.size();
+    }
+
+    /**
+     * Accessor for raw content of field with given numeric id, if any.
+     */
+    public byte[] get(int id) {
+        return (_fields == null) ? null : _fields.get(String.valueOf(id));
+    }
+
+    /**
+     * Accessor for all retained fields, in order first encountered, as
+     * unmodifiable {@link Map}.
+     */
+    public Map<String, byte[]> asMap() {
+        if (_fields == null) {
+            return Collections.emptyMap();
+        }
+        return Collections.unmodifiableMap(_fields);
+    }
+
+    public void clear() {
+        _fields = null;
+    }
+}
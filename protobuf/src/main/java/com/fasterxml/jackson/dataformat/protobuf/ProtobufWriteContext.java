@@ -27,6 +27,22 @@ public class ProtobufWriteContext
      */
     protected Object _currentValue;
 
+    /**
+     * For contexts of {@code map<K,V>} fields, the map field itself;
+     * {@code null} for other contexts.
+     *
+     * @since 2.19
+     */
+    protected ProtobufField _mapField;
+
+    /**
+     * For map contexts, whether an entry has been started (and needs
+     * to be completed before starting the next one, or ending the map).
+     *
+     * @since 2.19
+     */
+    protected boolean _entryOpen;
+
     /*
     /**********************************************************
     /* Simple instance reuse slots; speed up things
@@ -58,6 +74,8 @@ public class ProtobufWriteContext
         _message = msg;
         _field = f;
         _currentValue = null;
+        _mapField = null;
+        _entryOpen = false;
     }
 
     // // // Factory methods
@@ -95,6 +113,18 @@ public class ProtobufWriteContext
         return ctxt;
     }
 
+    /**
+     * Factory method for constructing context for writing entries of
+     * given {@code map<K,V>} field.
+     *
+     * @since 2.19
+     */
+    public ProtobufWriteContext createChildMapContext(ProtobufField mapField) {
+        ProtobufWriteContext ctxt = createChildObjectContext(mapField.getMessageType());
+        ctxt._mapField = mapField;
+        return ctxt;
+    }
+
     /*
     /**********************************************************
     /* Simple accessors, mutators
@@ -133,6 +163,26 @@ public class ProtobufWriteContext
 
     public boolean notArray() { return _type != TYPE_ARRAY; }
 
+    /**
+     * @since 2.19
+     */
+    public boolean inMap() { return _mapField != null; }
+
+    /**
+     * @since 2.19
+     */
+    public ProtobufField getMapField() { return _mapField; }
+
+    /**
+     * @since 2.19
+     */
+    public boolean isEntryOpen() { return _entryOpen; }
+
+    /**
+     * @since 2.19
+     */
+    public void setEntryOpen(boolean state) { _entryOpen = state; }
+
     public StringBuilder appendDesc(StringBuilder sb) {
         if (_parent != null) {
             sb = _parent.appendDesc(sb);
@@ -0,0 +1,38 @@
+package com.fasterxml.jackson.dataformat.protobuf.deser;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.ByteBufferDeserializer;
+import com.fasterxml.jackson.dataformat.protobuf.ProtobufParser;
+
+/**
+ * Deserializer for {@link ByteBuffer}s that, if
+ * {@link ProtobufParser.Feature#ZERO_COPY_BINARY} is enabled, exposes
+ * {@code bytes} values as slices of input (see
+ * {@link ProtobufParser#getRawValueAsByteBuffer()}) instead of copying them;
+ * otherwise works same as the standard {@link ByteBufferDeserializer}.
+ *
+ * @since 2.19
+ */
+public class ByteBufferSliceDeserializer extends ByteBufferDeserializer
+{
+    private static final long serialVersionUID = 1L;
+
+    public ByteBufferSliceDeserializer() { }
+
+    @Override
+    public ByteBuffer deserialize(JsonParser p, DeserializationContext ctxt) throws IOException
+    {
+        if ((p instanceof ProtobufParser) && p.hasToken(JsonToken.VALUE_EMBEDDED_OBJECT)) {
+            ProtobufParser pp = (ProtobufParser) p;
+            if (pp.isEnabled(ProtobufParser.Feature.ZERO_COPY_BINARY)) {
+                return pp.getRawValueAsByteBuffer();
+            }
+        }
+        return super.deserialize(p, ctxt);
+    }
+}
@@ -0,0 +1,127 @@
+package com.fasterxml.jackson.dataformat.protobuf.deser;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.databind.*;
+import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.util.LRUMap;
+import com.fasterxml.jackson.dataformat.protobuf.LazyMessage;
+import com.fasterxml.jackson.dataformat.protobuf.ProtobufParser;
+import com.fasterxml.jackson.dataformat.protobuf.schema.ProtobufMessage;
+import com.fasterxml.jackson.dataformat.protobuf.schema.ProtobufSchema;
+
+/**
+ * Deserializer for {@link LazyMessage}s: with {@link ProtobufParser}, retains
+ * encoded contents of the nested message (see
+ * {@link ProtobufParser#readMessageAsByteBuffer()}) to be decoded on first access;
+ * with other parsers (or if parser does not point to a nested message) value
+ * is decoded right away.
+ *
+ * @since 2.19
+ */
+public class LazyMessageDeserializer
+    extends StdDeserializer<LazyMessage<?>>
+    implements ContextualDeserializer
+{
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Type of message values
+     */
+    protected final JavaType _valueType;
+
+    /**
+     * Readers constructed so far for nested message types, to avoid having
+     * to construct schema and reader for every value. Message types do not
+     * override {@code equals()} so lookup is by identity; readers are only
+     * reused if constructed with the same codec.
+     */
+    protected final LRUMap<ProtobufMessage, CachedReader> _readers;
+
+    public LazyMessageDeserializer() {
+        this(null);
+    }
+
+    protected LazyMessageDeserializer(JavaType valueType) {
+        super(LazyMessage.class);
+        _valueType = valueType;
+        _readers = new LRUMap<>(4, 64);
+    }
+
+    @Override
+    public JsonDeserializer<?> createContextual(DeserializationContext ctxt,
+            BeanProperty property) throws JsonMappingException
+    {
+        JavaType type = ctxt.getContextualType();
+        if (type == null && property != null) {
+            type = property.getType();
+        }
+        JavaType valueType = (type == null) ? null : type.containedTypeOrUnknown(0);
+        if (valueType == null) {
+            valueType = ctxt.constructType(Object.class);
+        }
+        return new LazyMessageDeserializer(valueType);
+    }
+
+    @Override
+    public LazyMessage<?> deserialize(JsonParser p, DeserializationContext ctxt) throws IOException
+    {
+        if ((p instanceof ProtobufParser) && p.hasToken(JsonToken.START_OBJECT)) {
+            ProtobufParser pp = (ProtobufParser) p;
+            ObjectReader r = _reader(pp);
+            if (r != null) {
+                ByteBuffer content = pp.readMessageAsByteBuffer();
+                if (content != null) {
+                    return new LazyMessage<Object>(content, r);
+                }
+            }
+        }
+        // If not, need to decode right away
+        return LazyMessage.of(ctxt.readValue(p, _valueType));
+    }
+
+    /**
+     * Helper method for constructing reader for decoding contents of the nested
+     * message parser points to, if possible.
+     */
+    protected ObjectReader _reader(ProtobufParser p)
+    {
+        final ProtobufSchema schema = p.getSchema();
+        final ProtobufMessage msg = p.getParsingContext().getMessageType();
+        if ((schema == null) || (msg == null)) {
+            return null;
+        }
+        final ObjectCodec codec = p.getCodec();
+        CachedReader cached = _readers.get(msg);
+        if ((cached != null) && (cached.codec == codec)) {
+            return cached.reader;
+        }
+        final ProtobufSchema msgSchema = new ProtobufSchema(schema.getSource(), msg);
+        final ObjectReader r;
+        if (codec instanceof ObjectReader) {
+            r = ((ObjectReader) codec).forType(_valueType).with(msgSchema);
+        } else if (codec instanceof ObjectMapper) {
+            r = ((ObjectMapper) codec).readerFor(_valueType).with(msgSchema);
+        } else {
+            return null;
+        }
+        _readers.put(msg, new CachedReader(codec, r));
+        return r;
+    }
+
+    protected final static class CachedReader
+    {
+        public final ObjectCodec codec;
+        public final ObjectReader reader;
+
+        public CachedReader(ObjectCodec codec, ObjectReader reader) {
+            this.codec = codec;
+            this.reader = reader;
+        }
+    }
+}
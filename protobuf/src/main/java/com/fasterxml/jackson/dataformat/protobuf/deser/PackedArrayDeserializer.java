@@ -0,0 +1,98 @@
+package com.fasterxml.jackson.dataformat.protobuf.deser;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.*;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerModifier;
+import com.fasterxml.jackson.databind.deser.std.DelegatingDeserializer;
+import com.fasterxml.jackson.databind.type.ArrayType;
+import com.fasterxml.jackson.dataformat.protobuf.ProtobufParser;
+
+/**
+ * Deserializer for primitive arrays ({@code int[]}, {@code long[]}, {@code double[]},
+ * {@code float[]}, {@code boolean[]}) that decodes packed repeated fields in one go
+ * using {@link ProtobufParser} bulk read methods, and delegates to the standard
+ * deserializer for everything else.
+ *
+ * @since 2.19
+ */
+public class PackedArrayDeserializer extends DelegatingDeserializer
+{
+    private static final long serialVersionUID = 1L;
+
+    protected final Class<?> _elementType;
+
+    public PackedArrayDeserializer(JsonDeserializer<?> delegatee, Class<?> elementType) {
+        super(delegatee);
+        _elementType = elementType;
+    }
+
+    /**
+     * Method for checking whether packed arrays of given element type
+     * can be bulk-decoded.
+     */
+    public static boolean isSupported(Class<?> elementType) {
+        return (elementType == Integer.TYPE) || (elementType == Long.TYPE)
+                || (elementType == Double.TYPE) || (elementType == Float.TYPE)
+                || (elementType == Boolean.TYPE);
+    }
+
+    @Override
+    protected JsonDeserializer<?> newDelegatingInstance(JsonDeserializer<?> newDelegatee) {
+        return new PackedArrayDeserializer(newDelegatee, _elementType);
+    }
+
+    @Override
+    public Object deserialize(JsonParser p, DeserializationContext ctxt) throws IOException
+    {
+        if (p instanceof ProtobufParser) {
+            Object result = _readPacked((ProtobufParser) p);
+            if (result != null) {
+                return result;
+            }
+        }
+        return _delegatee.deserialize(p, ctxt);
+    }
+
+    protected Object _readPacked(ProtobufParser p) throws IOException
+    {
+        final Class<?> type = _elementType;
+        if (type == Integer.TYPE) {
+            return p.readPackedIntArray();
+        }
+        if (type == Long.TYPE) {
+            return p.readPackedLongArray();
+        }
+        if (type == Double.TYPE) {
+            return p.readPackedDoubleArray();
+        }
+        if (type == Float.TYPE) {
+            return p.readPackedFloatArray();
+        }
+        if (type == Boolean.TYPE) {
+            return p.readPackedBooleanArray();
+        }
+        return null;
+    }
+
+    /**
+     * {@link BeanDeserializerModifier} that wraps standard primitive array
+     * deserializers with {@link PackedArrayDeserializer}s.
+     */
+    public static class Modifier extends BeanDeserializerModifier
+    {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public JsonDeserializer<?> modifyArrayDeserializer(DeserializationConfig config,
+                ArrayType valueType, BeanDescription beanDesc, JsonDeserializer<?> deserializer)
+        {
+            Class<?> elementType = valueType.getContentType().getRawClass();
+            if (isSupported(elementType) && !(deserializer instanceof PackedArrayDeserializer)) {
+                return new PackedArrayDeserializer(deserializer, elementType);
+            }
+            return deserializer;
+        }
+    }
+}
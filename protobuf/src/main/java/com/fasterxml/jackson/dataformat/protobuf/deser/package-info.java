@@ -0,0 +1,8 @@
+/**
+ * Contains Protobuf-specific deserializers, used to take advantage of
+ * capabilities of {@link com.fasterxml.jackson.dataformat.protobuf.ProtobufParser}
+ * beyond basic token streams.
+ *
+ * @since 2.19
+ */
+package com.fasterxml.jackson.dataformat.protobuf.deser;
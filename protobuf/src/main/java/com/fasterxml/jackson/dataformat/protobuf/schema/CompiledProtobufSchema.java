@@ -0,0 +1,277 @@
+package com.fasterxml.jackson.dataformat.protobuf.schema;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Helper class for writing and reading "compiled" form of {@link ProtobufSchema}s:
+ * compact binary representation of already resolved message types, which
+ * can be read back without having to parse protoc definition or resolve types.
+ * This is useful for build-time preparation of schemas that are loaded at startup,
+ * as reading is much faster than loading schema from protoc or
+ * {@link FileDescriptorSet}.
+ *<p>
+ * Original protoc definition (if available) is also included; but it is
+ * only parsed if needed, that is, if a different root type is requested
+ * (see {@link ProtobufSchema#withRootType}).
+ *<p>
+ * Note that format is only meant to be read by the same version of this
+ * module that wrote it, and not as a long-term storage format.
+ *
+ * @since 2.19
+ */
+public final class CompiledProtobufSchema
+{
+    private final static int MAGIC = 0x4A50_4253; // "JPBS"
+
+    private final static int VERSION = 1;
+
+    private final static int F_REQUIRED = 0x01;
+    private final static int F_REPEATED = 0x02;
+    private final static int F_PACKED = 0x04;
+    private final static int F_DEPRECATED = 0x08;
+    private final static int F_MAP = 0x10;
+    private final static int F_STD_ENUM = 0x20;
+
+    private final static FieldType[] FIELD_TYPES = FieldType.values();
+
+    /**
+     * Upper bound for number of messages, fields of a message and values of
+     * an enum: well above anything seen in practice, but low enough to
+     * prevent corrupt content from triggering huge allocations.
+     */
+    private final static int MAX_COUNT = 100_000;
+
+    /**
+     * Upper bound for length of names and schema source, in bytes.
+     */
+    private final static int MAX_STRING_LENGTH = 64 * 1024 * 1024;
+
+    private CompiledProtobufSchema() { }
+
+    /*
+    /**********************************************************
+    /* Public API
+    /**********************************************************
+     */
+
+    public static byte[] toBytes(ProtobufSchema schema) throws IOException
+    {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(1000);
+        write(schema, bytes);
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Method for writing compiled form of given schema into given stream.
+     * Note that stream is NOT closed by this method.
+     */
+    public static void write(ProtobufSchema schema, OutputStream out) throws IOException
+    {
+        DataOutputStream dout = new DataOutputStream(out);
+        dout.writeInt(MAGIC);
+        dout.writeByte(VERSION);
+
+        NativeProtobufSchema src = schema.getSource();
+        if (src == null) {
+            dout.writeBoolean(false);
+        } else {
+            dout.writeBoolean(true);
+            _writeString(dout, src._name);
+            _writeString(dout, src.toString());
+        }
+
+        // Find all message types reachable from the root, root first
+        List<ProtobufMessage> msgs = new ArrayList<>();
+        Map<ProtobufMessage, Integer> indexes = new IdentityHashMap<>();
+        msgs.add(schema.getRootType());
+        indexes.put(schema.getRootType(), 0);
+        for (int i = 0; i < msgs.size(); ++i) {
+            for (ProtobufField f : msgs.get(i).fields()) {
+                ProtobufMessage fm = f.getMessageType();
+                if ((fm != null) && !indexes.containsKey(fm)) {
+                    indexes.put(fm, msgs.size());
+                    msgs.add(fm);
+                }
+            }
+        }
+
+        // First "headers" of all messages, to allow forward references
+        dout.writeInt(msgs.size());
+        for (ProtobufMessage msg : msgs) {
+            _writeString(dout, msg.getName());
+            dout.writeBoolean(msg.isMapEntry());
+            dout.writeInt(msg.getFieldCount());
+        }
+        // and then fields
+        for (ProtobufMessage msg : msgs) {
+            for (ProtobufField f : msg.fields()) {
+                _writeString(dout, f.name);
+                dout.writeInt(f.id);
+                dout.writeByte(f.type.ordinal());
+                int flags = 0;
+                if (f.required) flags |= F_REQUIRED;
+                if (f.repeated) flags |= F_REPEATED;
+                if (f.packed) flags |= F_PACKED;
+                if (f.deprecated) flags |= F_DEPRECATED;
+                if (f.isMap) flags |= F_MAP;
+                if (f.isStdEnum) flags |= F_STD_ENUM;
+                dout.writeByte(flags);
+                _writeString(dout, f.getOneOf());
+                if (f.type == FieldType.MESSAGE) {
+                    dout.writeInt(indexes.get(f.getMessageType()));
+                } else if (f.type == FieldType.ENUM) {
+                    Collection<String> names = f.getEnumValues();
+                    dout.writeInt(names.size());
+                    for (String name : names) {
+                        _writeString(dout, name);
+                        dout.writeInt(f.findEnumIndex(name));
+                    }
+                }
+            }
+        }
+        dout.flush();
+    }
+
+    public static ProtobufSchema fromBytes(byte[] data) throws IOException {
+        return read(new ByteArrayInputStream(data));
+    }
+
+    /**
+     * Method for reading schema from compiled form written using
+     * {@link #write}. Note that stream is NOT closed by this method.
+     */
+    public static ProtobufSchema read(InputStream in) throws IOException
+    {
+        DataInputStream din = new DataInputStream(in);
+        try {
+            return _read(din);
+        } catch (EOFException e) {
+            throw new IOException("Invalid compiled protobuf schema: unexpected end of content", e);
+        }
+    }
+
+    /*
+    /**********************************************************
+    /* Helper methods
+    /**********************************************************
+     */
+
+    private static ProtobufSchema _read(DataInputStream din) throws IOException
+    {
+        if (din.readInt() != MAGIC) {
+            throw new IOException("Invalid compiled protobuf schema: unrecognized header");
+        }
+        int version = din.readUnsignedByte();
+        if (version != VERSION) {
+            throw new IOException("Invalid compiled protobuf schema: unsupported version "
+                    +version+" (expected "+VERSION+")");
+        }
+        NativeProtobufSchema src = null;
+        if (din.readBoolean()) {
+            String name = _readString(din);
+            src = NativeProtobufSchema.constructLazily(name, _readString(din));
+        }
+        final int msgCount = _readCount(din, "message");
+        if (msgCount < 1) {
+            throw new IOException("Invalid compiled protobuf schema: invalid message count "+msgCount);
+        }
+        ProtobufMessage[] msgs = new ProtobufMessage[msgCount];
+        for (int i = 0; i < msgCount; ++i) {
+            String name = _readString(din);
+            boolean mapEntry = din.readBoolean();
+            msgs[i] = new ProtobufMessage(name, new ProtobufField[_readCount(din, "field")], mapEntry);
+        }
+        for (ProtobufMessage msg : msgs) {
+            final ProtobufField[] fields = msg._fields;
+            for (int i = 0; i < fields.length; ++i) {
+                fields[i] = _readField(din, msgs);
+                if (i > 0) {
+                    fields[i-1].assignNext(fields[i]);
+                }
+            }
+            msg.init((fields.length == 0) ? null : fields[0]);
+        }
+        return new ProtobufSchema(src, msgs[0]);
+    }
+
+    private static ProtobufField _readField(DataInputStream din, ProtobufMessage[] msgs)
+        throws IOException
+    {
+        final String name = _readString(din);
+        final int id = din.readInt();
+        final int typeIx = din.readUnsignedByte();
+        if (typeIx >= FIELD_TYPES.length) {
+            throw new IOException("Invalid compiled protobuf schema: unknown field type "+typeIx);
+        }
+        final FieldType type = FIELD_TYPES[typeIx];
+        final int flags = din.readUnsignedByte();
+        final String oneOf = _readString(din);
+        ProtobufMessage msg = null;
+        EnumLookup enumValues = EnumLookup.empty();
+        if (type == FieldType.MESSAGE) {
+            int ix = din.readInt();
+            if ((ix < 0) || (ix >= msgs.length)) {
+                throw new IOException("Invalid compiled protobuf schema: invalid message index "+ix);
+            }
+            msg = msgs[ix];
+        } else if (type == FieldType.ENUM) {
+            int count = _readCount(din, "enum value");
+            Map<String,Integer> values = new LinkedHashMap<>();
+            for (int i = 0; i < count; ++i) {
+                String enumName = _readString(din);
+                values.put(enumName, din.readInt());
+            }
+            enumValues = EnumLookup.construct(new ProtobufEnum(name, values,
+                    (flags & F_STD_ENUM) != 0));
+        }
+        ProtobufField f = new ProtobufField(id, name, type,
+                (flags & F_REQUIRED) != 0, (flags & F_REPEATED) != 0,
+                (flags & F_PACKED) != 0, (flags & F_DEPRECATED) != 0,
+                msg, enumValues, (flags & F_STD_ENUM) != 0, (flags & F_MAP) != 0);
+        if (oneOf != null) {
+            f.assignOneOf(oneOf);
+        }
+        return f;
+    }
+
+    private static int _readCount(DataInputStream in, String desc) throws IOException
+    {
+        int count = in.readInt();
+        if ((count < 0) || (count > MAX_COUNT)) {
+            throw new IOException("Invalid compiled protobuf schema: invalid "+desc+" count "+count
+                    +" (must be between 0 and "+MAX_COUNT+")");
+        }
+        return count;
+    }
+
+    private static void _writeString(DataOutputStream out, String str) throws IOException
+    {
+        if (str == null) {
+            out.writeInt(-1);
+        } else {
+            byte[] b = str.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(b.length);
+            out.write(b);
+        }
+    }
+
+    private static String _readString(DataInputStream in) throws IOException
+    {
+        int len = in.readInt();
+        if (len < 0) {
+            if (len == -1) {
+                return null;
+            }
+            throw new IOException("Invalid compiled protobuf schema: invalid string length "+len);
+        }
+        if (len > MAX_STRING_LENGTH) {
+            throw new IOException("Invalid compiled protobuf schema: string length "+len
+                    +" exceeds maximum of "+MAX_STRING_LENGTH);
+        }
+        byte[] b = new byte[len];
+        in.readFully(b);
+        return new String(b, StandardCharsets.UTF_8);
+    }
+}
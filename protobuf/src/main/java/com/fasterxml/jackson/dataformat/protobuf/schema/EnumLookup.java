@@ -3,6 +3,7 @@ package com.fasterxml.jackson.dataformat.protobuf.schema;
 import java.util.*;
 
 import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.util.InternCache;
 
 /**
  * Helper class used for doing efficient lookups of protoc enums
@@ -21,9 +22,12 @@ public abstract class EnumLookup
         if (enumEntries.isEmpty()) { // can this occur?
             return Empty.instance;
         }
+        // Names are interned so that lookups for names of Java enums (which
+        // are interned constants) usually match by identity
         List<Map.Entry<String,Integer>> l = new ArrayList<Map.Entry<String,Integer>>();
         for (Map.Entry<String,Integer> entry : enumDef.valueMapping().entrySet()) {
-            l.add(entry);
+            l.add(new AbstractMap.SimpleImmutableEntry<String,Integer>(
+                    InternCache.instance.intern(entry.getKey()), entry.getValue()));
         }
         switch (l.size()) {
         case 1:
@@ -97,15 +101,12 @@ public abstract class EnumLookup
 
         @Override
         public int findEnumIndex(SerializableString key) {
-            if (key1.equals(key.getValue())) {
-                return index1;
-            }
-            return -1;
+            return findEnumIndex(key.getValue());
         }
 
         @Override
         public int findEnumIndex(String key) {
-            if (key1.equals(key)) {
+            if ((key1 == key) || key1.equals(key)) {
                 return index1;
             }
             return -1;
@@ -267,6 +268,9 @@ public abstract class EnumLookup
      */
     final static class Big extends EnumLookup
     {
+        // Let's allow reasonably sized lookup arrays regardless of density
+        private final static int MAX_DENSE_ID_RANGE = 256;
+
         private final int _hashMask, _spillCount;
 
         private final String[] _keys;
@@ -274,14 +278,36 @@ public abstract class EnumLookup
 
         /**
          * For fields of type {@link FieldType#ENUM} with non-standard indexing,
-         * mapping back from tag ids to enum names.
+         * mapping back from tag ids to enum names: if ids are contiguous (enough),
+         * indexed by {@code id - _minId}; otherwise in same order as
+         * {@link #_sortedIds}.
+         *
+         * @since 2.19
+         */
+        private final String[] _enumsById;
+
+        /**
+         * Smallest enum id, used as offset into {@link #_enumsById} if
+         * ids are dense enough.
+         *
+         * @since 2.19
+         */
+        private final int _minId;
+
+        /**
+         * Sorted enum ids for binary search, if ids are too sparse for direct
+         * indexing; {@code null} if direct indexing is used.
+         *
+         * @since 2.19
          */
-        protected final LinkedHashMap<Integer,String> _enumsById;
+        private final int[] _sortedIds;
 
-        private Big(LinkedHashMap<Integer,String> byId,
+        private Big(String[] enumsById, int minId, int[] sortedIds,
                 int hashMask, int spillCount, String[] keys, int[] indices)
         {
-            _enumsById = byId;
+            _enumsById = enumsById;
+            _minId = minId;
+            _sortedIds = sortedIds;
             _hashMask = hashMask;
             _spillCount = spillCount;
             _keys = keys;
@@ -290,10 +316,8 @@ public abstract class EnumLookup
 
         public static Big construct(List<Map.Entry<String,Integer>> entries)
         {
-            LinkedHashMap<Integer,String> byId = new LinkedHashMap<Integer,String>();
-
             // First: calculate size of primary hash area
-            final int size = findSize(byId.size());
+            final int size = findSize(entries.size());
             final int mask = size-1;
             // and allocate enough to contain primary/secondary, expand for spillovers as need be
             int alloc = size + (size>>1);
@@ -305,8 +329,6 @@ public abstract class EnumLookup
                 String key = entry.getKey();
                 int index = entry.getValue().intValue();
 
-                byId.put(entry.getValue(), key);
-
                 int slot = key.hashCode() & mask;
 
                 // primary slot not free?
@@ -326,12 +348,45 @@ public abstract class EnumLookup
                 keys[slot] = key;
                 indices[slot] = index;
             }
-            return new Big(byId, mask, spills, keys, indices);
+
+            // Then reverse mapping: direct index if dense enough, else binary search
+            // (note: in case of aliases, last one declared wins)
+            TreeMap<Integer,String> byId = new TreeMap<Integer,String>();
+            for (Map.Entry<String,Integer> entry : entries) {
+                byId.put(entry.getValue(), entry.getKey());
+            }
+            final int count = byId.size();
+            final int minId = byId.firstKey();
+            final long range = (long) byId.lastKey() - minId + 1;
+            if ((range <= MAX_DENSE_ID_RANGE) || (range <= ((long) count << 2))) {
+                String[] names = new String[(int) range];
+                for (Map.Entry<Integer,String> entry : byId.entrySet()) {
+                    names[entry.getKey() - minId] = entry.getValue();
+                }
+                return new Big(names, minId, null, mask, spills, keys, indices);
+            }
+            int[] ids = new int[count];
+            String[] names = new String[count];
+            int i = 0;
+            for (Map.Entry<Integer,String> entry : byId.entrySet()) {
+                ids[i] = entry.getKey();
+                names[i] = entry.getValue();
+                ++i;
+            }
+            return new Big(names, 0, ids, mask, spills, keys, indices);
         }
 
         @Override
         public String findEnumByIndex(int index) {
-            return _enumsById.get(index);
+            if (_sortedIds == null) {
+                int ix = index - _minId;
+                if ((ix >= 0) && (ix < _enumsById.length)) {
+                    return _enumsById[ix];
+                }
+                return null;
+            }
+            int ix = Arrays.binarySearch(_sortedIds, index);
+            return (ix < 0) ? null : _enumsById[ix];
         }
 
         @Override
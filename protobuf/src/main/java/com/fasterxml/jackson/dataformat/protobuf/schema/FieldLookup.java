@@ -160,7 +160,22 @@ public abstract class FieldLookup
         public static Big construct(ProtobufField[] allFields)
         {
             // First: calculate size of primary hash area
-            final int size = findSize(allFields.length);
+            int size = findSize(allFields.length);
+            // Since lookup tables are built once per message type and then used for
+            // every write, try a bit bigger hash areas (up to 4x) to avoid spill-overs
+            // (which need linear search)
+            for (int i = 0; i < 2; ++i) {
+                Big lookup = _construct(allFields, size);
+                if (lookup._spillCount == 0) {
+                    return lookup;
+                }
+                size += size;
+            }
+            return _construct(allFields, size);
+        }
+
+        private static Big _construct(ProtobufField[] allFields, final int size)
+        {
             final int mask = size-1;
             // and allocate enough to contain primary/secondary, expand for spillovers as need be
             int alloc = size + (size>>1);
@@ -13,7 +13,19 @@ import com.squareup.protoparser.*;
 public class NativeProtobufSchema
 {
     protected final String _name;
-    protected final Collection<TypeElement> _nativeTypes;
+    /**
+     * Native type definitions; either passed on construction, or, if constructed
+     * from protoc definition (see {@link #_definition}), lazily parsed on first access.
+     */
+    protected volatile Collection<TypeElement> _nativeTypes;
+
+    /**
+     * Textual protoc definition to parse on first access, if native types
+     * were not passed on construction.
+     *
+     * @since 2.19
+     */
+    protected final String _definition;
 
     protected volatile String[] _messageNames;
 
@@ -26,6 +38,16 @@ public class NativeProtobufSchema
     {
         _name = name;
         _nativeTypes = types;
+        _definition = null;
+    }
+
+    /**
+     * @since 2.19
+     */
+    protected NativeProtobufSchema(String name, String definition)
+    {
+        _name = name;
+        _definition = definition;
     }
 
     public static NativeProtobufSchema construct(ProtoFile input) {
@@ -36,13 +58,23 @@ public class NativeProtobufSchema
         return new NativeProtobufSchema(name, types);
     }
 
+    /**
+     * Factory method for constructing instance that will parse given protoc
+     * definition only if and when native types are actually needed.
+     *
+     * @since 2.19
+     */
+    public static NativeProtobufSchema constructLazily(String name, String definition) {
+        return new NativeProtobufSchema(name, definition);
+    }
+
     /**
      * Method for checking whether specified message type is defined by
      * the native schema
      */
     public boolean hasMessageType(String messageTypeName)
     {
-        for (TypeElement type : _nativeTypes) {
+        for (TypeElement type : _types()) {
             if (messageTypeName.equals(type.name())) {
                 if (type instanceof MessageElement) {
                     return true;
@@ -64,7 +96,7 @@ public class NativeProtobufSchema
                     +"') has no message type with name '"+messageTypeName+"': known types: "
                     +getMessageNames());
         }
-        return new ProtobufSchema(this, TypeResolver.resolve(_nativeTypes, msg));
+        return new ProtobufSchema(this, TypeResolver.resolve(_types(), msg));
     }
 
     /**
@@ -78,7 +110,7 @@ public class NativeProtobufSchema
             throw new IllegalArgumentException("Protobuf schema definition (name '"+_name
                     +"') contains no message type definitions");
         }
-        return new ProtobufSchema(this, TypeResolver.resolve(_nativeTypes, msg));
+        return new ProtobufSchema(this, TypeResolver.resolve(_types(), msg));
     }
 
     public List<String> getMessageNames() {
@@ -95,7 +127,7 @@ public class NativeProtobufSchema
 
     public String toString(String name) {
         ProtoFile.Builder builder = ProtoFile.builder(name);
-        builder.addTypes(_nativeTypes);
+        builder.addTypes(_types());
         return builder.build().toSchema();
     }
 
@@ -105,8 +137,16 @@ public class NativeProtobufSchema
     /**********************************************************
      */
 
+    protected Collection<TypeElement> _types() {
+        Collection<TypeElement> types = _nativeTypes;
+        if (types == null) {
+            _nativeTypes = types = ProtoParser.parse(_name, _definition).typeElements();
+        }
+        return types;
+    }
+
     protected MessageElement _firstMessageType() {
-        for (TypeElement type : _nativeTypes) {
+        for (TypeElement type : _types()) {
             if (type instanceof MessageElement) {
                 return (MessageElement) type;
             }
@@ -115,7 +155,7 @@ public class NativeProtobufSchema
     }
 
     protected MessageElement _messageType(String name) {
-        for (TypeElement type : _nativeTypes) {
+        for (TypeElement type : _types()) {
             if ((type instanceof MessageElement)
                     && name.equals(type.name())) {
                 return (MessageElement) type;
@@ -126,7 +166,7 @@ public class NativeProtobufSchema
 
     private String[] _getMessageNames() {
         ArrayList<String> names = new ArrayList<String>();
-        for (TypeElement type : _nativeTypes) {
+        for (TypeElement type : _types()) {
             if (type instanceof MessageElement) {
                 names.add(type.name());
             }
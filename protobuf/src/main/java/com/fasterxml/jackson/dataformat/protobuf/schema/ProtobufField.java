@@ -58,6 +58,23 @@ public class ProtobufField
 
     public final boolean isStdEnum;
 
+    /**
+     * Whether this is a {@code map<K,V>} field, encoded as repeated entry
+     * messages (see {@link #getMessageType()}) but exposed as an Object
+     * with entry keys as property names.
+     *
+     * @since 2.19
+     */
+    public final boolean isMap;
+
+    /**
+     * Name of the {@code oneof} group this field belongs to, if any.
+     * Like {@link #next}, assigned after construction.
+     *
+     * @since 2.19
+     */
+    protected String oneOf;
+
     public ProtobufField(FieldElement nativeField, FieldType type) {
         this(nativeField, type, null, null);
     }
@@ -70,14 +87,34 @@ public class ProtobufField
         this(nativeField, FieldType.ENUM, null, et);
     }
 
+    /**
+     * Factory method for constructing {@code map<K,V>} field, values of which
+     * are encoded as instances of given entry message type.
+     *
+     * @since 2.19
+     */
+    public static ProtobufField mapField(FieldElement nativeField, ProtobufMessage entryType) {
+        return new ProtobufField(nativeField, FieldType.MESSAGE, entryType, null, true);
+    }
+
     public static ProtobufField unknownField() {
         return new ProtobufField(null, FieldType.MESSAGE, null, null);
     }
 
     protected ProtobufField(FieldElement nativeField, FieldType type,
             ProtobufMessage msg, ProtobufEnum et)
+    {
+        this(nativeField, type, msg, et, false);
+    }
+
+    /**
+     * @since 2.19
+     */
+    protected ProtobufField(FieldElement nativeField, FieldType type,
+            ProtobufMessage msg, ProtobufEnum et, boolean isMap)
     {
         this.type = type;
+        this.isMap = isMap;
         wireType = type.getWireType();
         usesZigZag = type.usesZigZag();
         if (et == null) {
@@ -96,7 +133,8 @@ public class ProtobufField
         } else {
             id = nativeField.tag();
             name = nativeField.name();
-            switch (nativeField.label()) {
+            // Map entries are repeated on the wire but exposed as a single Object
+            switch (isMap ? FieldElement.Label.OPTIONAL : nativeField.label()) {
             case REPEATED:
                 required = false;
                 repeated = true;
@@ -127,6 +165,37 @@ public class ProtobufField
         isObject = (type == FieldType.MESSAGE);
     }
 
+    /**
+     * Constructor used for re-creating already resolved fields, without
+     * native definition (see {@link CompiledProtobufSchema}).
+     *
+     * @since 2.19
+     */
+    protected ProtobufField(int id, String name, FieldType type,
+            boolean required, boolean repeated, boolean packed, boolean deprecated,
+            ProtobufMessage msg, EnumLookup enumValues, boolean isStdEnum, boolean isMap)
+    {
+        this.id = id;
+        this.name = name;
+        this.type = type;
+        this.required = required;
+        this.repeated = repeated;
+        this.packed = packed;
+        this.deprecated = deprecated;
+        this.isMap = isMap;
+        this.enumValues = enumValues;
+        this.isStdEnum = isStdEnum;
+        messageType = msg;
+        wireType = type.getWireType();
+        usesZigZag = type.usesZigZag();
+        if (repeated && packed) {
+            typedTag = (id << 3) + WireType.LENGTH_PREFIXED;
+        } else {
+            typedTag = (id << 3) + wireType;
+        }
+        isObject = (type == FieldType.MESSAGE);
+    }
+
     private static boolean _findBooleanOption(FieldElement f, String key)
     {
         for (OptionElement opt : f.options()) {
@@ -148,6 +217,16 @@ public class ProtobufField
         messageType = msgType;
     }
 
+    /**
+     * @since 2.19
+     */
+    public void assignOneOf(String name) {
+        if (this.oneOf != null) {
+            throw new IllegalStateException("Can not overwrite 'oneOf' after being set");
+        }
+        this.oneOf = name;
+    }
+
     public void assignNext(ProtobufField n) {
         if (this.next != null) {
             throw new IllegalStateException("Can not overwrite 'next' after being set");
@@ -159,6 +238,36 @@ public class ProtobufField
         return messageType;
     }
 
+    /**
+     * @return Name of {@code oneof} group this field belongs to, if any;
+     *    {@code null} if none.
+     *
+     * @since 2.19
+     */
+    public String getOneOf() {
+        return oneOf;
+    }
+
+    /**
+     * Accessor for the key field of a {@code map<K,V>} field; {@code null}
+     * for other fields.
+     *
+     * @since 2.19
+     */
+    public final ProtobufField getMapKeyField() {
+        return isMap ? messageType.field(1) : null;
+    }
+
+    /**
+     * Accessor for the value field of a {@code map<K,V>} field; {@code null}
+     * for other fields.
+     *
+     * @since 2.19
+     */
+    public final ProtobufField getMapValueField() {
+        return isMap ? messageType.field(2) : null;
+    }
+
     public final ProtobufField nextOrThisIf(int idToMatch) {
         if ((next != null) && (next.id == idToMatch)) {
             return next;
@@ -10,6 +10,9 @@ public class ProtobufMessage
 
     // Let's allow reasonable sized lookup arrays
     private final static int MAX_FIELD_INDEX_SIZE = 200;
+
+    // ... but also bigger ones if density is still reasonable (at least 1/4 used)
+    private final static int MAX_SPARSE_FIELD_INDEX_SIZE = 2000;
     //    private final static int[] NO_INTS = new int[0];
 
     protected final String _name;
@@ -31,14 +34,39 @@ public class ProtobufMessage
      */
     protected ProtobufField[] _fieldsById;
 
+    /**
+     * Sorted ids of fields, for binary search when fields ids are too sparse
+     * for {@link #_fieldsById}.
+     *
+     * @since 2.19
+     */
+    protected int[] _fieldIds;
+
     protected ProtobufField _firstField;
 
     protected int _idOffset = -1;
 
+    /**
+     * Whether this is a synthetic entry type of a {@code map<K,V>} field
+     * (with "key" as field 1 and "value" as field 2).
+     *
+     * @since 2.19
+     */
+    protected final boolean _mapEntry;
+
     public ProtobufMessage(String name, ProtobufField[] fields)
+    {
+        this(name, fields, false);
+    }
+
+    /**
+     * @since 2.19
+     */
+    public ProtobufMessage(String name, ProtobufField[] fields, boolean mapEntry)
     {
         _name = name;
         _fields = fields;
+        _mapEntry = mapEntry;
     }
 
     /**
@@ -63,7 +91,8 @@ public class ProtobufMessage
                         +lastId+")");
             }
             int size = lastId - firstId + 1;
-            if (size <= MAX_FIELD_INDEX_SIZE) {
+            if ((size <= MAX_FIELD_INDEX_SIZE)
+                    || ((size <= MAX_SPARSE_FIELD_INDEX_SIZE) && (size <= (len << 2)))) {
                 _idOffset = firstId;
                 _fieldsById = new ProtobufField[size];
                 for (ProtobufField f : _fields) {
@@ -75,6 +104,11 @@ public class ProtobufMessage
                     }
                     _fieldsById[index] = f;
                 }
+            } else {
+                _fieldIds = new int[len];
+                for (int i = 0; i < len; ++i) {
+                    _fieldIds[i] = _fields[i].id;
+                }
             }
         }
     }
@@ -100,11 +134,15 @@ public class ProtobufMessage
 
     public String getName() { return _name; }
 
+    /**
+     * @since 2.19
+     */
+    public boolean isMapEntry() { return _mapEntry; }
+
     public ProtobufField field(String name) {
         return _fieldsByName.findField(name);
     }
 
-    // !!! TODO: optimize?
     public ProtobufField field(int id)
     {
         // Can we just index it?
@@ -114,12 +152,13 @@ public class ProtobufMessage
             if ((index < _fieldsById.length) && (index >= 0)) {
                 return _fieldsById[index];
             }
+            return null;
         }
-        // if not, brute force works
-        for (int i = 0, len = _fields.length; i < len; ++i) {
-            ProtobufField f = _fields[i];
-            if (f.id == id) {
-                return f;
+        // if not, binary search over sorted ids
+        if (_fieldIds != null) {
+            int ix = Arrays.binarySearch(_fieldIds, id);
+            if (ix >= 0) {
+                return _fields[ix];
             }
         }
         // not found? that's ok with us, but caller may mind
@@ -113,6 +113,29 @@ public class ProtobufSchemaLoader
         return parseNative(schemaAsString).forType(rootTypeName);
     }
 
+    /**
+     * Method for reading schema from "compiled" form written using
+     * {@link CompiledProtobufSchema#write}, without having to parse protoc
+     * definition or resolve types.
+     * Note that given {@link InputStream} will be closed before method returns.
+     *
+     * @since 2.19
+     */
+    public ProtobufSchema loadCompiled(InputStream in) throws IOException {
+        try {
+            return CompiledProtobufSchema.read(in);
+        } finally {
+            try { in.close(); } catch (IOException e) { }
+        }
+    }
+
+    /**
+     * @since 2.19
+     */
+    public ProtobufSchema loadCompiled(byte[] compiled) throws IOException {
+        return CompiledProtobufSchema.fromBytes(compiled);
+    }
+
     /*
     /**********************************************************
     /* Loading native schema instances
@@ -125,7 +125,12 @@ public class TypeResolver
     protected ProtobufMessage _resolve(MessageElement rawType)
     {
         List<FieldElement> rawFields = rawType.fields();
-        ProtobufField[] resolvedFields = new ProtobufField[rawFields.size()];
+        List<OneOfElement> oneOfs = rawType.oneOfs();
+        int fieldCount = rawFields.size();
+        for (OneOfElement oneOf : oneOfs) {
+            fieldCount += oneOf.fields().size();
+        }
+        ProtobufField[] resolvedFields = new ProtobufField[fieldCount];
 
         ProtobufMessage message = new ProtobufMessage(rawType.name(), resolvedFields);
         // Important: add type itself as (being) resolved, to allow for self- and cyclic refs
@@ -136,46 +141,16 @@ public class TypeResolver
         // and then resolve fields
         int ix = 0;
         for (FieldElement f : rawFields) {
-            final DataType fieldType = f.type();
-            // First: could it be we have a simple scalar type
-            FieldType type = FieldTypes.findType(fieldType);
-            ProtobufField pbf;
-
-            if (type != null) { // simple type
-                pbf = new ProtobufField(f, type);
-            } else if (fieldType instanceof DataType.NamedType) {
-                final String typeStr = ((DataType.NamedType) fieldType).name();
-
-                // If not, a resolved local definition?
-                ProtobufField resolvedF = _findLocalResolved(f, typeStr);
-                if (resolvedF != null) {
-                    pbf = resolvedF;
-                } else {
-                    // or, barring that local but as of yet unresolved message?
-                    MessageElement nativeMt = _declaredMessageTypes.get(typeStr);
-                    if (nativeMt != null) {
-                        pbf = new ProtobufField(f, resolve(this, nativeMt));
-                    } else {
-                        // If not, perhaps parent might have an answer?
-                        resolvedF = (_parent == null) ? null : _parent._findAnyResolved(f, typeStr);
-                        if (resolvedF != null) {
-                            pbf = resolvedF;
-                        } else {
-                            // Ok, we are out of options here...
-                            StringBuilder enumStr = _knownEnums(new StringBuilder());
-                            StringBuilder msgStr = _knownMsgs(new StringBuilder());
-                            throw new IllegalArgumentException(String.format(
-                                    "Unknown protobuf field type '%s' for field '%s' of MessageType '%s"
-                                    +"' (known enum types: %s; known message types: %s)",
-                                    typeStr, f.name(), rawType.name(), enumStr, msgStr));
-                        }
-                    }
-                }
-            } else {
-                throw new IllegalArgumentException(String.format(
-                        "Unrecognized DataType '%s' for field '%s'", fieldType.getClass().getName(), f.name()));
+            resolvedFields[ix++] = _resolveField(rawType, f);
+        }
+        // Members of `oneof`s are encoded like any other fields; but need to
+        // retain the group they belong to
+        for (OneOfElement oneOf : oneOfs) {
+            for (FieldElement f : oneOf.fields()) {
+                ProtobufField pbf = _resolveField(rawType, f);
+                pbf.assignOneOf(oneOf.name());
+                resolvedFields[ix++] = pbf;
             }
-            resolvedFields[ix++] = pbf;
         }
         ProtobufField first = (resolvedFields.length == 0) ? null : resolvedFields[0];
 
@@ -190,6 +165,124 @@ public class TypeResolver
         return message;
     }
 
+    protected ProtobufField _resolveField(MessageElement rawType, FieldElement f)
+    {
+        final DataType fieldType = f.type();
+        // First: could it be we have a simple scalar type
+        FieldType type = FieldTypes.findType(fieldType);
+
+        if (type != null) { // simple type
+            return new ProtobufField(f, type);
+        }
+        if (fieldType instanceof DataType.NamedType) {
+            final String typeStr = ((DataType.NamedType) fieldType).name();
+
+            // If not, a resolved local definition?
+            ProtobufField resolvedF = _findLocalResolved(f, typeStr);
+            if (resolvedF != null) {
+                return resolvedF;
+            }
+            // or, barring that local but as of yet unresolved message?
+            MessageElement nativeMt = _declaredMessageTypes.get(typeStr);
+            if (nativeMt != null) {
+                return new ProtobufField(f, resolve(this, nativeMt));
+            }
+            // If not, perhaps parent might have an answer?
+            resolvedF = (_parent == null) ? null : _parent._findAnyResolved(f, typeStr);
+            if (resolvedF != null) {
+                return resolvedF;
+            }
+            // Ok, we are out of options here...
+            StringBuilder enumStr = _knownEnums(new StringBuilder());
+            StringBuilder msgStr = _knownMsgs(new StringBuilder());
+            throw new IllegalArgumentException(String.format(
+                    "Unknown protobuf field type '%s' for field '%s' of MessageType '%s"
+                    +"' (known enum types: %s; known message types: %s)",
+                    typeStr, f.name(), rawType.name(), enumStr, msgStr));
+        }
+        if (fieldType instanceof DataType.MapType) {
+            return _resolveMapField(rawType, f, (DataType.MapType) fieldType);
+        }
+        throw new IllegalArgumentException(String.format(
+                "Unrecognized DataType '%s' for field '%s'", fieldType.getClass().getName(), f.name()));
+    }
+
+    /**
+     * Helper method for resolving {@code map<K,V>} field: on the wire these are
+     * equivalent to repeated messages with "key" (id 1) and "value" (id 2)
+     * fields, so such entry message type is synthesized.
+     *
+     * @since 2.19
+     */
+    protected ProtobufField _resolveMapField(MessageElement rawType, FieldElement f,
+            DataType.MapType mapType)
+    {
+        FieldType keyType = FieldTypes.findType(mapType.keyType());
+        if (!_isValidMapKeyType(keyType)) {
+            throw new IllegalArgumentException(String.format(
+                    "Invalid key type '%s' for map field '%s' of MessageType '%s': only integral and string types allowed",
+                    mapType.keyType(), f.name(), rawType.name()));
+        }
+        FieldElement keyF = FieldElement.builder()
+                .label(FieldElement.Label.OPTIONAL)
+                .type(mapType.keyType())
+                .name("key")
+                .tag(1)
+                .build();
+        FieldElement valueF = FieldElement.builder()
+                .label(FieldElement.Label.OPTIONAL)
+                .type(mapType.valueType())
+                .name("value")
+                .tag(2)
+                .build();
+        ProtobufField[] entryFields = new ProtobufField[] {
+                new ProtobufField(keyF, keyType),
+                _resolveField(rawType, valueF)
+        };
+        entryFields[0].assignNext(entryFields[1]);
+        ProtobufMessage entryType = new ProtobufMessage(_mapEntryName(f.name()), entryFields, true);
+        entryType.init(entryFields[0]);
+        return ProtobufField.mapField(f, entryType);
+    }
+
+    private static boolean _isValidMapKeyType(FieldType type)
+    {
+        if (type != null) {
+            switch (type) {
+            case VINT32_Z:
+            case VINT64_Z:
+            case VINT32_STD:
+            case VINT64_STD:
+            case FIXINT32:
+            case FIXINT64:
+            case BOOLEAN:
+            case STRING:
+                return true;
+            default:
+            }
+        }
+        return false;
+    }
+
+    // Same naming as what protoc uses: "my_map" -> "MyMapEntry"
+    private static String _mapEntryName(String fieldName)
+    {
+        StringBuilder sb = new StringBuilder(fieldName.length() + 5);
+        boolean upper = true;
+        for (int i = 0, len = fieldName.length(); i < len; ++i) {
+            char c = fieldName.charAt(i);
+            if (c == '_') {
+                upper = true;
+            } else if (upper) {
+                sb.append(Character.toUpperCase(c));
+                upper = false;
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.append("Entry").toString();
+    }
+
     protected void addResolvedMessageType(String name, ProtobufMessage toResolve) {
         if (_resolvedMessageTypes.isEmpty()) {
             _resolvedMessageTypes = new HashMap<String,ProtobufMessage>();
@@ -11,6 +11,8 @@ import com.squareup.protoparser.FieldElement.Label;
 import com.fasterxml.jackson.databind.*;
 import com.fasterxml.jackson.databind.jsonFormatVisitors.JsonFormatVisitable;
 import com.fasterxml.jackson.databind.jsonFormatVisitors.JsonObjectFormatVisitor;
+import com.fasterxml.jackson.databind.ser.AnyGetterWriter;
+import com.fasterxml.jackson.dataformat.protobuf.LazyMessage;
 
 public class MessageElementVisitor extends JsonObjectFormatVisitor.Base
     implements TypeElementBuilder
@@ -43,6 +45,9 @@ public class MessageElementVisitor extends JsonObjectFormatVisitor.Base
 
     @Override
     public void property(BeanProperty writer) throws JsonMappingException {
+        if (_isAnyGetter(writer)) {
+            return;
+        }
         _builder.addField(buildFieldElement(writer, Label.REQUIRED));
     }
 
@@ -53,6 +58,9 @@ public class MessageElementVisitor extends JsonObjectFormatVisitor.Base
 
     @Override
     public void optionalProperty(BeanProperty writer) throws JsonMappingException {
+        if (_isAnyGetter(writer)) {
+            return;
+        }
         _builder.addField(buildFieldElement(writer, Label.OPTIONAL));
     }
 
@@ -61,6 +69,17 @@ public class MessageElementVisitor extends JsonObjectFormatVisitor.Base
         throw new UnsupportedOperationException();
     }
 
+    /**
+     * "Any getter" properties have no fixed names (or ids) and cannot be included
+     * in schema; typically used for retaining unknown fields (see
+     * {@link com.fasterxml.jackson.dataformat.protobuf.ProtobufUnknownFields}).
+     *
+     * @since 2.19
+     */
+    protected boolean _isAnyGetter(BeanProperty writer) {
+        return (writer instanceof AnyGetterWriter);
+    }
+
     protected FieldElement buildFieldElement(BeanProperty writer, Label label) throws JsonMappingException
     {
         FieldElement.Builder fBuilder = FieldElement.builder();
@@ -69,8 +88,18 @@ public class MessageElementVisitor extends JsonObjectFormatVisitor.Base
         fBuilder.tag(nextTag(writer));
 
         JavaType type = writer.getType();
+        // Lazily decoded messages use schema of the message type
+        if (type.hasRawClass(LazyMessage.class)) {
+            type = type.containedTypeOrUnknown(0);
+        }
 
-        if (type.isArrayType() || type.isCollectionLikeType()) {
+        if (type.isMapLikeType()) {
+            // Map fields can not be "required" (nor "repeated")
+            fBuilder.label(Label.OPTIONAL);
+            fBuilder.type(DataType.MapType.create(
+                    ProtobufSchemaHelper.getMapKeyType(type.getKeyType()),
+                    getDataType(type.getContentType())));
+        } else if (type.isArrayType() || type.isCollectionLikeType()) {
             if (ProtobufSchemaHelper.isBinaryType(type)) {
                 fBuilder.label(label);
                 fBuilder.type(ScalarType.BYTES);
@@ -3,8 +3,11 @@ package com.fasterxml.jackson.dataformat.protobuf.schemagen;
 import java.nio.ByteBuffer;
 import java.util.UUID;
 
+import com.squareup.protoparser.DataType;
+
 import com.fasterxml.jackson.databind.BeanProperty;
 import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.util.ClassUtil;
 
 public class ProtobufSchemaHelper
 {
@@ -55,6 +58,30 @@ public class ProtobufSchemaHelper
         return writer.getMetadata().hasIndex();
     }
 
+    /**
+     * Helper method for determining key type to use for {@code map<K,V>}
+     * fields: integral and boolean types map to matching scalar types, everything
+     * else (like {@link String}s and {@link Enum}s) as {@code string}.
+     *
+     * @since 2.19
+     */
+    public static DataType.ScalarType getMapKeyType(JavaType keyType) {
+        Class<?> raw = keyType.getRawClass();
+        if (raw.isPrimitive()) {
+            raw = ClassUtil.wrapperType(raw);
+        }
+        if ((raw == Integer.class) || (raw == Short.class) || (raw == Byte.class)) {
+            return DataType.ScalarType.INT32;
+        }
+        if (raw == Long.class) {
+            return DataType.ScalarType.INT64;
+        }
+        if (raw == Boolean.class) {
+            return DataType.ScalarType.BOOL;
+        }
+        return DataType.ScalarType.STRING;
+    }
+
     public static boolean isBinaryType(JavaType type) {
         return type.hasRawClass(byte[].class)
                 // 24-Jul-2024, tatu: [dataformats-binary#506] UUID as Binary
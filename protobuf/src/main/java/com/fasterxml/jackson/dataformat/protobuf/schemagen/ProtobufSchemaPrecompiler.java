@@ -0,0 +1,128 @@
+package com.fasterxml.jackson.dataformat.protobuf.schemagen;
+
+import java.io.*;
+import java.nio.file.Files;
+
+import com.fasterxml.jackson.dataformat.protobuf.ProtobufMapper;
+import com.fasterxml.jackson.dataformat.protobuf.schema.CompiledProtobufSchema;
+import com.fasterxml.jackson.dataformat.protobuf.schema.ProtobufSchema;
+
+/**
+ * Helper class for generating schemas for POJO types at build time, and
+ * storing them as class path resources (in "compiled" form, see
+ * {@link CompiledProtobufSchema}), to be loaded at runtime by
+ * {@link ProtobufMapper#loadSchemaFor(Class)} instead of generating them.
+ * Schemas are generated using {@link ProtobufSchemaGenerator} exactly as
+ * at runtime, so tag assignment and other details are the same.
+ *<p>
+ * Can be run as a command-line tool, for example using
+ * {@code exec-maven-plugin} in {@code process-classes} phase:
+ *<pre>
+ *  java com.fasterxml.jackson.dataformat.protobuf.schemagen.ProtobufSchemaPrecompiler \
+ *     target/classes com.foo.Event com.foo.Response
+ *</pre>
+ * which uses default {@link ProtobufMapper} configuration; if custom configuration
+ * (that affects schema generation) is needed, {@link #precompile} should be
+ * called with properly configured mapper instead.
+ *
+ * @since 2.19
+ */
+public class ProtobufSchemaPrecompiler
+{
+    /**
+     * Path prefix of class path resources that contain precompiled schemas;
+     * followed by fully-qualified class name and {@link #RESOURCE_SUFFIX}.
+     */
+    public final static String RESOURCE_PREFIX = "META-INF/jackson-protobuf/";
+
+    public final static String RESOURCE_SUFFIX = ".pbschema";
+
+    protected final ProtobufMapper _mapper;
+
+    public ProtobufSchemaPrecompiler(ProtobufMapper mapper) {
+        _mapper = mapper;
+    }
+
+    /*
+    /**********************************************************
+    /* Public API
+    /**********************************************************
+     */
+
+    /**
+     * Method for generating schema for given type, and writing it in compiled
+     * form under given output (class path root) directory.
+     *
+     * @return File schema was written to
+     */
+    public File precompile(Class<?> type, File outputDir) throws IOException
+    {
+        ProtobufSchema schema = _mapper.generateSchemaFor(type);
+        File f = new File(outputDir, resourceName(type));
+        Files.createDirectories(f.getParentFile().toPath());
+        try (OutputStream out = new FileOutputStream(f)) {
+            CompiledProtobufSchema.write(schema, out);
+        }
+        return f;
+    }
+
+    /**
+     * Method for locating precompiled schema for given type from class path,
+     * if one exists.
+     *
+     * @return Precompiled schema for type, if one found; {@code null} if not
+     */
+    public static ProtobufSchema findPrecompiled(Class<?> type) throws IOException
+    {
+        ClassLoader cl = type.getClassLoader();
+        if (cl == null) { // JDK types
+            return null;
+        }
+        return findPrecompiled(type, cl);
+    }
+
+    /**
+     * Method for locating precompiled schema for given type using given
+     * class loader, if one exists.
+     *
+     * @return Precompiled schema for type, if one found; {@code null} if not
+     */
+    public static ProtobufSchema findPrecompiled(Class<?> type, ClassLoader cl) throws IOException
+    {
+        InputStream in = cl.getResourceAsStream(resourceName(type));
+        if (in == null) {
+            return null;
+        }
+        try {
+            return CompiledProtobufSchema.read(new BufferedInputStream(in));
+        } finally {
+            in.close();
+        }
+    }
+
+    public static String resourceName(Class<?> type) {
+        return RESOURCE_PREFIX + type.getName() + RESOURCE_SUFFIX;
+    }
+
+    /*
+    /**********************************************************
+    /* Command-line entry point
+    /**********************************************************
+     */
+
+    public static void main(String[] args) throws Exception
+    {
+        if (args.length < 2) {
+            System.err.println("Usage: java "+ProtobufSchemaPrecompiler.class.getName()
+                    +" [output-dir] [class-name]+");
+            System.exit(1);
+        }
+        final File outputDir = new File(args[0]);
+        final ClassLoader cl = Thread.currentThread().getContextClassLoader();
+        ProtobufSchemaPrecompiler pc = new ProtobufSchemaPrecompiler(new ProtobufMapper());
+        for (int i = 1; i < args.length; ++i) {
+            File f = pc.precompile(Class.forName(args[i], false, cl), outputDir);
+            System.out.println("Wrote schema for "+args[i]+" as: "+f);
+        }
+    }
+}
@@ -4,6 +4,7 @@ module com.fasterxml.jackson.dataformat.protobuf {
     requires com.fasterxml.jackson.databind;
 
     exports com.fasterxml.jackson.dataformat.protobuf;
+    exports com.fasterxml.jackson.dataformat.protobuf.deser;
 // No, should not expose shaded
 //    exports com.fasterxml.jackson.dataformat.protobuf.protoparser.protoparser;
     exports com.fasterxml.jackson.dataformat.protobuf.schema;
@@ -5,10 +5,13 @@ import org.junit.jupiter.api.Test;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.protobuf.schema.ProtobufField;
 import com.fasterxml.jackson.dataformat.protobuf.schema.ProtobufSchema;
+import com.fasterxml.jackson.dataformat.protobuf.schema.ProtobufSchemaLoader;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 public class EnumHandlingTest extends ProtobufTestBase
 {
@@ -35,6 +38,26 @@ public class EnumHandlingTest extends ProtobufTestBase
         public BigEnumWrapper(BigEnum v) { value = v; }
     }
 
+    // Non-standard indexing, with ids close enough for direct lookup
+    final protected static String PROTOC_DENSE_ENUM =
+            "message BigEnumWrapper {\n"
+            +" optional Letter value = 1;\n"
+            +" enum Letter {\n"
+            +"  A = 3; B = 4; C = 5; D = 7; E = 8;\n"
+            +"  F = 9; G = 10; H = 12; I = 13; J = 20;\n"
+            +" }\n"
+            +"}\n";
+
+    // Non-standard indexing, with ids too sparse for direct lookup
+    final protected static String PROTOC_SPARSE_ENUM =
+            "message BigEnumWrapper {\n"
+            +" optional Letter value = 1;\n"
+            +" enum Letter {\n"
+            +"  A = 1; B = 1000; C = 20; D = 100000; E = 7;\n"
+            +"  F = 8; G = 5000000; H = 9; I = 65536; J = 2;\n"
+            +" }\n"
+            +"}\n";
+
     /*
     /**********************************************************
     /* Test methods
@@ -61,6 +84,31 @@ public class EnumHandlingTest extends ProtobufTestBase
         assertEquals(input.value, result.value);
     }
 
+    @Test
+    public void testBigEnumNonStandardIds() throws Exception
+    {
+        _testBigEnum(PROTOC_DENSE_ENUM, 13, 100);
+        _testBigEnum(PROTOC_SPARSE_ENUM, 65536, 1001);
+    }
+
+    private void _testBigEnum(String protoc, int idOfI, int unknownId) throws Exception
+    {
+        ProtobufSchema schema = ProtobufSchemaLoader.std.parse(protoc);
+        ProtobufField f = schema.getRootType().field("value");
+        assertEquals("I", f.findEnumByIndex(idOfI));
+        assertEquals(idOfI, f.findEnumIndex("I"));
+        assertNull(f.findEnumByIndex(unknownId));
+        assertNull(f.findEnumByIndex(-1));
+
+        final ObjectWriter w = MAPPER.writer(schema);
+        final ObjectReader r = MAPPER.readerFor(BigEnumWrapper.class).with(schema);
+        for (BigEnum value : BigEnum.values()) {
+            byte[] bytes = w.writeValueAsBytes(new BigEnumWrapper(value));
+            BigEnumWrapper result = r.readValue(bytes);
+            assertEquals(value, result.value);
+        }
+    }
+
     @Test
     public void testTinyEnum() throws Exception
     {
@@ -69,8 +69,8 @@ public class FactoryPropertiesTest extends ProtobufTestBase
     {
         assertTrue(PROTO_F.canHandleBinaryNatively());
         assertFalse(PROTO_F.canUseCharArrays());
-        assertNull(PROTO_F.getFormatReadFeatureType());
-        assertNull(PROTO_F.getFormatWriteFeatureType());
+        assertEquals(ProtobufParser.Feature.class, PROTO_F.getFormatReadFeatureType());
+        assertEquals(ProtobufGenerator.Feature.class, PROTO_F.getFormatWriteFeatureType());
     }
 
     @Test
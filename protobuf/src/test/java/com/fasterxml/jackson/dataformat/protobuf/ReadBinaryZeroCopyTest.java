@@ -0,0 +1,185 @@
+package com.fasterxml.jackson.dataformat.protobuf;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.dataformat.protobuf.schema.ProtobufSchema;
+import com.fasterxml.jackson.dataformat.protobuf.testutil.LimitingInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ReadBinaryZeroCopyTest extends ProtobufTestBase
+{
+    @JsonPropertyOrder({ "name", "data", "id" })
+    static class Blob {
+        public String name;
+        public ByteBuffer data;
+        public int id;
+    }
+
+    private final ProtobufMapper MAPPER = newObjectMapper();
+
+    private final static String NAME = "blob-é中-name";
+
+    @Test
+    public void testByteBufferSlices() throws Exception
+    {
+        final ProtobufSchema schema = MAPPER.generateSchemaFor(Blob.class);
+        final byte[] data = _data(20000);
+        final byte[] doc = MAPPER.writer(schema).writeValueAsBytes(_blob(data));
+
+        // by default, copied
+        Blob result = MAPPER.readerFor(Blob.class).with(schema).readValue(doc);
+        assertNotSame(doc, result.data.array());
+        assertEquals(ByteBuffer.wrap(data), result.data);
+
+        // but with feature enabled, slice of input
+        result = MAPPER.readerFor(Blob.class).with(schema)
+                .with(ProtobufParser.Feature.ZERO_COPY_BINARY)
+                .readValue(doc);
+        assertSame(doc, result.data.array());
+        assertEquals(ByteBuffer.wrap(data), result.data);
+        assertEquals(NAME, result.name);
+        assertEquals(42, result.id);
+
+        // except when reading from stream
+        result = MAPPER.readerFor(Blob.class).with(schema)
+                .with(ProtobufParser.Feature.ZERO_COPY_BINARY)
+                .readValue(new LimitingInputStream(new ByteArrayInputStream(doc), 1000));
+        assertEquals(ByteBuffer.wrap(data), result.data);
+        assertEquals(42, result.id);
+    }
+
+    @Test
+    public void testRawValueAccess() throws Exception
+    {
+        final ProtobufSchema schema = MAPPER.generateSchemaFor(Blob.class);
+        final byte[] data = _data(3000);
+        final byte[] doc = MAPPER.writer(schema).writeValueAsBytes(_blob(data));
+
+        try (JsonParser p = MAPPER.reader(schema).createParser(doc)) {
+            ProtobufParser pp = (ProtobufParser) p;
+            assertToken(JsonToken.START_OBJECT, p.nextToken());
+            assertNull(pp.getRawValueAsByteBuffer());
+            assertToken(JsonToken.FIELD_NAME, p.nextToken());
+            assertToken(JsonToken.VALUE_STRING, p.nextToken());
+            ByteBuffer bb = pp.getRawValueAsByteBuffer();
+            assertSame(doc, bb.array());
+            assertEquals(ByteBuffer.wrap(NAME.getBytes(StandardCharsets.UTF_8)), bb);
+            // still accessible as text
+            assertEquals(NAME, p.getText());
+            assertEquals(ByteBuffer.wrap(NAME.getBytes(StandardCharsets.UTF_8)),
+                    pp.getRawValueAsByteBuffer());
+
+            assertToken(JsonToken.FIELD_NAME, p.nextToken());
+            assertToken(JsonToken.VALUE_EMBEDDED_OBJECT, p.nextToken());
+            bb = pp.getRawValueAsByteBuffer();
+            assertSame(doc, bb.array());
+            assertEquals(ByteBuffer.wrap(data), bb);
+            assertArrayEquals(data, p.getBinaryValue());
+
+            assertToken(JsonToken.FIELD_NAME, p.nextToken());
+            assertToken(JsonToken.VALUE_NUMBER_INT, p.nextToken());
+            assertEquals(42, p.getIntValue());
+            assertToken(JsonToken.END_OBJECT, p.nextToken());
+        }
+
+        // and with stream input, copies
+        try (JsonParser p = MAPPER.reader(schema).createParser(
+                new LimitingInputStream(new ByteArrayInputStream(doc), 7))) {
+            ProtobufParser pp = (ProtobufParser) p;
+            assertToken(JsonToken.START_OBJECT, p.nextToken());
+            assertToken(JsonToken.FIELD_NAME, p.nextToken());
+            assertToken(JsonToken.VALUE_STRING, p.nextToken());
+            assertEquals(ByteBuffer.wrap(NAME.getBytes(StandardCharsets.UTF_8)),
+                    pp.getRawValueAsByteBuffer());
+            assertEquals(NAME, p.getText());
+            assertToken(JsonToken.FIELD_NAME, p.nextToken());
+            assertToken(JsonToken.VALUE_EMBEDDED_OBJECT, p.nextToken());
+            assertEquals(ByteBuffer.wrap(data), pp.getRawValueAsByteBuffer());
+            assertToken(JsonToken.FIELD_NAME, p.nextToken());
+            assertToken(JsonToken.VALUE_NUMBER_INT, p.nextToken());
+            assertEquals(42, p.getIntValue());
+        }
+    }
+
+    @Test
+    public void testReadBinaryValue() throws Exception
+    {
+        final ProtobufSchema schema = MAPPER.generateSchemaFor(Blob.class);
+        final byte[] data = _data(50000);
+        final byte[] doc = MAPPER.writer(schema).writeValueAsBytes(_blob(data));
+
+        for (int mode = 0; mode < 3; ++mode) {
+            JsonParser p = (mode == 0) ? MAPPER.reader(schema).createParser(doc)
+                    : MAPPER.reader(schema).createParser(
+                            new LimitingInputStream(new ByteArrayInputStream(doc), 100 * mode));
+            assertToken(JsonToken.START_OBJECT, p.nextToken());
+            assertEquals("name", p.nextFieldName());
+            assertEquals(NAME, p.nextTextValue());
+            assertEquals("data", p.nextFieldName());
+            assertToken(JsonToken.VALUE_EMBEDDED_OBJECT, p.nextToken());
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            assertEquals(data.length, p.readBinaryValue(bytes));
+            assertArrayEquals(data, bytes.toByteArray());
+            assertEquals("id", p.nextFieldName());
+            assertToken(JsonToken.VALUE_NUMBER_INT, p.nextToken());
+            assertEquals(42, p.getIntValue());
+            assertToken(JsonToken.END_OBJECT, p.nextToken());
+            p.close();
+        }
+    }
+
+    // Copying from parser to generator should pass content through as is
+    @Test
+    public void testCopyThrough() throws Exception
+    {
+        final ProtobufSchema schema = MAPPER.generateSchemaFor(Blob.class);
+        final byte[] doc = MAPPER.writer(schema).writeValueAsBytes(_blob(_data(10000)));
+
+        // first, event by event
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (JsonParser p = MAPPER.reader(schema).createParser(doc)) {
+            try (JsonGenerator g = MAPPER.writer(schema).createGenerator(bytes)) {
+                while (p.nextToken() != null) {
+                    g.copyCurrentEvent(p);
+                }
+            }
+        }
+        assertArrayEquals(doc, bytes.toByteArray());
+
+        // then as full structure
+        bytes = new ByteArrayOutputStream();
+        try (JsonParser p = MAPPER.reader(schema).createParser(doc)) {
+            try (JsonGenerator g = MAPPER.writer(schema).createGenerator(bytes)) {
+                p.nextToken();
+                g.copyCurrentStructure(p);
+            }
+        }
+        assertArrayEquals(doc, bytes.toByteArray());
+    }
+
+    private Blob _blob(byte[] data) {
+        Blob b = new Blob();
+        b.name = NAME;
+        b.data = ByteBuffer.wrap(data);
+        b.id = 42;
+        return b;
+    }
+
+    private byte[] _data(int len) {
+        byte[] b = new byte[len];
+        for (int i = 0; i < len; ++i) {
+            b[i] = (byte) (i * 7);
+        }
+        return b;
+    }
+}
@@ -0,0 +1,204 @@
+package com.fasterxml.jackson.dataformat.protobuf;
+
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.protobuf.schema.ProtobufSchema;
+import com.fasterxml.jackson.dataformat.protobuf.testutil.LimitingInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ReadLazyMessageTest extends ProtobufTestBase
+{
+    @JsonPropertyOrder({ "header", "payload", "trailer" })
+    static class Envelope {
+        public String header;
+        public Payload payload;
+        public int trailer;
+    }
+
+    @JsonPropertyOrder({ "header", "payload", "trailer" })
+    static class LazyEnvelope {
+        public String header;
+        public LazyMessage<Payload> payload;
+        public int trailer;
+    }
+
+    @JsonPropertyOrder({ "text", "values", "point" })
+    static class Payload {
+        public String text;
+        public int[] values;
+        public Point point;
+    }
+
+    private final ProtobufMapper MAPPER = newObjectMapper();
+
+    /*
+    /**********************************************************
+    /* Test methods
+    /**********************************************************
+     */
+
+    @Test
+    public void testLazyRoundtrip() throws Exception
+    {
+        final ProtobufSchema schema = MAPPER.generateSchemaFor(LazyEnvelope.class);
+        // lazy property should map to nested message type, same as eager variant
+        assertEquals("Payload", schema.getRootType().field("payload").getMessageType().getName());
+
+        Envelope input = _envelope();
+        byte[] doc = MAPPER.writer(schema).writeValueAsBytes(input);
+
+        LazyEnvelope lazy = MAPPER.readerFor(LazyEnvelope.class).with(schema).readValue(doc);
+        assertEquals(input.header, lazy.header);
+        assertEquals(input.trailer, lazy.trailer);
+        assertNotNull(lazy.payload);
+        assertFalse(lazy.payload.isDecoded());
+        assertNotNull(lazy.payload.getContent());
+
+        // forwarded as is, without decoding
+        byte[] doc2 = MAPPER.writer(schema).writeValueAsBytes(lazy);
+        assertArrayEquals(doc, doc2);
+        assertFalse(lazy.payload.isDecoded());
+
+        // but can be decoded when needed
+        _verify(input.payload, lazy.payload.get());
+        assertTrue(lazy.payload.isDecoded());
+        assertArrayEquals(doc, MAPPER.writer(schema).writeValueAsBytes(lazy));
+
+        // and also with streaming input
+        lazy = MAPPER.readerFor(LazyEnvelope.class).with(schema)
+                .readValue(new LimitingInputStream(new ByteArrayInputStream(doc), 123));
+        assertEquals(input.trailer, lazy.trailer);
+        assertArrayEquals(doc, MAPPER.writer(schema).writeValueAsBytes(lazy));
+        _verify(input.payload, lazy.payload.get());
+    }
+
+    @Test
+    public void testReaderReused() throws Exception
+    {
+        final ProtobufSchema schema = MAPPER.generateSchemaFor(LazyEnvelope.class);
+        byte[] doc = MAPPER.writer(schema).writeValueAsBytes(_envelope());
+        ObjectReader r = MAPPER.readerFor(LazyEnvelope.class).with(schema);
+
+        LazyEnvelope lazy1 = r.readValue(doc);
+        LazyEnvelope lazy2 = r.readValue(doc);
+        // same message type, same codec: reader for nested message only constructed once
+        assertNotNull(lazy1.payload._reader);
+        assertSame(lazy1.payload._reader, lazy2.payload._reader);
+        _verify(_envelope().payload, lazy2.payload.get());
+    }
+
+    @Test
+    public void testReplaceValue() throws Exception
+    {
+        final ProtobufSchema schema = MAPPER.generateSchemaFor(LazyEnvelope.class);
+        byte[] doc = MAPPER.writer(schema).writeValueAsBytes(_envelope());
+        LazyEnvelope lazy = MAPPER.readerFor(LazyEnvelope.class).with(schema).readValue(doc);
+
+        Payload p = new Payload();
+        p.text = "replaced";
+        lazy.payload.set(p);
+        assertNull(lazy.payload.getContent());
+
+        Envelope result = MAPPER.readerFor(Envelope.class).with(schema)
+                .readValue(MAPPER.writer(schema).writeValueAsBytes(lazy));
+        assertEquals("replaced", result.payload.text);
+        assertNull(result.payload.values);
+        assertEquals(-1, result.trailer);
+    }
+
+    @Test
+    public void testReadMessageAsByteBuffer() throws Exception
+    {
+        final ProtobufSchema schema = MAPPER.generateSchemaFor(Envelope.class);
+        byte[] doc = MAPPER.writer(schema).writeValueAsBytes(_envelope());
+
+        try (JsonParser p = MAPPER.reader(schema).createParser(doc)) {
+            ProtobufParser pp = (ProtobufParser) p;
+            assertToken(JsonToken.START_OBJECT, p.nextToken());
+            // not at nested message
+            assertNull(pp.readMessageAsByteBuffer());
+            assertEquals("header", p.nextFieldName());
+            assertEquals("route-66", p.nextTextValue());
+            assertNull(pp.readMessageAsBinary());
+            assertEquals("payload", p.nextFieldName());
+            assertToken(JsonToken.START_OBJECT, p.nextToken());
+            ByteBuffer bb = pp.readMessageAsByteBuffer();
+            assertToken(JsonToken.END_OBJECT, p.currentToken());
+            // no copying with byte[] input
+            assertSame(doc, bb.array());
+
+            Payload payload = MAPPER.readerFor(Payload.class)
+                    .with(schema.withRootType("Payload"))
+                    .readValue(bb.array(), bb.arrayOffset(), bb.remaining());
+            _verify(_envelope().payload, payload);
+
+            assertEquals("trailer", p.nextFieldName());
+            assertToken(JsonToken.VALUE_NUMBER_INT, p.nextToken());
+            assertEquals(-1, p.getIntValue());
+            assertToken(JsonToken.END_OBJECT, p.nextToken());
+            assertNull(p.nextToken());
+        }
+
+        try (JsonParser p = MAPPER.reader(schema).createParser(new ByteArrayInputStream(doc))) {
+            ProtobufParser pp = (ProtobufParser) p;
+            assertToken(JsonToken.START_OBJECT, p.nextToken());
+            assertEquals("header", p.nextFieldName());
+            assertEquals("route-66", p.nextTextValue());
+            assertEquals("payload", p.nextFieldName());
+            assertToken(JsonToken.START_OBJECT, p.nextToken());
+            byte[] b = pp.readMessageAsBinary();
+            assertToken(JsonToken.END_OBJECT, p.currentToken());
+            Payload payload = MAPPER.readerFor(Payload.class)
+                    .with(schema.withRootType("Payload"))
+                    .readValue(b);
+            _verify(_envelope().payload, payload);
+            assertEquals("trailer", p.nextFieldName());
+        }
+    }
+
+    // With other formats, decoded right away
+    @Test
+    public void testWithJson() throws Exception
+    {
+        ObjectMapper jsonMapper = new ObjectMapper();
+        Envelope input = _envelope();
+        String json = jsonMapper.writeValueAsString(input);
+        LazyEnvelope lazy = jsonMapper.readValue(json, LazyEnvelope.class);
+        assertTrue(lazy.payload.isDecoded());
+        _verify(input.payload, lazy.payload.get());
+        assertEquals(json, jsonMapper.writeValueAsString(lazy));
+    }
+
+    /*
+    /**********************************************************
+    /* Helper methods
+    /**********************************************************
+     */
+
+    private Envelope _envelope() {
+        Envelope env = new Envelope();
+        env.header = "route-66";
+        env.payload = new Payload();
+        env.payload.text = "Some longer text content that routing tier does not care about";
+        env.payload.values = new int[] { 1, 2, 3, -4, 500000 };
+        env.payload.point = new Point(12, -34);
+        env.trailer = -1;
+        return env;
+    }
+
+    private void _verify(Payload exp, Payload act) {
+        assertEquals(exp.text, act.text);
+        assertEquals(Arrays.toString(exp.values), Arrays.toString(act.values));
+        assertEquals(exp.point, act.point);
+    }
+}
@@ -1,13 +1,17 @@
 package com.fasterxml.jackson.dataformat.protobuf;
 
+import java.io.ByteArrayInputStream;
 import java.io.StringReader;
 
 import org.junit.jupiter.api.Test;
 
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.dataformat.protobuf.schema.ProtobufSchema;
+import com.fasterxml.jackson.dataformat.protobuf.schema.ProtobufSchemaLoader;
+import com.fasterxml.jackson.dataformat.protobuf.testutil.LimitingInputStream;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.*;
 
 public class ReadPackedRepeatedTest extends ProtobufTestBase
 {
@@ -29,4 +33,102 @@ public class ReadPackedRepeatedTest extends ProtobufTestBase
         assertEquals(100, t.get("f").get(0).asInt());
         assertEquals(200, t.get("f").get(1).asInt());
     }
+
+    static class PackedArrays {
+        public int[] ints;
+        public int[] sints;
+        public long[] longs;
+        public double[] doubles;
+        public float[] floats;
+        public boolean[] bools;
+        public int after;
+    }
+
+    final static String PROTOC_PACKED_ARRAYS = "message PackedArrays {\n"
+            +" repeated int32 ints = 1 [packed=true];\n"
+            +" repeated sint32 sints = 2 [packed=true];\n"
+            +" repeated fixed64 longs = 3 [packed=true];\n"
+            +" repeated double doubles = 4 [packed=true];\n"
+            +" repeated float floats = 5 [packed=true];\n"
+            +" repeated bool bools = 6 [packed=true];\n"
+            +" optional int32 after = 7;\n"
+            +"}\n";
+
+    @Test
+    public void testPackedPrimitiveArrays() throws Exception
+    {
+        final ProtobufMapper mapper = newObjectMapper();
+        ProtobufSchema schema = ProtobufSchemaLoader.std.parse(PROTOC_PACKED_ARRAYS);
+        PackedArrays input = _packedArrays(3000);
+        byte[] pb = mapper.writer(schema).writeValueAsBytes(input);
+
+        // both from byte[] and with small reads from stream, to cross buffer boundaries
+        _verify(input, mapper.readerFor(PackedArrays.class).with(schema).readValue(pb));
+        _verify(input, mapper.readerFor(PackedArrays.class).with(schema)
+                .readValue(new LimitingInputStream(new ByteArrayInputStream(pb), 123)));
+
+        // and with single-entry arrays
+        input = _packedArrays(1);
+        pb = mapper.writer(schema).writeValueAsBytes(input);
+        _verify(input, mapper.readerFor(PackedArrays.class).with(schema).readValue(pb));
+    }
+
+    @Test
+    public void testPackedBulkReadViaParser() throws Exception
+    {
+        final ProtobufMapper mapper = newObjectMapper();
+        ProtobufSchema schema = ProtobufSchemaLoader.std.parse(PROTOC_PACKED_ARRAYS);
+        PackedArrays input = _packedArrays(5);
+        byte[] pb = mapper.writer(schema).writeValueAsBytes(input);
+
+        try (ProtobufParser p = (ProtobufParser) mapper.reader(schema).createParser(pb)) {
+            assertToken(JsonToken.START_OBJECT, p.nextToken());
+            assertToken(JsonToken.FIELD_NAME, p.nextToken());
+            // not positioned at START_ARRAY yet
+            assertNull(p.readPackedIntArray());
+            assertToken(JsonToken.START_ARRAY, p.nextToken());
+            // incompatible type: no change
+            assertNull(p.readPackedDoubleArray());
+            // long[] is fine for int32 values as well
+            assertArrayEquals(new long[] { 0, -1, 4, -9, 16 }, p.readPackedLongArray());
+            assertToken(JsonToken.END_ARRAY, p.currentToken());
+            assertToken(JsonToken.FIELD_NAME, p.nextToken());
+            assertEquals("sints", p.currentName());
+            assertToken(JsonToken.START_ARRAY, p.nextToken());
+            assertArrayEquals(input.sints, p.readPackedIntArray());
+            assertToken(JsonToken.FIELD_NAME, p.nextToken());
+            assertEquals("longs", p.currentName());
+        }
+    }
+
+    private PackedArrays _packedArrays(int count) {
+        PackedArrays arrays = new PackedArrays();
+        arrays.ints = new int[count];
+        arrays.sints = new int[count];
+        arrays.longs = new long[count];
+        arrays.doubles = new double[count];
+        arrays.floats = new float[count];
+        arrays.bools = new boolean[count];
+        for (int i = 0; i < count; ++i) {
+            int sign = ((i & 1) == 0) ? 1 : -1;
+            arrays.ints[i] = sign * i * i;
+            arrays.sints[i] = sign * 1000 * i;
+            arrays.longs[i] = sign * 12345678901L * i;
+            arrays.doubles[i] = sign * i / 8.0;
+            arrays.floats[i] = sign * i / 4.0f;
+            arrays.bools[i] = (i % 3) == 0;
+        }
+        arrays.after = 42;
+        return arrays;
+    }
+
+    private void _verify(PackedArrays exp, PackedArrays act) {
+        assertArrayEquals(exp.ints, act.ints);
+        assertArrayEquals(exp.sints, act.sints);
+        assertArrayEquals(exp.longs, act.longs);
+        assertArrayEquals(exp.doubles, act.doubles);
+        assertArrayEquals(exp.floats, act.floats);
+        assertArrayEquals(exp.bools, act.bools);
+        assertEquals(exp.after, act.after);
+    }
 }
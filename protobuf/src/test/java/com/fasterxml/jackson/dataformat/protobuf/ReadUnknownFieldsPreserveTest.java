@@ -0,0 +1,314 @@
+package com.fasterxml.jackson.dataformat.protobuf;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.annotation.JsonAnyGetter;
+import com.fasterxml.jackson.annotation.JsonAnySetter;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerationException;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.exc.StreamReadException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.dataformat.protobuf.schema.ProtobufSchema;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ReadUnknownFieldsPreserveTest extends ProtobufTestBase
+{
+    static class ItemV2 {
+        @JsonProperty(value = "id", index = 1)
+        public int id;
+
+        @JsonProperty(value = "name", index = 2)
+        public String name;
+
+        @JsonProperty(value = "tags", index = 3)
+        public List<String> tags;
+
+        @JsonProperty(value = "nested", index = 4)
+        public NestedV2 nested;
+
+        @JsonProperty(value = "ratio", index = 5)
+        public double ratio;
+
+        @JsonProperty(value = "values", index = 6)
+        public int[] values;
+    }
+
+    static class NestedV2 {
+        @JsonProperty(value = "a", index = 1)
+        public int a;
+
+        @JsonProperty(value = "b", index = 2)
+        public String b;
+    }
+
+    static class ItemV1 {
+        @JsonProperty(value = "id", index = 1)
+        public int id;
+
+        @JsonProperty(value = "nested", index = 4)
+        public NestedV1 nested;
+
+        protected final ProtobufUnknownFields unknown = new ProtobufUnknownFields();
+
+        @JsonAnySetter
+        public void setUnknown(String id, byte[] raw) {
+            unknown.add(id, raw);
+        }
+
+        @JsonAnyGetter
+        public Map<String, byte[]> getUnknown() {
+            return unknown.asMap();
+        }
+    }
+
+    static class NestedV1 {
+        @JsonProperty(value = "a", index = 1)
+        public int a;
+
+        protected final ProtobufUnknownFields unknown = new ProtobufUnknownFields();
+
+        @JsonAnySetter
+        public void setUnknown(String id, byte[] raw) {
+            unknown.add(id, raw);
+        }
+
+        @JsonAnyGetter
+        public Map<String, byte[]> getUnknown() {
+            return unknown.asMap();
+        }
+    }
+
+    /*
+    /**********************************************************
+    /* Test methods
+    /**********************************************************
+     */
+
+    private final ProtobufMapper MAPPER = newObjectMapper();
+
+    @Test
+    public void testRoundtripUnknown() throws Exception
+    {
+        final ProtobufSchema schemaV1 = MAPPER.generateSchemaFor(ItemV1.class);
+        final ProtobufSchema schemaV2 = MAPPER.generateSchemaFor(ItemV2.class);
+
+        ItemV2 input = new ItemV2();
+        input.id = 42;
+        input.name = "Bob";
+        input.tags = Arrays.asList("a", "bc");
+        input.nested = new NestedV2();
+        input.nested.a = -3;
+        input.nested.b = "nested";
+        input.ratio = 0.25;
+        input.values = new int[] { 1, 200, -3 };
+        byte[] doc = MAPPER.writer(schemaV2).writeValueAsBytes(input);
+
+        ItemV1 v1 = MAPPER.readerFor(ItemV1.class)
+                .with(schemaV1)
+                .with(ProtobufParser.Feature.PRESERVE_UNKNOWN_FIELDS)
+                .readValue(doc);
+        assertEquals(42, v1.id);
+        assertEquals(4, v1.unknown.size());
+        assertNotNull(v1.unknown.get(2));
+        assertNotNull(v1.unknown.get(3));
+        assertNotNull(v1.unknown.get(5));
+        assertNotNull(v1.unknown.get(6));
+        assertEquals(-3, v1.nested.a);
+        assertEquals(1, v1.nested.unknown.size());
+
+        // then write back using old schema, read with new: should get everything
+        byte[] doc2 = MAPPER.writer(schemaV1)
+                .with(ProtobufGenerator.Feature.WRITE_RAW_UNKNOWN_FIELDS)
+                .writeValueAsBytes(v1);
+        assertEquals(doc.length, doc2.length);
+
+        ItemV2 result = MAPPER.readerFor(ItemV2.class)
+                .with(schemaV2)
+                .readValue(doc2);
+        assertEquals(input.id, result.id);
+        assertEquals(input.name, result.name);
+        assertEquals(input.tags, result.tags);
+        assertEquals(input.nested.a, result.nested.a);
+        assertEquals(input.nested.b, result.nested.b);
+        assertEquals(input.ratio, result.ratio);
+        assertArrayEquals(input.values, result.values);
+    }
+
+    @Test
+    public void testUnknownTokens() throws Exception
+    {
+        ItemV2 input = new ItemV2();
+        input.id = 1;
+        input.name = "x";
+        byte[] doc = MAPPER.writer(MAPPER.generateSchemaFor(ItemV2.class))
+                .writeValueAsBytes(input);
+        final ProtobufSchema schemaV1 = MAPPER.generateSchemaFor(ItemV1.class);
+
+        try (JsonParser p = MAPPER.reader(schemaV1)
+                .with(ProtobufParser.Feature.PRESERVE_UNKNOWN_FIELDS)
+                .createParser(doc)) {
+            assertToken(JsonToken.START_OBJECT, p.nextToken());
+            assertToken(JsonToken.FIELD_NAME, p.nextToken());
+            assertEquals("id", p.currentName());
+            assertToken(JsonToken.VALUE_NUMBER_INT, p.nextToken());
+            assertEquals("2", p.nextFieldName());
+            assertToken(JsonToken.VALUE_EMBEDDED_OBJECT, p.nextToken());
+            // tag (field 2, length-prefixed), length, "x"
+            assertArrayEquals(new byte[] { 0x12, 1, 'x' }, p.getBinaryValue());
+            // double written as fixed 64-bit value
+            assertToken(JsonToken.FIELD_NAME, p.nextToken());
+            assertEquals("5", p.currentName());
+            assertToken(JsonToken.VALUE_EMBEDDED_OBJECT, p.nextToken());
+            assertEquals(9, p.getBinaryValue().length);
+            assertToken(JsonToken.END_OBJECT, p.nextToken());
+            assertNull(p.nextToken());
+        }
+    }
+
+    @Test
+    public void testUnknownAsSlice() throws Exception
+    {
+        ItemV2 input = new ItemV2();
+        input.id = 1;
+        input.name = "abc";
+        input.ratio = 0.5;
+        byte[] doc = MAPPER.writer(MAPPER.generateSchemaFor(ItemV2.class))
+                .writeValueAsBytes(input);
+        final ProtobufSchema schemaV1 = MAPPER.generateSchemaFor(ItemV1.class);
+
+        // with caller-provided buffer, raw content is a slice of input...
+        try (ProtobufParser p = (ProtobufParser) MAPPER.reader(schemaV1)
+                .with(ProtobufParser.Feature.PRESERVE_UNKNOWN_FIELDS)
+                .createParser(doc)) {
+            assertToken(JsonToken.START_OBJECT, p.nextToken());
+            assertEquals("id", p.nextFieldName());
+            assertToken(JsonToken.VALUE_NUMBER_INT, p.nextToken());
+            assertEquals("2", p.nextFieldName());
+            assertToken(JsonToken.VALUE_EMBEDDED_OBJECT, p.nextToken());
+            ByteBuffer raw = p.getRawValueAsByteBuffer();
+            assertSame(doc, raw.array());
+            assertEquals(5, raw.remaining());
+            assertArrayEquals(new byte[] { 0x12, 3, 'a', 'b', 'c' }, p.getBinaryValue());
+            // and skipped as is, if not accessed
+            assertEquals("5", p.nextFieldName());
+            assertToken(JsonToken.VALUE_EMBEDDED_OBJECT, p.nextToken());
+            assertToken(JsonToken.END_OBJECT, p.nextToken());
+            assertNull(p.nextToken());
+        }
+
+        // ... but otherwise copied; either way, same contents
+        ItemV1 fromBytes = MAPPER.readerFor(ItemV1.class)
+                .with(schemaV1)
+                .with(ProtobufParser.Feature.PRESERVE_UNKNOWN_FIELDS)
+                .readValue(doc);
+        ItemV1 fromStream = MAPPER.readerFor(ItemV1.class)
+                .with(schemaV1)
+                .with(ProtobufParser.Feature.PRESERVE_UNKNOWN_FIELDS)
+                .readValue(new ByteArrayInputStream(doc));
+        assertEquals(2, fromBytes.unknown.size());
+        assertArrayEquals(fromStream.unknown.get(2), fromBytes.unknown.get(2));
+        assertArrayEquals(fromStream.unknown.get(5), fromBytes.unknown.get(5));
+    }
+
+    @Test
+    public void testDisabledByDefault() throws Exception
+    {
+        ItemV2 input = new ItemV2();
+        input.id = 7;
+        input.name = "x";
+        byte[] doc = MAPPER.writer(MAPPER.generateSchemaFor(ItemV2.class))
+                .writeValueAsBytes(input);
+        ItemV1 v1 = MAPPER.readerFor(ItemV1.class)
+                .with(MAPPER.generateSchemaFor(ItemV1.class))
+                .with(JsonParser.Feature.IGNORE_UNDEFINED)
+                .readValue(doc);
+        assertEquals(7, v1.id);
+        assertTrue(v1.unknown.isEmpty());
+
+        try {
+            MAPPER.readerFor(ItemV1.class)
+                .with(MAPPER.generateSchemaFor(ItemV1.class))
+                .readValue(doc);
+            fail("Should not pass");
+        } catch (StreamReadException e) {
+            verifyException(e, "Undefined property");
+        }
+    }
+
+    @Test
+    public void testRawWritingDisabledByDefault() throws Exception
+    {
+        final ProtobufSchema schemaV1 = MAPPER.generateSchemaFor(ItemV1.class);
+        ItemV1 v1 = new ItemV1();
+        v1.id = 3;
+        v1.setUnknown("42", new byte[] { -1, -1, -1 });
+
+        // numeric names handled like any other unknown property...
+        try {
+            MAPPER.writer(schemaV1).writeValueAsBytes(v1);
+            fail("Should not pass");
+        } catch (JsonMappingException e) {
+            verifyException(e, "Unrecognized field '42'");
+        }
+
+        // ... including with `IGNORE_UNKNOWN`, regardless of value type
+        for (Object value : new Object[] { "hello", new byte[] { -1, -1, -1 } }) {
+            assertArrayEquals(_writeWithUnknown(schemaV1, "foo", value),
+                    _writeWithUnknown(schemaV1, "42", value));
+        }
+
+        // unless raw writing is enabled
+        ProtobufMapper mapper = ProtobufMapper.builder()
+                .enable(ProtobufGenerator.Feature.WRITE_RAW_UNKNOWN_FIELDS)
+                .build();
+        assertTrue(mapper.getFactory().isEnabled(ProtobufGenerator.Feature.WRITE_RAW_UNKNOWN_FIELDS));
+        ItemV1 plain = new ItemV1();
+        plain.id = 3;
+        assertEquals(MAPPER.writer(schemaV1).writeValueAsBytes(plain).length + 3,
+                mapper.writer(schemaV1).writeValueAsBytes(v1).length);
+    }
+
+    @Test
+    public void testWriteNonBinaryForRawField() throws Exception
+    {
+        final ProtobufSchema schemaV1 = MAPPER.generateSchemaFor(ItemV1.class);
+        try (JsonGenerator g = MAPPER.createGenerator(new ByteArrayOutputStream())) {
+            ((ProtobufGenerator) g).overrideFormatFeatures(
+                    ProtobufGenerator.Feature.WRITE_RAW_UNKNOWN_FIELDS.getMask(),
+                    ProtobufGenerator.Feature.WRITE_RAW_UNKNOWN_FIELDS.getMask());
+            g.setSchema(schemaV1);
+            g.writeStartObject();
+            g.writeFieldName("2");
+            g.writeString("foo");
+            fail("Should not pass");
+        } catch (JsonGenerationException e) {
+            verifyException(e, "Can only write binary value");
+        }
+    }
+
+    private byte[] _writeWithUnknown(ProtobufSchema schema, String name, Object value) throws Exception
+    {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (JsonGenerator g = MAPPER.createGenerator(bytes)) {
+            g.enable(JsonGenerator.Feature.IGNORE_UNKNOWN);
+            g.setSchema(schema);
+            g.writeStartObject();
+            g.writeNumberField("id", 3);
+            g.writeFieldName(name);
+            g.writeObject(value);
+            g.writeEndObject();
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,325 @@
+package com.fasterxml.jackson.dataformat.protobuf;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.*;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.core.JsonGenerationException;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.dataformat.protobuf.schema.ProtobufField;
+import com.fasterxml.jackson.dataformat.protobuf.schema.ProtobufSchema;
+import com.fasterxml.jackson.dataformat.protobuf.schema.ProtobufSchemaLoader;
+import com.fasterxml.jackson.dataformat.protobuf.testutil.LimitingInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RoundtripMapTest extends ProtobufTestBase
+{
+    // note: bundled protoparser requires a label for map fields, unlike `protoc`
+    final protected static String PROTOC_MAPS =
+            "message Maps {\n"
+            +" optional string name = 1;\n"
+            +" optional map<string, int32> counts = 2;\n"
+            +" optional map<int64, Point> points = 3;\n"
+            +" optional Inner inner = 4;\n"
+            +" optional int32 last = 5;\n"
+            +"}\n"
+            +"message Inner {\n"
+            +" optional map<sint32, string> labels = 1;\n"
+            +"}\n"
+            +PROTOC_POINT
+    ;
+
+    // Same content but with maps as repeated entries, as per protobuf spec
+    final protected static String PROTOC_MAPS_AS_ENTRIES =
+            "message Maps {\n"
+            +" optional string name = 1;\n"
+            +" repeated CountsEntry counts = 2;\n"
+            +" optional int32 last = 5;\n"
+            +"}\n"
+            +"message CountsEntry {\n"
+            +" optional string key = 1;\n"
+            +" optional int32 value = 2;\n"
+            +"}\n"
+    ;
+
+    @JsonPropertyOrder({ "name", "counts", "points", "inner", "last" })
+    static class Maps {
+        public String name;
+        public Map<String, Integer> counts;
+        public Map<Long, Point> points;
+        public Inner inner;
+        public int last;
+    }
+
+    static class Inner {
+        public Map<Integer, String> labels;
+    }
+
+    @JsonPropertyOrder({ "name", "counts", "last" })
+    static class MapsAsEntries {
+        public String name;
+        public List<CountsEntry> counts;
+        public int last;
+    }
+
+    @JsonPropertyOrder({ "key", "value" })
+    static class CountsEntry {
+        public String key;
+        public int value;
+
+        protected CountsEntry() { }
+        public CountsEntry(String k, int v) {
+            key = k;
+            value = v;
+        }
+    }
+
+    static class MapBean {
+        public String id;
+        public Map<String, Integer> counts;
+        public Map<Integer, Point> points;
+    }
+
+    private final ProtobufMapper MAPPER = newObjectMapper();
+
+    /*
+    /**********************************************************
+    /* Test methods
+    /**********************************************************
+     */
+
+    @Test
+    public void testMapFieldSchema() throws Exception
+    {
+        ProtobufSchema schema = ProtobufSchemaLoader.std.parse(PROTOC_MAPS);
+        ProtobufField f = schema.getRootType().field("counts");
+        assertNotNull(f);
+        assertTrue(f.isMap);
+        assertFalse(f.isArray());
+        assertEquals("CountsEntry", f.getMessageType().getName());
+        assertTrue(f.getMessageType().isMapEntry());
+        assertEquals("key", f.getMapKeyField().name);
+        assertEquals("value", f.getMapValueField().name);
+        assertFalse(schema.getRootType().field("name").isMap);
+        assertNull(schema.getRootType().field("name").getMapKeyField());
+
+        try {
+            ProtobufSchemaLoader.std.parse("message Bad {\n optional map<double, string> m = 1;\n}\n");
+            fail("Should not pass");
+        } catch (IllegalArgumentException e) {
+            verifyException(e, "Invalid key type");
+        }
+    }
+
+    @Test
+    public void testMapRoundtrip() throws Exception
+    {
+        ProtobufSchema schema = ProtobufSchemaLoader.std.parse(PROTOC_MAPS);
+        Maps input = _maps();
+        byte[] doc = MAPPER.writer(schema).writeValueAsBytes(input);
+
+        _verify(input, MAPPER.readerFor(Maps.class).with(schema).readValue(doc));
+        // and then with input fed in small chunks
+        for (int seed = 0; seed < 5; ++seed) {
+            _verify(input, MAPPER.readerFor(Maps.class).with(schema)
+                    .readValue(new LimitingInputStream(new ByteArrayInputStream(doc), seed)));
+        }
+
+        // Also: should work with maps as the last field of root and nested messages
+        input.last = 0;
+        input.inner.labels.put(-1000, "");
+        doc = MAPPER.writer(schema).writeValueAsBytes(input);
+        _verify(input, MAPPER.readerFor(Maps.class).with(schema).readValue(doc));
+    }
+
+    @Test
+    public void testMapTokens() throws Exception
+    {
+        ProtobufSchema schema = ProtobufSchemaLoader.std.parse(PROTOC_MAPS);
+        Maps input = new Maps();
+        input.name = "x";
+        input.counts = new LinkedHashMap<>();
+        input.counts.put("a", 1);
+        input.counts.put("b", 2);
+        input.points = Collections.singletonMap(7L, new Point(3, -4));
+        input.last = 9;
+        byte[] doc = MAPPER.writer(schema).writeValueAsBytes(input);
+
+        try (JsonParser p = MAPPER.reader(schema).createParser(doc)) {
+            assertToken(JsonToken.START_OBJECT, p.nextToken());
+            assertEquals("name", p.nextFieldName());
+            assertEquals("x", p.nextTextValue());
+            assertEquals("counts", p.nextFieldName());
+            assertToken(JsonToken.START_OBJECT, p.nextToken());
+            assertEquals("a", p.nextFieldName());
+            assertToken(JsonToken.VALUE_NUMBER_INT, p.nextToken());
+            assertEquals(1, p.getIntValue());
+            assertToken(JsonToken.FIELD_NAME, p.nextToken());
+            assertEquals("b", p.currentName());
+            assertToken(JsonToken.VALUE_NUMBER_INT, p.nextToken());
+            assertEquals(2, p.getIntValue());
+            assertToken(JsonToken.END_OBJECT, p.nextToken());
+            assertEquals("points", p.nextFieldName());
+            assertToken(JsonToken.START_OBJECT, p.nextToken());
+            assertEquals("7", p.nextFieldName());
+            assertToken(JsonToken.START_OBJECT, p.nextToken());
+            assertEquals("x", p.nextFieldName());
+            assertToken(JsonToken.VALUE_NUMBER_INT, p.nextToken());
+            assertEquals(3, p.getIntValue());
+            assertEquals("y", p.nextFieldName());
+            assertToken(JsonToken.VALUE_NUMBER_INT, p.nextToken());
+            assertEquals(-4, p.getIntValue());
+            assertToken(JsonToken.END_OBJECT, p.nextToken());
+            assertToken(JsonToken.END_OBJECT, p.nextToken());
+            assertEquals("last", p.nextFieldName());
+            assertToken(JsonToken.VALUE_NUMBER_INT, p.nextToken());
+            assertEquals(9, p.getIntValue());
+            assertToken(JsonToken.END_OBJECT, p.nextToken());
+            assertNull(p.nextToken());
+        }
+    }
+
+    // Maps must be wire-compatible with repeated entry messages
+    @Test
+    public void testMapsAsRepeatedEntries() throws Exception
+    {
+        ProtobufSchema mapSchema = ProtobufSchemaLoader.std.parse(PROTOC_MAPS);
+        ProtobufSchema entrySchema = ProtobufSchemaLoader.std.parse(PROTOC_MAPS_AS_ENTRIES);
+
+        MapsAsEntries entries = new MapsAsEntries();
+        entries.name = "foo";
+        entries.counts = Arrays.asList(new CountsEntry("a", 1), new CountsEntry("", 0),
+                new CountsEntry("c", -3));
+        entries.last = 42;
+        byte[] doc = MAPPER.writer(entrySchema).writeValueAsBytes(entries);
+
+        Maps maps = MAPPER.readerFor(Maps.class).with(mapSchema).readValue(doc);
+        assertEquals("foo", maps.name);
+        Map<String, Integer> exp = new LinkedHashMap<>();
+        exp.put("a", 1);
+        exp.put("", 0);
+        exp.put("c", -3);
+        assertEquals(exp, maps.counts);
+        assertEquals(42, maps.last);
+
+        byte[] doc2 = MAPPER.writer(mapSchema).writeValueAsBytes(maps);
+        assertArrayEquals(doc, doc2);
+    }
+
+    @Test
+    public void testMapWithGeneratedSchema() throws Exception
+    {
+        ProtobufSchema schema = MAPPER.generateSchemaFor(MapBean.class);
+        assertTrue(schema.getRootType().field("counts").isMap);
+
+        MapBean input = new MapBean();
+        input.id = "abc";
+        input.counts = new LinkedHashMap<>();
+        input.counts.put("x", 1);
+        input.counts.put("y", Integer.MIN_VALUE);
+        input.points = new LinkedHashMap<>();
+        input.points.put(-1, new Point(1, 2));
+        input.points.put(100000, new Point(-3, 0));
+        byte[] doc = MAPPER.writer(schema).writeValueAsBytes(input);
+
+        MapBean result = MAPPER.readerFor(MapBean.class).with(schema).readValue(doc);
+        assertEquals(input.id, result.id);
+        assertEquals(input.counts, result.counts);
+        assertEquals(input.points, result.points);
+    }
+
+    @Test
+    public void testIntegralKeyRanges() throws Exception
+    {
+        ProtobufSchema schema = ProtobufSchemaLoader.std.parse("message Keys {\n"
+                +" optional map<uint32, int32> u32 = 1;\n"
+                +" optional map<sint32, int32> s32 = 2;\n"
+                +" optional map<uint64, int32> u64 = 3;\n"
+                +" optional map<fixed64, int32> f64 = 4;\n"
+                +" optional map<sint64, int32> s64 = 5;\n"
+                +"}\n");
+
+        // unsigned values above signed maximum are fine
+        _writeKey(schema, "u32", "4294967295");
+        _writeKey(schema, "u32", "-2147483648");
+        _writeKey(schema, "u64", "18446744073709551615");
+        _writeKey(schema, "f64", "18446744073709551615");
+        // and encoded same as signed values with same bits
+        assertArrayEquals(_writeKey(schema, "u64", "-1"), _writeKey(schema, "u64", "18446744073709551615"));
+        assertArrayEquals(_writeKey(schema, "f64", "-2"), _writeKey(schema, "f64", "18446744073709551614"));
+
+        // but values out of range must not be truncated
+        _verifyInvalidKey(schema, "u32", "4294967296", "out of range");
+        _verifyInvalidKey(schema, "u32", "-2147483649", "out of range");
+        _verifyInvalidKey(schema, "s32", "2147483648", "out of range");
+        _verifyInvalidKey(schema, "u64", "18446744073709551616", "not a valid");
+        _verifyInvalidKey(schema, "s64", "9223372036854775808", "not a valid");
+        _verifyInvalidKey(schema, "u64", "abc", "not a valid");
+    }
+
+    /*
+    /**********************************************************
+    /* Helper methods
+    /**********************************************************
+     */
+
+    private byte[] _writeKey(ProtobufSchema schema, String field, String key) throws Exception
+    {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (JsonGenerator g = MAPPER.createGenerator(bytes)) {
+            g.setSchema(schema);
+            g.writeStartObject();
+            g.writeFieldName(field);
+            g.writeStartObject();
+            g.writeNumberField(key, 1);
+            g.writeEndObject();
+            g.writeEndObject();
+        }
+        return bytes.toByteArray();
+    }
+
+    private void _verifyInvalidKey(ProtobufSchema schema, String field, String key, String msg)
+        throws Exception
+    {
+        try {
+            _writeKey(schema, field, key);
+            fail("Should not pass with key '"+key+"'");
+        } catch (JsonGenerationException e) {
+            verifyException(e, "Invalid key '"+key+"'");
+            verifyException(e, msg);
+        }
+    }
+
+    private Maps _maps() {
+        Maps m = new Maps();
+        m.name = "test";
+        m.counts = new LinkedHashMap<>();
+        m.counts.put("first", 1);
+        m.counts.put("second", -2);
+        m.counts.put("", 300000);
+        m.points = new LinkedHashMap<>();
+        m.points.put(Long.MAX_VALUE, new Point(1, -1));
+        m.points.put(0L, new Point(0, 0));
+        m.points.put(-5L, new Point(12345, 678));
+        m.inner = new Inner();
+        m.inner.labels = new LinkedHashMap<>();
+        m.inner.labels.put(-1, "minus one");
+        m.inner.labels.put(1, "one");
+        m.last = 17;
+        return m;
+    }
+
+    private void _verify(Maps exp, Maps act) {
+        assertEquals(exp.name, act.name);
+        assertEquals(exp.counts, act.counts);
+        assertEquals(exp.points, act.points);
+        assertEquals(exp.inner.labels, act.inner.labels);
+        assertEquals(exp.last, act.last);
+    }
+}
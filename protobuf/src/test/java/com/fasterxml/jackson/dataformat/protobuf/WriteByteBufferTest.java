@@ -0,0 +1,95 @@
+package com.fasterxml.jackson.dataformat.protobuf;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.dataformat.protobuf.schema.ProtobufSchema;
+import com.fasterxml.jackson.dataformat.protobuf.schema.ProtobufSchemaLoader;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class WriteByteBufferTest extends ProtobufTestBase
+{
+    private final ProtobufMapper MAPPER = newObjectMapper();
+
+    @Test
+    public void testWriteAsByteBuffer() throws Exception
+    {
+        ProtobufSchema schema = ProtobufSchemaLoader.std.parse(PROTOC_MEDIA_ITEM);
+        MediaItem input = MediaItem.buildItem();
+        byte[] exp = MAPPER.writer(schema).writeValueAsBytes(input);
+
+        ByteBuffer bb = MAPPER.writeValueAsByteBuffer(schema, input);
+        assertFalse(bb.isDirect());
+        assertEquals(0, bb.position());
+        assertEquals(exp.length, bb.limit());
+        assertEquals(exp.length, bb.capacity());
+        assertArrayEquals(exp, _bytes(bb));
+
+        bb = MAPPER.writeValueAsByteBuffer(schema, input, true);
+        assertTrue(bb.isDirect());
+        assertEquals(exp.length, bb.capacity());
+        assertArrayEquals(exp, _bytes(bb));
+
+        // and readable as is
+        assertEquals(input, MAPPER.readerFor(MediaItem.class).with(schema)
+                .readValue(_bytes(bb)));
+    }
+
+    // Content bigger than the first recycled segment
+    @Test
+    public void testWriteBigAsByteBuffer() throws Exception
+    {
+        ProtobufSchema schema = ProtobufSchemaLoader.std.parse(PROTOC_MEDIA_ITEM);
+        MediaItem input = MediaItem.buildItem();
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 10000; ++i) {
+            sb.append("Title #").append(i).append(' ');
+        }
+        input.media.title = sb.toString();
+        byte[] exp = MAPPER.writer(schema).writeValueAsBytes(input);
+        assertTrue(exp.length > 100000);
+
+        ByteBuffer bb = MAPPER.writeValueAsByteBuffer(schema, input, true);
+        assertEquals(exp.length, bb.capacity());
+        assertArrayEquals(exp, _bytes(bb));
+    }
+
+    @Test
+    public void testWriteIntoByteBuffer() throws Exception
+    {
+        ProtobufSchema schema = ProtobufSchemaLoader.std.parse(PROTOC_BOX);
+        Box input = new Box(0x3, 0x4, 0x5, 0x6);
+        byte[] exp = MAPPER.writer(schema).writeValueAsBytes(input);
+
+        for (ByteBuffer target : new ByteBuffer[] { ByteBuffer.allocate(100),
+                ByteBuffer.allocateDirect(100) }) {
+            target.position(7);
+            int count = MAPPER.writeValue(target, schema, input);
+            assertEquals(exp.length, count);
+            assertEquals(7 + exp.length, target.position());
+            target.flip();
+            target.position(7);
+            assertArrayEquals(exp, _bytes(target));
+        }
+
+        // But if not enough room, fail without moving position
+        ByteBuffer target = ByteBuffer.allocate(exp.length - 1);
+        target.position(1);
+        try {
+            MAPPER.writeValue(target, schema, input);
+            fail("Should not pass");
+        } catch (IOException e) {
+            verifyException(e, "Target ByteBuffer too small");
+        }
+        assertEquals(1, target.position());
+    }
+
+    private byte[] _bytes(ByteBuffer bb) {
+        byte[] b = new byte[bb.remaining()];
+        bb.duplicate().get(b);
+        return b;
+    }
+}
@@ -0,0 +1,195 @@
+package com.fasterxml.jackson.dataformat.protobuf.schema;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.dataformat.protobuf.ProtobufMapper;
+import com.fasterxml.jackson.dataformat.protobuf.ProtobufTestBase;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CompiledSchemaTest extends ProtobufTestBase
+{
+    private final ProtobufMapper MAPPER = newObjectMapper();
+
+    @Test
+    public void testCompiledRoundtrip() throws Exception
+    {
+        ProtobufSchema schema = MAPPER.schemaLoader().parse(PROTOC_MEDIA_ITEM);
+        byte[] compiled = CompiledProtobufSchema.toBytes(schema);
+        ProtobufSchema schema2 = MAPPER.schemaLoader()
+                .loadCompiled(new ByteArrayInputStream(compiled));
+
+        ProtobufMessage root = schema2.getRootType();
+        assertEquals("MediaItem", root.getName());
+        assertEquals(2, root.getFieldCount());
+        ProtobufField media = root.field("media");
+        assertTrue(media.required);
+        assertEquals("Media", media.getMessageType().getName());
+        assertTrue(root.field("images").isArray());
+        ProtobufField player = media.getMessageType().field("player");
+        assertEquals(FieldType.ENUM, player.type);
+        assertEquals(5, player.findEnumIndex("FLASH"));
+        assertEquals("JAVA", player.findEnumByIndex(4));
+
+        // and must produce identical encoding
+        MediaItem input = MediaItem.buildItem();
+        byte[] doc = MAPPER.writer(schema).writeValueAsBytes(input);
+        assertArrayEquals(doc, MAPPER.writer(schema2).writeValueAsBytes(input));
+        MediaItem result = MAPPER.readerFor(MediaItem.class).with(schema2).readValue(doc);
+        assertEquals(input, result);
+
+        // source definition retained as well, for switching root type
+        assertEquals("Image", schema2.withRootType("Image").getRootType().getName());
+        assertEquals(schema.getMessageTypes(), schema2.getMessageTypes());
+    }
+
+    @Test
+    public void testCompiledMapsAndCycles() throws Exception
+    {
+        final String PROTOC = "message Node {\n"
+                +" optional string name = 1;\n"
+                +" optional map<string, Node> children = 2;\n"
+                +" optional Node parent = 3;\n"
+                +" oneof kind {\n"
+                +"   int32 count = 4;\n"
+                +"   string label = 5;\n"
+                +" }\n"
+                +"}\n";
+        ProtobufSchema schema = CompiledProtobufSchema.fromBytes(
+                CompiledProtobufSchema.toBytes(MAPPER.schemaLoader().parse(PROTOC)));
+        ProtobufMessage root = schema.getRootType();
+        ProtobufField children = root.field("children");
+        assertTrue(children.isMap);
+        assertTrue(children.getMessageType().isMapEntry());
+        assertSame(root, children.getMapValueField().getMessageType());
+        assertSame(root, root.field("parent").getMessageType());
+        assertEquals("kind", root.field("label").getOneOf());
+        assertNull(root.field("name").getOneOf());
+        assertSame(root.field("count"), root.field(4));
+        assertSame(root.field("label"), root.field("count").next);
+    }
+
+    @Test
+    public void testInvalidCompiled() throws Exception
+    {
+        try {
+            CompiledProtobufSchema.fromBytes(new byte[] { 1, 2, 3, 4, 5 });
+            fail("Should not pass");
+        } catch (IOException e) {
+            verifyException(e, "Invalid compiled protobuf schema");
+        }
+        byte[] compiled = CompiledProtobufSchema.toBytes(MAPPER.schemaLoader().parse(PROTOC_BOX));
+        try {
+            CompiledProtobufSchema.fromBytes(Arrays.copyOf(compiled, compiled.length - 3));
+            fail("Should not pass");
+        } catch (IOException e) {
+            verifyException(e, "unexpected end of content");
+        }
+    }
+
+    @Test
+    public void testCorruptCounts() throws Exception
+    {
+        // huge or negative counts must be caught before allocating anything
+        _verifyCorrupt("invalid message count -5", -5);
+        _verifyCorrupt("invalid message count 2147483647", Integer.MAX_VALUE);
+        _verifyCorrupt("invalid field count 1000000000", 1, 1, 'M', '\0', 1_000_000_000);
+        _verifyCorrupt("invalid field count -1", 1, 1, 'M', '\0', -1);
+        _verifyCorrupt("invalid string length -2", 1, -2);
+        _verifyCorrupt("string length 2147483647 exceeds maximum", 1, Integer.MAX_VALUE);
+    }
+
+    // Constructs compiled schema header followed by given sequence of ints
+    // (or bytes, for `Character` values)
+    private void _verifyCorrupt(String msg, Object... contents) throws Exception
+    {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(0x4A50_4253);
+        out.writeByte(1); // version
+        out.writeBoolean(false); // no source
+        for (Object ob : contents) {
+            if (ob instanceof Character) {
+                out.writeByte((Character) ob);
+            } else {
+                out.writeInt((Integer) ob);
+            }
+        }
+        out.flush();
+        try {
+            CompiledProtobufSchema.fromBytes(bytes.toByteArray());
+            fail("Should not pass");
+        } catch (IOException e) {
+            verifyException(e, "Invalid compiled protobuf schema");
+            verifyException(e, msg);
+        }
+    }
+
+    @Test
+    public void testSchemaCache() throws Exception
+    {
+        ProtobufSchema schema = MAPPER.parseSchema(PROTOC_MEDIA_ITEM);
+        assertEquals("MediaItem", schema.getRootType().getName());
+        assertSame(schema, MAPPER.parseSchema(new String(PROTOC_MEDIA_ITEM)));
+        ProtobufSchema image = MAPPER.parseSchema(PROTOC_MEDIA_ITEM, "Image");
+        assertEquals("Image", image.getRootType().getName());
+        assertSame(image, MAPPER.parseSchema(PROTOC_MEDIA_ITEM, "Image"));
+        assertNotSame(schema, MAPPER.parseSchema(PROTOC_MEDIA_ITEM, "MediaItem"));
+
+        MAPPER.clearSchemaCache();
+        assertNotSame(schema, MAPPER.parseSchema(PROTOC_MEDIA_ITEM));
+        // copies have separate caches
+        assertNotSame(image, MAPPER.copy().parseSchema(PROTOC_MEDIA_ITEM, "Image"));
+    }
+
+    @Test
+    public void testSchemaCacheWithLoader() throws Exception
+    {
+        final ProtobufMapper mapper = newObjectMapper();
+        ProtobufSchema schema = mapper.parseSchema(PROTOC_MEDIA_ITEM);
+        assertSame(schema, mapper.parseSchema(PROTOC_MEDIA_ITEM));
+
+        // changing loader must not leave schemas resolved by previous one
+        final int[] calls = new int[1];
+        mapper.setSchemaLoader(new ProtobufSchemaLoader() {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            public ProtobufSchema parse(String schemaAsString) throws IOException {
+                ++calls[0];
+                return super.parse(schemaAsString);
+            }
+        });
+        ProtobufSchema schema2 = mapper.parseSchema(PROTOC_MEDIA_ITEM);
+        assertNotSame(schema, schema2);
+        assertEquals(1, calls[0]);
+        assertSame(schema2, mapper.parseSchema(PROTOC_MEDIA_ITEM));
+        assertEquals(1, calls[0]);
+    }
+
+    @Test
+    public void testDescriptorSetCache() throws Exception
+    {
+        byte[] desc;
+        try (InputStream in = getClass().getResourceAsStream("/main.desc")) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            byte[] buf = new byte[1000];
+            int count;
+            while ((count = in.read(buf)) > 0) {
+                bytes.write(buf, 0, count);
+            }
+            desc = bytes.toByteArray();
+        }
+        ProtobufSchema schema = MAPPER.loadSchemaFromDescriptorSet(desc, "Main");
+        assertEquals("Main", schema.getRootType().getName());
+        assertEquals("Other", schema.getRootType().field("o").getMessageType().getName());
+        assertSame(schema, MAPPER.loadSchemaFromDescriptorSet(desc.clone(), "Main"));
+    }
+}
@@ -0,0 +1,103 @@
+package com.fasterxml.jackson.dataformat.protobuf.schema;
+
+import java.io.File;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.dataformat.protobuf.ProtobufMapper;
+import com.fasterxml.jackson.dataformat.protobuf.ProtobufTestBase;
+import com.fasterxml.jackson.dataformat.protobuf.schemagen.ProtobufSchemaPrecompiler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PrecompiledSchemaTest extends ProtobufTestBase
+{
+    public static class Event {
+        @JsonProperty(index = 3)
+        public String name;
+
+        @JsonProperty(index = 1)
+        public long timestamp;
+
+        @JsonProperty(index = 7)
+        public List<Tag> tags;
+
+        @JsonProperty(index = 2)
+        public Level level;
+    }
+
+    public static class Tag {
+        public String key, value;
+
+        protected Tag() { }
+        public Tag(String k, String v) {
+            key = k;
+            value = v;
+        }
+    }
+
+    public enum Level { LOW, HIGH; }
+
+    private final ProtobufMapper MAPPER = newObjectMapper();
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testPrecompileAndLoad() throws Exception
+    {
+        final File outputDir = tempDir.toFile();
+        File f = new ProtobufSchemaPrecompiler(MAPPER).precompile(Event.class, outputDir);
+        assertTrue(f.isFile());
+        assertTrue(f.getPath().replace(File.separatorChar, '/').endsWith(
+                ProtobufSchemaPrecompiler.resourceName(Event.class)));
+
+        ProtobufSchema precompiled;
+        try (URLClassLoader cl = new URLClassLoader(new URL[] { outputDir.toURI().toURL() }, null)) {
+            precompiled = ProtobufSchemaPrecompiler.findPrecompiled(Event.class, cl);
+            assertNull(ProtobufSchemaPrecompiler.findPrecompiled(Tag.class, cl));
+        }
+        assertNotNull(precompiled);
+
+        // Must match schema generated at runtime, including tags
+        ProtobufSchema generated = MAPPER.generateSchemaFor(Event.class);
+        // (note: order of dependent types may vary between generation runs)
+        assertEquals(new HashSet<>(generated.getMessageTypes()),
+                new HashSet<>(precompiled.getMessageTypes()));
+        ProtobufMessage msg = precompiled.getRootType();
+        assertEquals(1, msg.field("timestamp").id);
+        assertEquals(2, msg.field("level").id);
+        assertEquals(3, msg.field("name").id);
+        assertEquals(7, msg.field("tags").id);
+
+        Event input = new Event();
+        input.name = "start";
+        input.timestamp = 1234567890123L;
+        input.level = Level.HIGH;
+        input.tags = Arrays.asList(new Tag("a", "b"), new Tag("c", "d"));
+        byte[] doc = MAPPER.writer(generated).writeValueAsBytes(input);
+        assertArrayEquals(doc, MAPPER.writer(precompiled).writeValueAsBytes(input));
+        Event result = MAPPER.readerFor(Event.class).with(precompiled).readValue(doc);
+        assertEquals(input.name, result.name);
+        assertEquals(input.level, result.level);
+        assertEquals(2, result.tags.size());
+        assertEquals("d", result.tags.get(1).value);
+    }
+
+    // Without precompiled schema, should just generate one
+    @Test
+    public void testLoadWithoutPrecompiled() throws Exception
+    {
+        ProtobufSchema schema = MAPPER.loadSchemaFor(Event.class);
+        assertEquals(MAPPER.generateSchemaFor(Event.class).getRootType().fieldsAsString(),
+                schema.getRootType().fieldsAsString());
+    }
+}
@@ -27,6 +27,18 @@ public class SchemaParsingTest extends ProtobufTestBase
 
     final protected static String PROTOC_EMPTY = "message Empty { }";
 
+    final protected static String PROTOC_ONEOF =
+            "message Shape {\n"
+            +" optional string name = 1;\n"
+            +" oneof kind {\n"
+            +"   Point point = 3;\n"
+            +"   int32 radius = 4;\n"
+            +" }\n"
+            +" optional int32 color = 2;\n"
+            +"}\n"
+            +PROTOC_POINT
+    ;
+
     final protected static String PROTOC_STRINGS_PACKED =
             "message Strings {\n"
             +" repeated string values = 2 [packed=true]; /* comment */\n"
@@ -132,5 +144,50 @@ public class SchemaParsingTest extends ProtobufTestBase
         assertEquals(2, field.id);
         assertTrue(field.packed);
     }
-}
 
+    @Test
+    public void testOneOf() throws Exception
+    {
+        ProtobufSchema schema = ProtobufSchemaLoader.std.parse(PROTOC_ONEOF);
+        ProtobufMessage msg = schema.getRootType();
+        assertEquals(4, msg.getFieldCount());
+        _verifyMessageFieldLinking(msg);
+        assertNull(msg.field("name").getOneOf());
+        assertNull(msg.field("color").getOneOf());
+        ProtobufField f = msg.field(3);
+        assertEquals("point", f.name);
+        assertEquals("kind", f.getOneOf());
+        assertEquals(FieldType.MESSAGE, f.type);
+        f = msg.field(4);
+        assertEquals("radius", f.name);
+        assertEquals("kind", f.getOneOf());
+        assertEquals(FieldType.VINT32_STD, f.type);
+    }
+
+    @Test
+    public void testFieldLookups() throws Exception
+    {
+        // sparse ids, beyond range of direct index, and enough fields for hash lookup
+        final int[] ids = new int[] { 1, 2, 7, 400, 3000, 12345, 99999, 536870911 };
+        StringBuilder sb = new StringBuilder("message Sparse {\n");
+        for (int id : ids) {
+            sb.append(" optional int32 f").append(id).append(" = ").append(id).append(";\n");
+        }
+        sb.append("}\n");
+        ProtobufSchema schema = ProtobufSchemaLoader.std.parse(sb.toString());
+        ProtobufMessage msg = schema.getRootType();
+        assertEquals(ids.length, msg.getFieldCount());
+        _verifyMessageFieldLinking(msg);
+
+        for (int id : ids) {
+            ProtobufField f = msg.field(id);
+            assertNotNull(f);
+            assertEquals(id, f.id);
+            assertSame(f, msg.field("f"+id));
+        }
+        assertNull(msg.field(0));
+        assertNull(msg.field(3));
+        assertNull(msg.field(100000));
+        assertNull(msg.field("f3"));
+    }
+}
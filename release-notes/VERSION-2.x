@@ -14,6 +14,8 @@ Active maintainers:
 === Releases ===
 ------------------------------------------------------------------------
 
+#319: (avro) Avro file output of multiple root values (with `SequenceWriter`)
+  writes invalid content
 #571: Unable to deserialize a pojo with IonStruct
  (reported, fix contributed by Josh C)
 